@@ -6,11 +6,14 @@ import com.evoluservices.schedule_api.auth.dto.LoginResponseDto;
 import com.evoluservices.schedule_api.user.User;
 import com.evoluservices.schedule_api.user.UserRepository;
 import com.evoluservices.schedule_api.security.TokenService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,6 +26,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.util.Optional;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/auth")
 @RequiredArgsConstructor
 @Tag(name = "Autenticação", description = "Endpoints para autenticação e cadastro de usuários")
@@ -31,6 +35,7 @@ public class AuthController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final ObservationRegistry observationRegistry;
 
     @Operation(summary = "Autenticar credenciais do usuário")
     @ApiResponses({
@@ -41,7 +46,9 @@ public class AuthController {
     public ResponseEntity login(@RequestBody LoginDto dto) {
         User user = userRepository.findByEmail(dto.email()).orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
 
-        if (passwordEncoder.matches(dto.password(), user.getPassword())) {
+        boolean matches = passwordObservation("matches").observe(() -> passwordEncoder.matches(dto.password(), user.getPassword()));
+
+        if (matches) {
             String token = tokenService.generateToken(user);
             return ResponseEntity.ok(new LoginResponseDto(user.getName(), token));
         }
@@ -69,11 +76,16 @@ public class AuthController {
 
         newUser.setName(dto.name());
         newUser.setEmail(dto.email());
-        newUser.setPassword(passwordEncoder.encode(dto.password()));
+        newUser.setPassword(passwordObservation("encode").observe(() -> passwordEncoder.encode(dto.password())));
 
         userRepository.save(newUser);
 
         String token = tokenService.generateToken(newUser);
         return ResponseEntity.ok(new LoginResponseDto(newUser.getName(), token));
     }
+
+    private Observation passwordObservation(String operation) {
+        return Observation.createNotStarted("schedule.auth.password", observationRegistry)
+                .lowCardinalityKeyValue("operation", operation);
+    }
 }
@@ -0,0 +1,36 @@
+package com.evoluservices.schedule_api.cache;
+
+import com.evoluservices.schedule_api.cache.dto.ResponseCacheStatisticsDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/caches")
+@Tag(name = "Caches", description = "Estatísticas dos caches da aplicação")
+public class CacheStatisticsController {
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Operation(summary = "Listar estatísticas de cada cache")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso")
+    })
+    @GetMapping
+    public ResponseEntity<List<ResponseCacheStatisticsDto>> findAll() {
+        List<ResponseCacheStatisticsDto> caches = cacheStatisticsService.findAll();
+        return ResponseEntity.ok(caches);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.evoluservices.schedule_api.cache;
+
+import com.evoluservices.schedule_api.cache.dto.ResponseCacheStatisticsDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class CacheStatisticsService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public List<ResponseCacheStatisticsDto> findAll() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toResponseDto(region, statistics.getDomainDataRegionStatistics(region)))
+                .toList();
+    }
+
+    private ResponseCacheStatisticsDto toResponseDto(String region, CacheRegionStatistics statistics) {
+        long requests = statistics.getHitCount() + statistics.getMissCount();
+        double hitRatio = requests == 0 ? 0 : (double) statistics.getHitCount() / requests;
+
+        return new ResponseCacheStatisticsDto(
+                region,
+                statistics.getHitCount(),
+                statistics.getMissCount(),
+                statistics.getPutCount(),
+                statistics.getElementCountInMemory(),
+                hitRatio
+        );
+    }
+}
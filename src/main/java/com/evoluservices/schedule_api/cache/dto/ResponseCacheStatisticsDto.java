@@ -0,0 +1,4 @@
+package com.evoluservices.schedule_api.cache.dto;
+
+public record ResponseCacheStatisticsDto(String name, long hits, long misses, long puts, long size, double hitRatio) {
+}
@@ -0,0 +1,6 @@
+package com.evoluservices.schedule_api.change;
+
+public enum ChangeEntityType {
+    MEETING,
+    ROOM
+}
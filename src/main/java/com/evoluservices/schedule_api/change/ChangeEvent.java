@@ -0,0 +1,45 @@
+package com.evoluservices.schedule_api.change;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row written in the same transaction as the change it describes. {@code seq} comes from an
+ * identity column so rows are numbered roughly in commit order; see {@link ChangeFeed} for how
+ * gaps left by in-flight transactions are handled.
+ */
+@Entity
+@Table(name = "change_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private ChangeEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ChangeOperation operation;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,35 @@
+package com.evoluservices.schedule_api.change;
+
+import com.evoluservices.schedule_api.change.dto.ResponseChangeDto;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.change.dto.ResponseChangeDto(
+                c.seq, c.entityType, c.entityId, c.operation, c.payload, c.createdAt)
+            FROM ChangeEvent c
+            WHERE c.seq > :since AND c.seq <= :upTo
+            ORDER BY c.seq
+            """)
+    List<ResponseChangeDto> findResponsesBetween(@Param("since") long since, @Param("upTo") long upTo, Limit limit);
+
+    @Query("SELECT c.seq FROM ChangeEvent c WHERE c.seq > :after ORDER BY c.seq")
+    List<Long> findSeqsAfter(@Param("after") long after, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(c.seq), 0) FROM ChangeEvent c")
+    long findMaxSeq();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ChangeEvent c WHERE c.createdAt < :before AND c.seq <= :upTo")
+    int deleteOlderThan(@Param("before") LocalDateTime before, @Param("upTo") long upTo);
+}
@@ -0,0 +1,217 @@
+package com.evoluservices.schedule_api.change;
+
+import com.evoluservices.schedule_api.change.dto.ResponseChangeDto;
+import com.evoluservices.schedule_api.change.dto.ResponseChangeFeedDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relays the outbox into the {@code /changes} feed. A single relay thread reads outbox sequence
+ * numbers in batches and advances the high-water mark over every contiguous run of committed rows.
+ * A missing number usually belongs to a transaction that has not committed yet, so the relay stops
+ * there and only skips it after {@code schedule.changes.gap-timeout}. Readers only ever see rows up
+ * to the high-water mark, which keeps the feed free of holes that fill in later.
+ * <p>
+ * The relay runs right after local commits and every {@code schedule.changes.poll-interval} to pick
+ * up changes written by other instances. Long-poll readers wait in memory and are answered as soon
+ * as the mark moves past their position. Rows older than {@code schedule.changes.retention} are
+ * purged hourly.
+ */
+@Component
+public class ChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeed.class);
+
+    private final ChangeEventRepository changeEventRepository;
+    private final int batchSize;
+    private final long gapTimeoutNanos;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final ScheduledExecutorService relay = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("change-feed-relay").daemon().factory());
+    private final AtomicLong highWaterMark = new AtomicLong();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final Queue<PendingRead> pendingReads = new ConcurrentLinkedQueue<>();
+
+    private long gapSeq = -1;
+    private long gapSince;
+
+    public ChangeFeed(
+            ChangeEventRepository changeEventRepository,
+            @Value("${schedule.changes.relay-batch-size:1000}") int batchSize,
+            @Value("${schedule.changes.gap-timeout:10s}") Duration gapTimeout,
+            @Value("${schedule.changes.poll-interval:1s}") Duration pollInterval,
+            @Value("${schedule.changes.retention:7d}") Duration retention) {
+        this.changeEventRepository = changeEventRepository;
+        this.batchSize = batchSize;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+    }
+
+    /**
+     * Starts after the schema is in place. Rows that already exist are considered relayed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        relay.execute(() -> highWaterMark.set(changeEventRepository.findMaxSeq()));
+        relay.scheduleWithFixedDelay(this::relay, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        relay.scheduleWithFixedDelay(this::purge, 1, 1, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        relay.shutdownNow();
+    }
+
+    public long highWaterMark() {
+        return highWaterMark.get();
+    }
+
+    /**
+     * Schedules a relay pass; calls made while one is already pending are coalesced.
+     */
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            relay.execute(() -> {
+                wakeUpPending.set(false);
+                relay();
+            });
+        }
+    }
+
+    /**
+     * Changes after {@code since}, answered immediately when there are any or {@code wait} is zero,
+     * otherwise once new changes are relayed or with an empty page when {@code wait} expires.
+     */
+    public DeferredResult<ResponseChangeFeedDto> read(long since, int limit, Duration wait) {
+        DeferredResult<ResponseChangeFeedDto> result = new DeferredResult<>(wait.toMillis());
+
+        if (wait.isZero() || highWaterMark.get() > since) {
+            result.setResult(page(since, limit));
+            return result;
+        }
+
+        PendingRead pending = new PendingRead(since, limit, result);
+        pendingReads.add(pending);
+        result.onTimeout(() -> result.setResult(new ResponseChangeFeedDto(List.of(), since)));
+        result.onCompletion(() -> pendingReads.remove(pending));
+
+        if (highWaterMark.get() > since) {
+            answer(pending);
+        }
+
+        return result;
+    }
+
+    private ResponseChangeFeedDto page(long since, int limit) {
+        long upTo = highWaterMark.get();
+        if (upTo <= since) {
+            return new ResponseChangeFeedDto(List.of(), since);
+        }
+
+        List<ResponseChangeDto> changes = changeEventRepository.findResponsesBetween(since, upTo, Limit.of(limit));
+        long mark = changes.size() == limit ? changes.getLast().seq() : upTo;
+
+        return new ResponseChangeFeedDto(changes, mark);
+    }
+
+    private void relay() {
+        try {
+            long relayed = highWaterMark.get();
+            List<Long> seqs;
+
+            do {
+                seqs = changeEventRepository.findSeqsAfter(relayed, Limit.of(batchSize));
+                long next = advance(relayed, seqs);
+
+                if (next == relayed) {
+                    break;
+                }
+
+                relayed = next;
+                highWaterMark.set(relayed);
+            } while (seqs.size() == batchSize);
+
+            answerPendingReads();
+        } catch (RuntimeException exception) {
+            log.warn("Falha ao repassar o outbox de alterações", exception);
+        }
+    }
+
+    private long advance(long relayed, List<Long> seqs) {
+        long next = relayed;
+
+        for (Long seq : seqs) {
+            if (seq != next + 1 && !gapExpired(next + 1)) {
+                break;
+            }
+            next = seq;
+        }
+
+        return next;
+    }
+
+    private boolean gapExpired(long missingSeq) {
+        if (gapSeq != missingSeq) {
+            gapSeq = missingSeq;
+            gapSince = System.nanoTime();
+            return false;
+        }
+
+        if (System.nanoTime() - gapSince < gapTimeoutNanos) {
+            return false;
+        }
+
+        log.warn("Sequência {} do outbox não confirmada após o tempo limite; seguindo adiante", missingSeq);
+        return true;
+    }
+
+    private void answerPendingReads() {
+        long upTo = highWaterMark.get();
+
+        for (PendingRead pending : pendingReads) {
+            if (upTo > pending.since()) {
+                answer(pending);
+            }
+        }
+    }
+
+    private void answer(PendingRead pending) {
+        if (pendingReads.remove(pending) && !pending.result().isSetOrExpired()) {
+            pending.result().setResult(page(pending.since(), pending.limit()));
+        }
+    }
+
+    private void purge() {
+        try {
+            int purged = changeEventRepository.deleteOlderThan(LocalDateTime.now().minus(retention), highWaterMark.get());
+            if (purged > 0) {
+                log.info("{} registros de alteração removidos do outbox", purged);
+            }
+        } catch (RuntimeException exception) {
+            log.warn("Falha ao limpar o outbox de alterações", exception);
+        }
+    }
+
+    private record PendingRead(long since, int limit, DeferredResult<ResponseChangeFeedDto> result) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.evoluservices.schedule_api.change;
+
+import com.evoluservices.schedule_api.change.dto.ResponseChangeFeedDto;
+import com.evoluservices.schedule_api.meeting.MeetingCursor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/changes")
+@Tag(name = "Alterações", description = "Feed de alterações de reuniões e salas")
+public class ChangeFeedController {
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Value("${schedule.pagination.max-limit:1000}")
+    private int maxPageLimit;
+
+    @Value("${schedule.changes.max-wait:60s}")
+    private Duration maxWait;
+
+    @Operation(summary = "Ler alterações a partir de uma posição", description = "Retorna, em ordem, as alterações com `seq` maior que `since`. Sem alterações novas, aguarda até `wait` segundos antes de responder. Envie o `highWaterMark` da resposta como `since` na próxima chamada")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Posição, limite ou tempo de espera inválidos")
+    })
+    @GetMapping
+    public DeferredResult<ResponseChangeFeedDto> changes(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "25") int wait
+    ) {
+        if (since < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A posição inicial não pode ser negativa");
+        }
+
+        if (wait < 0 || wait > maxWait.toSeconds()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O tempo de espera deve estar entre 0 e " + maxWait.toSeconds() + " segundos");
+        }
+
+        MeetingCursor.validateLimit(limit, maxPageLimit);
+
+        return changeFeed.read(since, limit, Duration.ofSeconds(wait));
+    }
+}
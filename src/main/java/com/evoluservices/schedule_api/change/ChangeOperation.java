@@ -0,0 +1,7 @@
+package com.evoluservices.schedule_api.change;
+
+public enum ChangeOperation {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,83 @@
+package com.evoluservices.schedule_api.change;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes {@link ChangeEvent} rows inside the caller's transaction, so a change and its outbox row
+ * commit or roll back together. Each change costs exactly one plain INSERT (batched for bulk
+ * writes); the JSON payload is the same DTO the API returns for the entity. {@link ChangeFeed} is
+ * woken up once the transaction commits.
+ */
+@Component
+public class ChangeOutbox {
+
+    private static final String INSERT = """
+            INSERT INTO change_outbox (entity_type, entity_id, operation, payload, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    public void record(ChangeEntityType entityType, Long entityId, ChangeOperation operation, Object payload) {
+        requireTransaction();
+
+        jdbcTemplate.update(INSERT, entityType.name(), entityId, operation.name(), toJson(payload), Timestamp.valueOf(LocalDateTime.now()));
+        wakeUpFeedAfterCommit();
+    }
+
+    public <T> void recordAll(ChangeEntityType entityType, ChangeOperation operation, List<T> payloads, Function<T, Long> entityId) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        requireTransaction();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = payloads.stream()
+                .map(payload -> new Object[]{entityType.name(), entityId.apply(payload), operation.name(), toJson(payload), now})
+                .toList();
+
+        jdbcTemplate.batchUpdate(INSERT, rows);
+        wakeUpFeedAfterCommit();
+    }
+
+    private void requireTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Registros de alteração devem ser gravados na transação da alteração");
+        }
+    }
+
+    private void wakeUpFeedAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                changeFeed.wakeUp();
+            }
+        });
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Falha ao serializar registro de alteração", exception);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.evoluservices.schedule_api.change.dto;
+
+import com.evoluservices.schedule_api.change.ChangeEntityType;
+import com.evoluservices.schedule_api.change.ChangeOperation;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+public record ResponseChangeDto(Long seq, ChangeEntityType entityType, Long entityId, ChangeOperation operation,
+                                @JsonRawValue String payload, LocalDateTime createdAt) {
+}
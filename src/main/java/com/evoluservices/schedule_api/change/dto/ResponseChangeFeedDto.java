@@ -0,0 +1,6 @@
+package com.evoluservices.schedule_api.change.dto;
+
+import java.util.List;
+
+public record ResponseChangeFeedDto(List<ResponseChangeDto> changes, long highWaterMark) {
+}
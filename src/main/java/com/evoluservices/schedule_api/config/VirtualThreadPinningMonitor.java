@@ -0,0 +1,84 @@
+package com.evoluservices.schedule_api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event while the application runs on virtual
+ * threads. A virtual thread that blocks inside a {@code synchronized} block (or a native frame)
+ * keeps its carrier thread busy, which silently brings back the platform-thread limit; each
+ * occurrence longer than the threshold is logged with its stack trace and counted in
+ * {@code jvm.threads.virtual.pinned}.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "schedule.virtual-threads.pinning-diagnostics", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 20;
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private RecordingStream recording;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${schedule.virtual-threads.pinning-threshold:20ms}") Duration threshold,
+            MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier for longer than the configured threshold")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::report);
+        recording.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        recording.close();
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedCounter.increment();
+        log.warn("Virtual thread pinned to its carrier for {} ms{}", event.getDuration().toMillis(), format(event.getStackTrace()));
+    }
+
+    private String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+
+        StringBuilder frames = new StringBuilder();
+        stackTrace.getFrames().stream()
+                .limit(MAX_FRAMES)
+                .forEach(frame -> frames.append("\n\tat ").append(describe(frame)));
+        return frames.toString();
+    }
+
+    private String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
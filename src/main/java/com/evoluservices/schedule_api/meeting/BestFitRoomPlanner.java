@@ -0,0 +1,135 @@
+package com.evoluservices.schedule_api.meeting;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Picks a room and start time for a meeting of {@code duration} seconds inside {@code [from, to)}
+ * given the busy intervals of the candidate rooms and of the user (epoch seconds).
+ * <p>
+ * Best fit: every free gap of a room inside the window that can hold the meeting is a candidate,
+ * and the gap with the least time left over wins, so short gaps get filled and long ones stay
+ * whole for longer meetings. Inside a gap the meeting is placed against one of its edges when the
+ * user allows it, so at most one smaller gap remains. Ties go to the fewest new gaps, then to the
+ * earlier room in candidate order, then to the earlier start.
+ */
+final class BestFitRoomPlanner {
+
+    private final long from;
+    private final long to;
+    private final long duration;
+    private final Map<Long, List<long[]>> roomBusy = new HashMap<>();
+    private final List<long[]> userBusy = new ArrayList<>();
+
+    BestFitRoomPlanner(long from, long to, long duration) {
+        this.from = from;
+        this.to = to;
+        this.duration = duration;
+    }
+
+    void addRoomBusy(Long roomId, long start, long end) {
+        roomBusy.computeIfAbsent(roomId, id -> new ArrayList<>()).add(new long[]{start, end});
+    }
+
+    void addUserBusy(long start, long end) {
+        userBusy.add(new long[]{start, end});
+    }
+
+    /**
+     * Best placement among {@code roomIds}, in preference order, or {@code null} when none fits.
+     */
+    Placement plan(Collection<Long> roomIds) {
+        List<long[]> userFree = free(userBusy);
+        Placement best = null;
+        int rank = 0;
+
+        for (Long roomId : roomIds) {
+            for (long[] gap : free(roomBusy.getOrDefault(roomId, List.of()))) {
+                if (gap[1] - gap[0] < duration) {
+                    continue;
+                }
+
+                Placement placement = placeInGap(roomId, rank, gap, userFree);
+
+                if (placement != null && (best == null || placement.isBetterThan(best))) {
+                    best = placement;
+                }
+            }
+            rank++;
+        }
+
+        return best;
+    }
+
+    private Placement placeInGap(Long roomId, int rank, long[] gap, List<long[]> userFree) {
+        Placement best = null;
+
+        for (long[] free : userFree) {
+            long start = Math.max(gap[0], free[0]);
+            long end = Math.min(gap[1], free[1]);
+
+            if (end - start < duration) {
+                continue;
+            }
+
+            // against the left or the right edge of the overlap, whichever leaves fewer pieces of the gap
+            for (long candidate : new long[]{start, end - duration}) {
+                int fragments = (candidate > gap[0] ? 1 : 0) + (candidate + duration < gap[1] ? 1 : 0);
+                Placement placement = new Placement(roomId, candidate, gap[1] - gap[0] - duration, fragments, rank);
+
+                if (best == null || placement.isBetterThan(best)) {
+                    best = placement;
+                }
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Complement of {@code busy} inside {@code [from, to)}, in start order.
+     */
+    private List<long[]> free(List<long[]> busy) {
+        List<long[]> sorted = new ArrayList<>(busy);
+        sorted.sort((a, b) -> Long.compare(a[0], b[0]));
+
+        List<long[]> gaps = new ArrayList<>();
+        long cursor = from;
+
+        for (long[] interval : sorted) {
+            if (interval[0] > cursor) {
+                gaps.add(new long[]{cursor, Math.min(interval[0], to)});
+            }
+            cursor = Math.max(cursor, interval[1]);
+
+            if (cursor >= to) {
+                return gaps;
+            }
+        }
+
+        gaps.add(new long[]{cursor, to});
+        return gaps;
+    }
+
+    record Placement(Long roomId, long start, long leftover, int fragments, int rank) {
+
+        boolean isBetterThan(Placement other) {
+            if (leftover != other.leftover) {
+                return leftover < other.leftover;
+            }
+
+            if (fragments != other.fragments) {
+                return fragments < other.fragments;
+            }
+
+            if (rank != other.rank) {
+                return rank < other.rank;
+            }
+
+            return start < other.start;
+        }
+    }
+}
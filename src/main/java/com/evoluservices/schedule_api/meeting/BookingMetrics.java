@@ -0,0 +1,82 @@
+package com.evoluservices.schedule_api.meeting;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Booking attempts and conflicts per room ({@code schedule.booking.attempts} and
+ * {@code schedule.booking.conflicts}, tagged by {@code room}); their ratio is the room's conflict
+ * rate. Counters are created once per room and reused, for at most
+ * {@code schedule.metrics.max-room-tags} rooms: bookings in rooms past that limit are not counted,
+ * just as the registry would deny their meters.
+ */
+@Component
+public class BookingMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxRooms;
+    private final Map<Long, RoomCounters> counters = new ConcurrentHashMap<>();
+
+    public BookingMetrics(MeterRegistry meterRegistry, @Value("${schedule.metrics.max-room-tags:1000}") int maxRooms) {
+        this.meterRegistry = meterRegistry;
+        this.maxRooms = maxRooms;
+    }
+
+    public <T> T record(Long roomId, Supplier<T> booking) {
+        RoomCounters room = counters(roomId);
+
+        if (room == null) {
+            return booking.get();
+        }
+
+        room.attempts().increment();
+
+        try {
+            return booking.get();
+        } catch (ResponseStatusException exception) {
+            if (exception.getStatusCode() == HttpStatus.CONFLICT) {
+                room.conflicts().increment();
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * The size check races with other first bookings, so the map may pass the limit by a few rooms,
+     * but it stops growing.
+     */
+    private RoomCounters counters(Long roomId) {
+        RoomCounters room = counters.get(roomId);
+
+        if (room != null || counters.size() >= maxRooms) {
+            return room;
+        }
+
+        return counters.computeIfAbsent(roomId, this::register);
+    }
+
+    private RoomCounters register(Long roomId) {
+        String room = String.valueOf(roomId);
+
+        return new RoomCounters(
+                Counter.builder("schedule.booking.attempts")
+                        .description("Tentativas de agendamento por sala")
+                        .tag("room", room)
+                        .register(meterRegistry),
+                Counter.builder("schedule.booking.conflicts")
+                        .description("Agendamentos recusados por conflito de horário, por sala")
+                        .tag("room", room)
+                        .register(meterRegistry));
+    }
+
+    private record RoomCounters(Counter attempts, Counter conflicts) {
+    }
+}
@@ -0,0 +1,208 @@
+package com.evoluservices.schedule_api.meeting;
+
+/**
+ * Occupancy of one room or user as a bitmap of 5-minute slots: 288 slots per day packed in
+ * {@value #WORDS_PER_DAY} longs, over a contiguous range of at most {@value #MAX_DAYS} days. A bit
+ * is set when any meeting touches the slot, so a period whose slots are all clear is free without
+ * looking at the intervals, and when every interval and the period fall on slot boundaries a set
+ * bit proves the overlap. Everything else is {@link Answer#UNKNOWN} and left to the exact
+ * {@link IntervalTimeline}.
+ * <p>
+ * When a meeting falls after the last day of a full range, the range moves forward and the oldest
+ * days are dropped; slots before the first day are then unknown rather than free. Like
+ * {@link IntervalTimeline}, instances are immutable and mutations copy the words.
+ */
+final class DayOccupancy {
+
+    enum Answer { FREE, BUSY, UNKNOWN }
+
+    static final int SLOT_SECONDS = 300;
+    static final int SLOTS_PER_DAY = 288;
+    static final int WORDS_PER_DAY = 5;
+    static final int MAX_DAYS = 731;
+
+    static final DayOccupancy EMPTY = new DayOccupancy(0, new long[0], true, false);
+
+    private static final int TEST = 0;
+    private static final int SET = 1;
+    private static final int CLEAR = 2;
+
+    private final long firstDay;
+    private final long[] words;
+    private final boolean aligned;
+    private final boolean truncated;
+
+    private DayOccupancy(long firstDay, long[] words, boolean aligned, boolean truncated) {
+        this.firstDay = firstDay;
+        this.words = words;
+        this.aligned = aligned;
+        this.truncated = truncated;
+    }
+
+    /**
+     * Builds the bitmap of every interval in {@code timeline} at once, for bulk loads.
+     */
+    static DayOccupancy of(IntervalTimeline timeline) {
+        if (timeline.size() == 0) {
+            return EMPTY;
+        }
+
+        long[] bounds = {Long.MAX_VALUE, Long.MIN_VALUE, 1};
+        timeline.forEachOverlapping(Long.MIN_VALUE, Long.MAX_VALUE, (start, end) -> {
+            bounds[0] = Math.min(bounds[0], firstSlot(start));
+            bounds[1] = Math.max(bounds[1], endSlot(end));
+            bounds[2] &= isAligned(start, end) ? 1 : 0;
+        });
+
+        long lastDay = Math.floorDiv(bounds[1] - 1, SLOTS_PER_DAY);
+        long firstDay = Math.max(Math.floorDiv(bounds[0], SLOTS_PER_DAY), lastDay - MAX_DAYS + 1);
+        long[] words = new long[(int) (lastDay - firstDay + 1) * WORDS_PER_DAY];
+
+        timeline.forEachOverlapping(Long.MIN_VALUE, Long.MAX_VALUE,
+                (start, end) -> apply(words, firstDay, firstSlot(start), endSlot(end), SET));
+
+        return new DayOccupancy(firstDay, words, bounds[2] == 1, firstDay * SLOTS_PER_DAY > bounds[0]);
+    }
+
+    /**
+     * Whether {@code [start, end)} (epoch seconds) overlaps a busy slot.
+     */
+    Answer test(long start, long end) {
+        long from = firstSlot(start);
+
+        if (truncated && from < firstDay * SLOTS_PER_DAY) {
+            return Answer.UNKNOWN;
+        }
+
+        if (!apply(words, firstDay, from, endSlot(end), TEST)) {
+            return Answer.FREE;
+        }
+
+        return aligned && isAligned(start, end) ? Answer.BUSY : Answer.UNKNOWN;
+    }
+
+    DayOccupancy with(long start, long end) {
+        long from = firstSlot(start);
+        long to = endSlot(end);
+        long startDay = Math.floorDiv(from, SLOTS_PER_DAY);
+        long endDay = Math.floorDiv(to - 1, SLOTS_PER_DAY);
+
+        long first = words.length == 0 ? startDay : Math.min(firstDay, startDay);
+        long last = words.length == 0 ? endDay : Math.max(lastDay(), endDay);
+        boolean dropped = truncated;
+
+        if (last - first + 1 > MAX_DAYS) {
+            first = last - MAX_DAYS + 1;
+            dropped = true;
+        }
+
+        long[] newWords = new long[(int) (last - first + 1) * WORDS_PER_DAY];
+
+        if (words.length > 0) {
+            long copyFrom = Math.max(first, firstDay);
+            long copyTo = Math.min(last, lastDay());
+
+            if (copyFrom <= copyTo) {
+                System.arraycopy(words, (int) (copyFrom - firstDay) * WORDS_PER_DAY,
+                        newWords, (int) (copyFrom - first) * WORDS_PER_DAY,
+                        (int) (copyTo - copyFrom + 1) * WORDS_PER_DAY);
+            }
+        }
+
+        apply(newWords, first, from, to, SET);
+
+        return new DayOccupancy(first, newWords, aligned && isAligned(start, end), dropped);
+    }
+
+    /**
+     * Clears the slots of the removed interval {@code [start, end)} and sets again the ones still
+     * touched by the intervals left in {@code remaining}.
+     */
+    DayOccupancy without(long start, long end, IntervalTimeline remaining) {
+        if (words.length == 0) {
+            return this;
+        }
+
+        long from = firstSlot(start);
+        long to = endSlot(end);
+        long[] newWords = words.clone();
+
+        apply(newWords, firstDay, from, to, CLEAR);
+        remaining.forEachOverlapping(from * SLOT_SECONDS, to * SLOT_SECONDS,
+                (otherStart, otherEnd) -> apply(newWords, firstDay, firstSlot(otherStart), endSlot(otherEnd), SET));
+
+        return new DayOccupancy(firstDay, newWords, aligned, truncated);
+    }
+
+    /**
+     * Days covered by the bitmap, busy or not.
+     */
+    int days() {
+        return words.length / WORDS_PER_DAY;
+    }
+
+    /**
+     * Estimated heap footprint: the object, the array header and its words (64-bit JVM with
+     * compressed references).
+     */
+    long sizeInBytes() {
+        return 32 + 16 + 8L * words.length;
+    }
+
+    private long lastDay() {
+        return firstDay + days() - 1;
+    }
+
+    private static long firstSlot(long start) {
+        return Math.floorDiv(start, SLOT_SECONDS);
+    }
+
+    private static long endSlot(long end) {
+        return Math.floorDiv(end - 1, SLOT_SECONDS) + 1;
+    }
+
+    private static boolean isAligned(long start, long end) {
+        return Math.floorMod(start, SLOT_SECONDS) == 0 && Math.floorMod(end, SLOT_SECONDS) == 0;
+    }
+
+    /**
+     * Tests, sets or clears the slots {@code [from, to)} that fall inside the days covered by
+     * {@code words}, a day at a time. Returns whether any tested slot was set.
+     */
+    private static boolean apply(long[] words, long firstDay, long from, long to, int operation) {
+        long lastDay = firstDay + words.length / WORDS_PER_DAY - 1;
+        long fromDay = Math.max(Math.floorDiv(from, SLOTS_PER_DAY), firstDay);
+        long toDay = Math.min(Math.floorDiv(to - 1, SLOTS_PER_DAY), lastDay);
+
+        for (long day = fromDay; day <= toDay; day++) {
+            long dayStart = day * SLOTS_PER_DAY;
+            int first = (int) Math.max(from - dayStart, 0);
+            int end = (int) Math.min(to - dayStart, SLOTS_PER_DAY);
+            int base = (int) (day - firstDay) * WORDS_PER_DAY;
+
+            for (int word = first >>> 6; word <= (end - 1) >>> 6; word++) {
+                long mask = mask(word, first, end);
+
+                switch (operation) {
+                    case TEST -> {
+                        if ((words[base + word] & mask) != 0) {
+                            return true;
+                        }
+                    }
+                    case SET -> words[base + word] |= mask;
+                    default -> words[base + word] &= ~mask;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static long mask(int word, int first, int end) {
+        int low = Math.max(first - (word << 6), 0);
+        int high = Math.min(end - (word << 6), 64);
+        long upper = high == 64 ? -1L : (1L << high) - 1;
+
+        return upper & (-1L << low);
+    }
+}
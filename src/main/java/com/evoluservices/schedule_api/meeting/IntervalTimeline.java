@@ -0,0 +1,212 @@
+package com.evoluservices.schedule_api.meeting;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of half-open intervals {@code [start, end)} sorted by start, with a running
+ * maximum of the end values so overlap lookups are a binary search plus a short backward scan.
+ * Mutations return a new instance, which lets readers use it without locking.
+ */
+final class IntervalTimeline {
+
+    static final IntervalTimeline EMPTY = new IntervalTimeline(new long[0], new long[0], new long[0], new long[0]);
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] ids;
+    private final long[] maxEnds;
+
+    private IntervalTimeline(long[] starts, long[] ends, long[] ids, long[] maxEnds) {
+        this.starts = starts;
+        this.ends = ends;
+        this.ids = ids;
+        this.maxEnds = maxEnds;
+    }
+
+    /**
+     * Builds a timeline from unsorted parallel arrays in {@code O(n log n)}, for bulk loads.
+     */
+    static IntervalTimeline of(long[] ids, long[] starts, long[] ends) {
+        int n = ids.length;
+        Integer[] order = new Integer[n];
+
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (a, b) -> starts[a] != starts[b] ? Long.compare(starts[a], starts[b]) : Long.compare(ids[a], ids[b]));
+
+        long[] sortedStarts = new long[n];
+        long[] sortedEnds = new long[n];
+        long[] sortedIds = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            sortedStarts[i] = starts[order[i]];
+            sortedEnds[i] = ends[order[i]];
+            sortedIds[i] = ids[order[i]];
+        }
+
+        long[] maxEnds = new long[n];
+        recomputeMaxEnds(sortedEnds, maxEnds, 0);
+
+        return new IntervalTimeline(sortedStarts, sortedEnds, sortedIds, maxEnds);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    boolean overlaps(long start, long end, long excludedId) {
+        int i = lastStartBefore(end);
+
+        while (i >= 0 && maxEnds[i] > start) {
+            if (ends[i] > start && ids[i] != excludedId) {
+                return true;
+            }
+            i--;
+        }
+
+        return false;
+    }
+
+    /**
+     * Calls {@code action} for every interval intersecting {@code [start, end)}, in start order. The
+     * first candidate is found by binary search over the running maximum of the ends.
+     */
+    void forEachOverlapping(long start, long end, IntervalConsumer action) {
+        int low = 0;
+        int high = maxEnds.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (maxEnds[mid] <= start) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        for (int i = low; i < starts.length && starts[i] < end; i++) {
+            if (ends[i] > start) {
+                action.accept(starts[i], ends[i]);
+            }
+        }
+    }
+
+    IntervalTimeline with(long id, long start, long end) {
+        int n = ids.length;
+        int at = insertionPoint(start, id);
+
+        long[] newStarts = new long[n + 1];
+        long[] newEnds = new long[n + 1];
+        long[] newIds = new long[n + 1];
+
+        System.arraycopy(starts, 0, newStarts, 0, at);
+        System.arraycopy(ends, 0, newEnds, 0, at);
+        System.arraycopy(ids, 0, newIds, 0, at);
+
+        newStarts[at] = start;
+        newEnds[at] = end;
+        newIds[at] = id;
+
+        System.arraycopy(starts, at, newStarts, at + 1, n - at);
+        System.arraycopy(ends, at, newEnds, at + 1, n - at);
+        System.arraycopy(ids, at, newIds, at + 1, n - at);
+
+        long[] newMaxEnds = Arrays.copyOf(maxEnds, n + 1);
+        recomputeMaxEnds(newEnds, newMaxEnds, at);
+
+        return new IntervalTimeline(newStarts, newEnds, newIds, newMaxEnds);
+    }
+
+    IntervalTimeline without(long id, long start) {
+        int at = indexOf(id, start);
+
+        if (at < 0) {
+            return this;
+        }
+
+        int n = ids.length;
+
+        if (n == 1) {
+            return EMPTY;
+        }
+
+        long[] newStarts = new long[n - 1];
+        long[] newEnds = new long[n - 1];
+        long[] newIds = new long[n - 1];
+
+        System.arraycopy(starts, 0, newStarts, 0, at);
+        System.arraycopy(ends, 0, newEnds, 0, at);
+        System.arraycopy(ids, 0, newIds, 0, at);
+
+        System.arraycopy(starts, at + 1, newStarts, at, n - at - 1);
+        System.arraycopy(ends, at + 1, newEnds, at, n - at - 1);
+        System.arraycopy(ids, at + 1, newIds, at, n - at - 1);
+
+        long[] newMaxEnds = Arrays.copyOf(maxEnds, n - 1);
+        recomputeMaxEnds(newEnds, newMaxEnds, at);
+
+        return new IntervalTimeline(newStarts, newEnds, newIds, newMaxEnds);
+    }
+
+    @FunctionalInterface
+    interface IntervalConsumer {
+
+        void accept(long start, long end);
+    }
+
+    private static void recomputeMaxEnds(long[] ends, long[] maxEnds, int from) {
+        long max = from > 0 ? maxEnds[from - 1] : Long.MIN_VALUE;
+
+        for (int i = from; i < ends.length; i++) {
+            max = Math.max(max, ends[i]);
+            maxEnds[i] = max;
+        }
+    }
+
+    private int lastStartBefore(long value) {
+        int low = 0;
+        int high = starts.length - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+
+            if (starts[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return high;
+    }
+
+    private int insertionPoint(long start, long id) {
+        int low = 0;
+        int high = starts.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (starts[mid] < start || (starts[mid] == start && ids[mid] < id)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private int indexOf(long id, long start) {
+        for (int i = insertionPoint(start, Long.MIN_VALUE); i < starts.length && starts[i] == start; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -9,10 +9,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
+@EntityListeners(MeetingScheduleIndexListener.class)
 @Table(name = "meetings")
 @Getter
 @Setter
@@ -21,7 +23,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class Meeting {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meetings_id_seq")
+    @SequenceGenerator(name = "meetings_id_seq", sequenceName = "meetings_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "starts_at", nullable = false)
@@ -30,11 +33,11 @@ public class Meeting {
     @Column(name = "ends_at", nullable = false)
     private LocalDateTime endsAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id")
     private Room room;
 
@@ -46,4 +49,9 @@ public class Meeting {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
 }
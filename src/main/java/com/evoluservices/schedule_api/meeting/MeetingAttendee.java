@@ -0,0 +1,119 @@
+package com.evoluservices.schedule_api.meeting;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import com.evoluservices.schedule_api.user.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * A user invited to a meeting besides its organizer ({@link Meeting#getUser()}). The meeting's
+ * time is copied into the row so conflict checks and the per-user listing run on the
+ * {@code (user_id, starts_at)} index alone; {@link MeetingService} keeps it in step on updates.
+ * The key is assigned, so {@link Persistable} tells Spring Data a new row apart from a loaded one
+ * and saving hundreds of invitees stays a batch of inserts instead of a select per row.
+ */
+@Entity
+@EntityListeners(MeetingScheduleIndexListener.class)
+@Table(name = "meeting_attendees")
+@IdClass(MeetingAttendee.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+public class MeetingAttendee implements Persistable<MeetingAttendee.Key> {
+
+    @Id
+    @Column(name = "meeting_id")
+    private Long meetingId;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "starts_at", nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at", nullable = false)
+    private LocalDateTime endsAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "meeting_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Meeting meeting;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public MeetingAttendee(Meeting meeting, Long userId) {
+        this.meetingId = meeting.getId();
+        this.userId = userId;
+        this.startsAt = meeting.getStartsAt();
+        this.endsAt = meeting.getEndsAt();
+    }
+
+    /**
+     * Distinct invitees of {@code attendeeIds} in request order, without nulls and without the
+     * organizer, who is already a participant through the meeting itself.
+     */
+    public static List<Long> invitees(Long organizerId, Collection<Long> attendeeIds) {
+        if (attendeeIds == null || attendeeIds.isEmpty()) {
+            return List.of();
+        }
+
+        LinkedHashSet<Long> invitees = new LinkedHashSet<>();
+
+        for (Long attendeeId : attendeeIds) {
+            if (attendeeId != null && !attendeeId.equals(organizerId)) {
+                invitees.add(attendeeId);
+            }
+        }
+
+        return new ArrayList<>(invitees);
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(meetingId, userId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private Long meetingId;
+        private Long userId;
+    }
+}
@@ -0,0 +1,55 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface MeetingAttendeeRepository extends JpaRepository<MeetingAttendee, MeetingAttendee.Key> {
+
+    List<MeetingAttendee> findByMeetingId(Long meetingId);
+
+    @Query("SELECT a.userId FROM MeetingAttendee a WHERE a.meetingId = :meetingId ORDER BY a.userId")
+    List<Long> findUserIdsByMeetingId(@Param("meetingId") Long meetingId);
+
+    @Query("SELECT a.meetingId, a.userId FROM MeetingAttendee a")
+    Stream<Object[]> streamAllIds();
+
+    @Modifying
+    @Query("UPDATE MeetingAttendee a SET a.startsAt = :startsAt, a.endsAt = :endsAt WHERE a.meetingId = :meetingId")
+    int updateTimes(
+            @Param("meetingId") Long meetingId,
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("endsAt") LocalDateTime endsAt
+    );
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto(m.id, m.startsAt, m.endsAt, m.user.id, m.room.id, m.createdAt, m.updatedAt, m.version)
+            FROM MeetingAttendee a
+            JOIN a.meeting m
+            WHERE a.userId = :userId
+            ORDER BY a.startsAt, a.meetingId
+            """)
+    List<ResponseMeetingDto> findFirstResponsesByAttendee(@Param("userId") Long userId, Limit limit);
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto(m.id, m.startsAt, m.endsAt, m.user.id, m.room.id, m.createdAt, m.updatedAt, m.version)
+            FROM MeetingAttendee a
+            JOIN a.meeting m
+            WHERE a.userId = :userId
+              AND (a.startsAt, a.meetingId) > (:startsAt, :id)
+            ORDER BY a.startsAt, a.meetingId
+            """)
+    List<ResponseMeetingDto> findResponsesByAttendeeAfter(
+            @Param("userId") Long userId,
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+}
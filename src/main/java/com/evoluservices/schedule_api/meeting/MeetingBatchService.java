@@ -0,0 +1,369 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.change.ChangeEntityType;
+import com.evoluservices.schedule_api.change.ChangeOperation;
+import com.evoluservices.schedule_api.change.ChangeOutbox;
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingBatchDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingBatchItemDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomEventBroadcaster;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.room.RoomScheduleVersions;
+import com.evoluservices.schedule_api.room.RoomUtilizationRollup;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates many meetings in one call. Rooms, users and existing meetings are loaded with one query
+ * per set instead of one per item, items are validated against each other in memory, and the
+ * accepted ones are inserted with JDBC batching. Every item gets its own status so a single
+ * invalid meeting does not reject the whole import. Invitees ({@code attendeeIds}) are checked
+ * and locked like organizers.
+ */
+@Service
+public class MeetingBatchService {
+
+    private static final NavigableMap<Long, Long> EMPTY_ACCEPTED = Collections.emptyNavigableMap();
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final List<String> OVERLAP_CONSTRAINTS = List.of(
+            "meetings_room_no_overlap", "meetings_user_no_overlap", "meeting_attendees_user_no_overlap");
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingAttendeeRepository meetingAttendeeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private MeetingBookingLocks bookingLocks;
+
+    @Autowired
+    private RoomUtilizationRollup utilizationRollup;
+
+    @Autowired
+    private MeetingSeriesService meetingSeriesService;
+
+    @Autowired
+    private RoomEventBroadcaster roomEvents;
+
+    @Autowired
+    private RoomScheduleVersions roomVersions;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${schedule.batch.max-size:10000}")
+    private int maxBatchSize;
+
+    @Value("${schedule.meetings.max-attendees:500}")
+    private int maxAttendees;
+
+    public ResponseMeetingBatchDto create(List<CreateMeetingDto> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nenhuma reunião informada");
+        }
+
+        if (dtos.size() > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O lote excede o limite de " + maxBatchSize + " reuniões");
+        }
+
+        Set<Long> distinctUserIds = distinct(dtos, CreateMeetingDto::userId);
+        dtos.stream()
+                .filter(dto -> dto != null && dto.attendeeIds() != null)
+                .forEach(dto -> MeetingAttendee.invitees(dto.userId(), dto.attendeeIds()).forEach(distinctUserIds::add));
+
+        Map<Long, User> users = userRepository.findAllById(distinctUserIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Room> rooms = roomRepository.findAllById(distinct(dtos, CreateMeetingDto::roomId)).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+
+        ResponseMeetingBatchItemDto[] results = new ResponseMeetingBatchItemDto[dtos.size()];
+        List<Integer> candidates = new ArrayList<>();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            ResponseMeetingBatchItemDto rejection = validate(i, dtos.get(i), users, rooms);
+
+            if (rejection != null) {
+                results[i] = rejection;
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            Set<Long> roomIds = candidates.stream().map(i -> dtos.get(i).roomId()).collect(Collectors.toSet());
+            Set<Long> userIds = candidates.stream().flatMap(i -> participants(dtos.get(i)).stream()).collect(Collectors.toSet());
+
+            bookingLocks.withLocks(roomIds, userIds, () -> {
+                bookWithRetries(dtos, candidates, roomIds, userIds, users, rooms, results);
+                return null;
+            });
+        }
+
+        int created = (int) Arrays.stream(results).filter(result -> result.meeting() != null).count();
+
+        return new ResponseMeetingBatchDto(created, results.length - created, Arrays.asList(results));
+    }
+
+    /**
+     * The locks only cover this instance, so a booking from another one can take a slot between the
+     * read and the insert and roll the insert back. Every pass reads the schedule again, so the
+     * next one rejects just the items that lost the race; after {@value #MAX_ATTEMPTS} passes the
+     * items still unsaved are reported as conflicts. Any other integrity violation, such as a room
+     * deleted meanwhile, is not a lost race and is rethrown.
+     */
+    private void bookWithRetries(List<CreateMeetingDto> dtos, List<Integer> candidates, Set<Long> roomIds, Set<Long> userIds,
+                                 Map<Long, User> users, Map<Long, Room> rooms, ResponseMeetingBatchItemDto[] results) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                book(dtos, candidates, roomIds, userIds, users, rooms, results);
+                return;
+            } catch (DataIntegrityViolationException exception) {
+                if (!isOverlapViolation(exception)) {
+                    throw exception;
+                }
+
+                if (attempt == MAX_ATTEMPTS) {
+                    for (int i : candidates) {
+                        if (results[i] == null) {
+                            results[i] = rejected(i, HttpStatus.CONFLICT, "Conflito de reunião detectado ao gravar o lote");
+                        }
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    private static boolean isOverlapViolation(DataIntegrityViolationException exception) {
+        String cause = String.valueOf(exception.getMostSpecificCause().getMessage());
+
+        return OVERLAP_CONSTRAINTS.stream().anyMatch(cause::contains);
+    }
+
+    private void book(List<CreateMeetingDto> dtos, List<Integer> candidates, Set<Long> roomIds, Set<Long> userIds,
+                      Map<Long, User> users, Map<Long, Room> rooms, ResponseMeetingBatchItemDto[] results) {
+        LocalDateTime from = candidates.stream().map(i -> dtos.get(i).startsAt()).min(LocalDateTime::compareTo).orElseThrow();
+        LocalDateTime to = candidates.stream().map(i -> dtos.get(i).endsAt()).max(LocalDateTime::compareTo).orElseThrow();
+
+        Map<Long, IntervalTimeline> roomTimelines = timelines(meetingRepository.findSlotsByRoomIdsBetween(roomIds, from, to), MeetingSlot::roomId);
+        Map<Long, IntervalTimeline> userTimelines = timelines(meetingRepository.findSlotsByUserIdsBetween(userIds, from, to), MeetingSlot::userId);
+        MeetingSeriesService.SeriesCalendar seriesCalendar = meetingSeriesService.calendarFor(roomIds, userIds, from, to);
+
+        // accepted items never overlap each other per room/user, so a start -> end map is enough for them
+        Map<Long, NavigableMap<Long, Long>> acceptedByRoom = new HashMap<>();
+        Map<Long, NavigableMap<Long, Long>> acceptedByUser = new HashMap<>();
+
+        List<Meeting> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<List<Long>> acceptedInvitees = new ArrayList<>();
+
+        for (int i : candidates) {
+            CreateMeetingDto dto = dtos.get(i);
+            // rounded outwards like the stored intervals, so a fraction of a second never hides an overlap
+            long start = MeetingScheduleIndex.toEpochSecond(dto.startsAt());
+            long end = MeetingScheduleIndex.toEpochSecondCeiling(dto.endsAt());
+
+            NavigableMap<Long, Long> roomAccepted = acceptedByRoom.computeIfAbsent(dto.roomId(), id -> new TreeMap<>());
+
+            if (roomTimelines.getOrDefault(dto.roomId(), IntervalTimeline.EMPTY).overlaps(start, end, Long.MIN_VALUE)
+                    || overlaps(roomAccepted, start, end)
+                    || seriesCalendar.hasRoomConflict(dto.roomId(), dto.startsAt(), dto.endsAt())) {
+                results[i] = rejected(i, HttpStatus.CONFLICT, "Já existe uma reunião agendada para esta sala neste horário");
+                continue;
+            }
+
+            List<Long> participants = participants(dto);
+            Long busyUserId = participants.stream()
+                    .filter(userId -> userTimelines.getOrDefault(userId, IntervalTimeline.EMPTY).overlaps(start, end, Long.MIN_VALUE)
+                            || overlaps(acceptedByUser.getOrDefault(userId, EMPTY_ACCEPTED), start, end)
+                            || seriesCalendar.hasUserConflict(userId, dto.startsAt(), dto.endsAt()))
+                    .findFirst()
+                    .orElse(null);
+
+            if (busyUserId != null) {
+                results[i] = rejected(i, HttpStatus.CONFLICT, busyUserId.equals(dto.userId())
+                        ? "O usuário já possui uma reunião neste horário"
+                        : "O participante " + busyUserId + " já possui uma reunião neste horário");
+                continue;
+            }
+
+            roomAccepted.put(start, end);
+            participants.forEach(userId -> acceptedByUser.computeIfAbsent(userId, id -> new TreeMap<>()).put(start, end));
+
+            Meeting meeting = new Meeting();
+            meeting.setStartsAt(dto.startsAt());
+            meeting.setEndsAt(dto.endsAt());
+            meeting.setUser(users.get(dto.userId()));
+            meeting.setRoom(rooms.get(dto.roomId()));
+
+            accepted.add(meeting);
+            acceptedIndexes.add(i);
+            acceptedInvitees.add(participants.subList(1, participants.size()));
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<ResponseMeetingDto> saved = new TransactionTemplate(transactionManager).execute(status -> {
+            List<ResponseMeetingDto> savedMeetings = meetingRepository.saveAllAndFlush(accepted).stream()
+                    .map(this::toResponseDto)
+                    .toList();
+            List<MeetingAttendee> attendees = new ArrayList<>();
+            for (int k = 0; k < accepted.size(); k++) {
+                Meeting meeting = accepted.get(k);
+                acceptedInvitees.get(k).forEach(userId -> attendees.add(new MeetingAttendee(meeting, userId)));
+            }
+            meetingAttendeeRepository.saveAllAndFlush(attendees);
+            utilizationRollup.add(accepted.stream().map(MeetingSlot::of).toList());
+            changeOutbox.recordAll(ChangeEntityType.MEETING, ChangeOperation.CREATED, savedMeetings, ResponseMeetingDto::id);
+            return savedMeetings;
+        });
+
+        for (int k = 0; k < saved.size(); k++) {
+            int i = acceptedIndexes.get(k);
+            ResponseMeetingDto response = saved.get(k);
+            results[i] = new ResponseMeetingBatchItemDto(i, HttpStatus.OK.value(), null, response);
+            roomVersions.scheduleChanged(response.roomId());
+            roomEvents.publish(RoomEventBroadcaster.MEETING_CREATED, response);
+        }
+    }
+
+    private ResponseMeetingBatchItemDto validate(int index, CreateMeetingDto dto, Map<Long, User> users, Map<Long, Room> rooms) {
+        if (dto == null) {
+            return rejected(index, HttpStatus.BAD_REQUEST, "Reunião não informada");
+        }
+
+        if (dto.userId() == null || !users.containsKey(dto.userId())) {
+            return rejected(index, HttpStatus.NOT_FOUND, "Usuário não encontrado");
+        }
+
+        if (dto.roomId() == null || !rooms.containsKey(dto.roomId())) {
+            return rejected(index, HttpStatus.NOT_FOUND, "Sala não encontrada");
+        }
+
+        List<Long> invitees = MeetingAttendee.invitees(dto.userId(), dto.attendeeIds());
+
+        if (invitees.size() > maxAttendees) {
+            return rejected(index, HttpStatus.BAD_REQUEST, "A reunião pode ter no máximo " + maxAttendees + " participantes");
+        }
+
+        if (!users.keySet().containsAll(invitees)) {
+            return rejected(index, HttpStatus.NOT_FOUND, "Participante não encontrado");
+        }
+
+        if (dto.startsAt() == null || dto.endsAt() == null) {
+            return rejected(index, HttpStatus.BAD_REQUEST, "Datas de início e fim são obrigatórias");
+        }
+
+        if (!dto.endsAt().isAfter(dto.startsAt())) {
+            return rejected(index, HttpStatus.BAD_REQUEST, "Data de término deve ser após a data de início");
+        }
+
+        return null;
+    }
+
+    private static ResponseMeetingBatchItemDto rejected(int index, HttpStatus status, String message) {
+        return new ResponseMeetingBatchItemDto(index, status.value(), message, null);
+    }
+
+    /**
+     * Organizer first, then the invitees.
+     */
+    private static List<Long> participants(CreateMeetingDto dto) {
+        List<Long> participants = new ArrayList<>();
+        participants.add(dto.userId());
+        participants.addAll(MeetingAttendee.invitees(dto.userId(), dto.attendeeIds()));
+        return participants;
+    }
+
+    private static Set<Long> distinct(List<CreateMeetingDto> dtos, Function<CreateMeetingDto, Long> key) {
+        Set<Long> ids = new HashSet<>();
+
+        for (CreateMeetingDto dto : dtos) {
+            if (dto != null && key.apply(dto) != null) {
+                ids.add(key.apply(dto));
+            }
+        }
+
+        return ids;
+    }
+
+    private static boolean overlaps(NavigableMap<Long, Long> accepted, long start, long end) {
+        Map.Entry<Long, Long> previous = accepted.lowerEntry(end);
+        return previous != null && previous.getValue() > start;
+    }
+
+    private static Map<Long, IntervalTimeline> timelines(List<MeetingSlot> slots, Function<MeetingSlot, Long> key) {
+        Map<Long, List<MeetingSlot>> grouped = slots.stream()
+                .filter(slot -> key.apply(slot) != null)
+                .collect(Collectors.groupingBy(key));
+
+        Map<Long, IntervalTimeline> timelines = new HashMap<>();
+
+        grouped.forEach((id, group) -> {
+            long[] ids = new long[group.size()];
+            long[] starts = new long[group.size()];
+            long[] ends = new long[group.size()];
+
+            for (int i = 0; i < group.size(); i++) {
+                ids[i] = group.get(i).id();
+                starts[i] = MeetingScheduleIndex.toEpochSecond(group.get(i).startsAt());
+                ends[i] = MeetingScheduleIndex.toEpochSecondCeiling(group.get(i).endsAt());
+            }
+
+            timelines.put(id, IntervalTimeline.of(ids, starts, ends));
+        });
+
+        return timelines;
+    }
+
+    private ResponseMeetingDto toResponseDto(Meeting meeting) {
+        return new ResponseMeetingDto(
+                meeting.getId(),
+                meeting.getStartsAt(),
+                meeting.getEndsAt(),
+                meeting.getUser() != null ? meeting.getUser().getId() : null,
+                meeting.getRoom() != null ? meeting.getRoom().getId() : null,
+                meeting.getCreatedAt(),
+                meeting.getUpdatedAt(),
+                meeting.getVersion()
+        );
+    }
+}
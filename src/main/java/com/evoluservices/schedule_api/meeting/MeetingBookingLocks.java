@@ -0,0 +1,98 @@
+package com.evoluservices.schedule_api.meeting;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped locks that serialize bookings touching the same room or user inside this JVM, so the
+ * availability check and the insert happen atomically without blocking unrelated bookings.
+ * Room stripes are always taken before user stripes, which keeps the lock order deadlock free.
+ * Bookings coming from other instances are guarded by the exclusion constraints on {@code meetings}.
+ */
+@Component
+public class MeetingBookingLocks {
+
+    private final ReentrantLock[] roomStripes;
+    private final ReentrantLock[] userStripes;
+
+    public MeetingBookingLocks(@Value("${schedule.booking.lock-stripes:256}") int stripes) {
+        this.roomStripes = newStripes(stripes);
+        this.userStripes = newStripes(stripes);
+    }
+
+    public <T> T withLocks(Long roomId, Long userId, Supplier<T> action) {
+        ReentrantLock roomLock = stripeFor(roomStripes, roomId);
+        ReentrantLock userLock = stripeFor(userStripes, userId);
+
+        roomLock.lock();
+        try {
+            userLock.lock();
+            try {
+                return action.get();
+            } finally {
+                userLock.unlock();
+            }
+        } finally {
+            roomLock.unlock();
+        }
+    }
+
+    /**
+     * Locks every stripe covering the given rooms and users, in stripe order, for batch bookings.
+     */
+    public <T> T withLocks(Collection<Long> roomIds, Collection<Long> userIds, Supplier<T> action) {
+        List<ReentrantLock> locks = new ArrayList<>();
+        stripesFor(roomStripes, roomIds).forEach(index -> locks.add(roomStripes[index]));
+        stripesFor(userStripes, userIds).forEach(index -> locks.add(userStripes[index]));
+
+        int acquired = 0;
+        try {
+            for (ReentrantLock lock : locks) {
+                lock.lock();
+                acquired++;
+            }
+
+            return action.get();
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
+        }
+    }
+
+    private static TreeSet<Integer> stripesFor(ReentrantLock[] stripes, Collection<Long> keys) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+
+        for (Long key : keys) {
+            indexes.add(stripeIndex(stripes, key));
+        }
+
+        return indexes;
+    }
+
+    private static ReentrantLock[] newStripes(int count) {
+        ReentrantLock[] stripes = new ReentrantLock[count];
+
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        return stripes;
+    }
+
+    private static ReentrantLock stripeFor(ReentrantLock[] stripes, Long key) {
+        return stripes[stripeIndex(stripes, key)];
+    }
+
+    private static int stripeIndex(ReentrantLock[] stripes, Long key) {
+        int hash = key != null ? Long.hashCode(key) : 0;
+        return Math.floorMod(hash * 0x9E3779B9, stripes.length);
+    }
+}
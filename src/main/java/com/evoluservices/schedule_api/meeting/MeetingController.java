@@ -1,16 +1,26 @@
 package com.evoluservices.schedule_api.meeting;
 
+import com.evoluservices.schedule_api.meeting.dto.AutoAssignMeetingDto;
 import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingBatchDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingCursorPageDto;
 import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingSolutionDto;
+import com.evoluservices.schedule_api.meeting.dto.SolveMeetingsDto;
 import com.evoluservices.schedule_api.meeting.dto.UpdateMeetingDto;
+import com.evoluservices.schedule_api.web.VersionTag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,10 +28,17 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/meetings")
 @Tag(name = "Reuniões", description = "Operações relacionadas ao agendamento de reuniões")
 public class MeetingController {
@@ -29,11 +46,20 @@ public class MeetingController {
     @Autowired
     private MeetingService meetingService;
 
-    @Operation(summary = "Criar uma nova reunião")
+    @Autowired
+    private MeetingBatchService meetingBatchService;
+
+    @Autowired
+    private MeetingExportService meetingExportService;
+
+    @Autowired
+    private MeetingSolverService meetingSolverService;
+
+    @Operation(summary = "Criar uma nova reunião", description = "`attendeeIds` convida outros usuários além do organizador (`userId`); todos os participantes são verificados contra conflitos")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Reunião criada com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Horário de reunião inválido informado"),
-            @ApiResponse(responseCode = "404", description = "Sala ou usuário informado não encontrado"),
+            @ApiResponse(responseCode = "400", description = "Horário de reunião inválido informado ou participantes acima do limite"),
+            @ApiResponse(responseCode = "404", description = "Sala, usuário ou participante informado não encontrado"),
             @ApiResponse(responseCode = "409", description = "Conflito de reunião detectado")
     })
     @PostMapping
@@ -42,6 +68,44 @@ public class MeetingController {
         return ResponseEntity.ok(newMeeting);
     }
 
+    @Operation(summary = "Criar reunião na sala mais adequada", description = "Escolhe a sala e o horário dentro de `from`/`to` para uma reunião de `duration` minutos, preenchendo primeiro os menores intervalos livres. As salas de `roomIds`, quando informadas, têm preferência sobre as demais")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reunião criada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Período ou duração inválidos"),
+            @ApiResponse(responseCode = "404", description = "Sala preferida ou usuário informado não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Nenhuma sala livre no período informado")
+    })
+    @PostMapping("/auto")
+    public ResponseEntity<ResponseMeetingDto> createInBestRoom(@RequestBody AutoAssignMeetingDto dto) {
+        ResponseMeetingDto newMeeting = meetingService.createInBestRoom(dto);
+        return ResponseEntity.ok(newMeeting);
+    }
+
+    @Operation(summary = "Criar reuniões em lote", description = "Cada item do lote é validado e gravado de forma independente; o resultado informa o status de cada um")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lote processado, com o resultado de cada reunião"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do tamanho máximo")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<ResponseMeetingBatchDto> createBatch(@RequestBody List<CreateMeetingDto> dtos) {
+        ResponseMeetingBatchDto result = meetingBatchService.create(dtos);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Planejar várias reuniões de uma vez", description = "Cada item informa o usuário, a duração em minutos, o início mais cedo, o término mais tarde e, opcionalmente, as salas permitidas. Busca em paralelo, dentro de `timeBudgetMillis`, horários e salas sem conflito entre os itens nem com a agenda atual; itens que não couberam voltam em `unsatisfiable`. Com `apply=true` as reuniões encontradas são gravadas como em `/meetings/batch`")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Melhor solução encontrada, com os itens que não couberam"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio, acima do tamanho máximo ou tempo limite inválido")
+    })
+    @PostMapping("/solve")
+    public ResponseEntity<ResponseMeetingSolutionDto> solve(
+            @RequestBody SolveMeetingsDto dto,
+            @RequestParam(defaultValue = "false") boolean apply
+    ) {
+        ResponseMeetingSolutionDto solution = meetingSolverService.solve(dto, apply);
+        return ResponseEntity.ok(solution);
+    }
+
     @Operation(summary = "Listar reuniões com paginação")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Reuniões retornadas com sucesso")
@@ -52,28 +116,82 @@ public class MeetingController {
         return ResponseEntity.ok(meetings);
     }
 
-    @Operation(summary = "Buscar detalhes da reunião por id")
+    @Operation(summary = "Listar reuniões por cursor", description = "Ativado pelo parâmetro `limit`. Ordena por início e id; envie o valor de `next` em `after` para obter a próxima página. O total só é calculado com `includeTotal=true`")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reuniões retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
+    })
+    @GetMapping(params = "limit")
+    public ResponseEntity<ResponseMeetingCursorPageDto> findAllByCursor(
+            @RequestParam int limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        ResponseMeetingCursorPageDto meetings = meetingService.findAll(after, limit, includeTotal);
+        return ResponseEntity.ok(meetings);
+    }
+
+    @Operation(summary = "Exportar reuniões de um período", description = "Transmite as reuniões que ocupam o período, ordenadas por início, em NDJSON (padrão) ou CSV, sem carregar o resultado inteiro em memória")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Exportação transmitida com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Período ou formato inválido")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long roomId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        MeetingExportFormat exportFormat = MeetingExportFormat.from(format);
+        StreamingResponseBody body = meetingExportService.export(from, to, roomId, exportFormat);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("meetings." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Operation(summary = "Buscar detalhes da reunião por id", description = "Retorna a versão da reunião no cabeçalho `ETag`; envie-a em `If-None-Match` para receber 304 se a reunião não mudou")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Reunião retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Reunião não modificada desde a versão informada"),
             @ApiResponse(responseCode = "404", description = "Reunião não encontrada")
     })
     @GetMapping("/{id}")
     public ResponseEntity<ResponseMeetingDto> findById(@PathVariable Long id) {
         ResponseMeetingDto meeting = meetingService.findById(id);
-        return ResponseEntity.ok(meeting);
+        return ResponseEntity.ok().eTag(VersionTag.of(meeting.version())).body(meeting);
     }
 
-    @Operation(summary = "Atualizar informações da reunião")
+    @Operation(summary = "Listar participantes da reunião", description = "Ids dos usuários convidados além do organizador (`userId`)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Participantes retornados com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Reunião não encontrada")
+    })
+    @GetMapping("/{id}/attendees")
+    public ResponseEntity<List<Long>> findAttendees(@PathVariable Long id) {
+        List<Long> attendeeIds = meetingService.findAttendeeIds(id);
+        return ResponseEntity.ok(attendeeIds);
+    }
+
+    @Operation(summary = "Atualizar informações da reunião", description = "Com `If-Match` a atualização só é aplicada se a reunião ainda estiver na versão informada. `attendeeIds` substitui a lista de participantes")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Reunião atualizada com sucesso"),
             @ApiResponse(responseCode = "400", description = "Horário de reunião inválido informado"),
             @ApiResponse(responseCode = "404", description = "Reunião ou recurso relacionado não encontrado"),
-            @ApiResponse(responseCode = "409", description = "Conflito de reunião detectado")
+            @ApiResponse(responseCode = "409", description = "Conflito de reunião detectado ou reunião alterada por outra requisição"),
+            @ApiResponse(responseCode = "412", description = "Versão informada em If-Match não é a atual")
     })
     @PatchMapping("/{id}")
-    public ResponseEntity<ResponseMeetingDto> update(@PathVariable Long id, @RequestBody UpdateMeetingDto dto) {
-        ResponseMeetingDto meeting = meetingService.update(id, dto);
-        return ResponseEntity.ok(meeting);
+    public ResponseEntity<ResponseMeetingDto> update(
+            @PathVariable Long id,
+            @RequestBody UpdateMeetingDto dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ResponseMeetingDto meeting = meetingService.update(id, dto, ifMatch);
+        return ResponseEntity.ok().eTag(VersionTag.of(meeting.version())).body(meeting);
     }
 
     @Operation(summary = "Excluir reunião por id")
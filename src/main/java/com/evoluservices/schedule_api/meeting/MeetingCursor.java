@@ -0,0 +1,64 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingCursorPageDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Position of the last meeting returned by a keyset page, ordered by (startsAt, id).
+ * Clients receive it as an opaque base64url token and send it back in {@code after}.
+ */
+public record MeetingCursor(LocalDateTime startsAt, Long id) {
+
+    public static MeetingCursor of(ResponseMeetingDto meeting) {
+        return new MeetingCursor(meeting.startsAt(), meeting.id());
+    }
+
+    public static MeetingCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(",");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new MeetingCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor de paginação inválido");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((startsAt + "," + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void validateLimit(int limit, int maxLimit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O limite deve estar entre 1 e " + maxLimit);
+        }
+    }
+
+    /**
+     * Builds the response from a query that fetched {@code limit + 1} rows; the extra row only
+     * signals that another page exists.
+     */
+    public static ResponseMeetingCursorPageDto toPage(List<ResponseMeetingDto> rows, int limit, Long totalElements) {
+        if (rows.size() <= limit) {
+            return new ResponseMeetingCursorPageDto(rows, null, totalElements);
+        }
+
+        List<ResponseMeetingDto> content = rows.subList(0, limit);
+        String next = of(content.get(limit - 1)).encode();
+        return new ResponseMeetingCursorPageDto(List.copyOf(content), next, totalElements);
+    }
+}
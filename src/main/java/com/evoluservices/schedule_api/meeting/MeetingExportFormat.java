@@ -0,0 +1,36 @@
+package com.evoluservices.schedule_api.meeting;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+
+public enum MeetingExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    MeetingExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static MeetingExportFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Formato de exportação inválido, use ndjson ou csv"));
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,103 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class MeetingExportService {
+
+    private static final String CSV_HEADER = "id,startsAt,endsAt,userId,roomId,createdAt,updatedAt";
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Validates the request eagerly and returns a body that streams the matching meetings
+     * row by row. The database cursor stays open, inside a read-only transaction, only while
+     * the body is being written.
+     */
+    public StreamingResponseBody export(LocalDateTime from, LocalDateTime to, Long roomId, MeetingExportFormat format) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe um intervalo válido com início e fim");
+        }
+
+        return outputStream -> {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<ResponseMeetingDto> meetings = meetingRepository.streamResponsesBetween(from, to, roomId)) {
+                    if (format == MeetingExportFormat.CSV) {
+                        writeCsv(meetings.iterator(), outputStream);
+                    } else {
+                        writeNdjson(meetings.iterator(), outputStream);
+                    }
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        };
+    }
+
+    private void writeNdjson(Iterator<ResponseMeetingDto> meetings, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            while (meetings.hasNext()) {
+                generator.writeObject(meetings.next());
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<ResponseMeetingDto> meetings, OutputStream outputStream) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+
+            while (meetings.hasNext()) {
+                ResponseMeetingDto meeting = meetings.next();
+                writer.write(csvValue(meeting.id()));
+                writer.write(',');
+                writer.write(csvValue(meeting.startsAt()));
+                writer.write(',');
+                writer.write(csvValue(meeting.endsAt()));
+                writer.write(',');
+                writer.write(csvValue(meeting.userId()));
+                writer.write(',');
+                writer.write(csvValue(meeting.roomId()));
+                writer.write(',');
+                writer.write(csvValue(meeting.createdAt()));
+                writer.write(',');
+                writer.write(csvValue(meeting.updatedAt()));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private String csvValue(Object value) {
+        return value != null ? value.toString() : "";
+    }
+}
@@ -1,22 +1,33 @@
 package com.evoluservices.schedule_api.meeting;
 
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     @Query("""
-            SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END
-            FROM Meeting m
-            WHERE m.room.id = :roomId
-              AND (:meetingId is null or m.id <> :meetingId)
-              AND m.startsAt < :endsAt
-              AND m.endsAt > :startsAt
+            SELECT CASE WHEN EXISTS (
+                SELECT 1
+                FROM Meeting m
+                WHERE m.room.id = :roomId
+                  AND (:meetingId is null or m.id <> :meetingId)
+                  AND m.startsAt < :endsAt
+                  AND m.endsAt > :startsAt
+            ) THEN true ELSE false END
             """)
     boolean existsOverlappingMeeting(
             @Param("roomId") Long roomId,
@@ -26,19 +37,208 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
     );
 
     @Query("""
-            SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END
+            SELECT CASE WHEN EXISTS (
+                SELECT 1
+                FROM Meeting m
+                WHERE m.user.id = :userId
+                  AND (:meetingId is null or m.id <> :meetingId)
+                  AND m.startsAt < :endsAt
+                  AND m.endsAt > :startsAt
+            ) THEN true ELSE false END
+            """)
+    boolean existsOverlappingMeetingForUser(
+            @Param("userId") Long userId,
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("endsAt") LocalDateTime endsAt,
+            @Param("meetingId") Long meetingId
+    );
+
+    @Query(value = """
+            SELECT new com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto(m.id, m.startsAt, m.endsAt, m.user.id, m.room.id, m.createdAt, m.updatedAt, m.version)
+            FROM Meeting m
+            """,
+            countQuery = "SELECT count(m) FROM Meeting m")
+    Page<ResponseMeetingDto> findAllResponses(Pageable pageable);
+
+    @Query(value = """
+            SELECT new com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto(m.id, m.startsAt, m.endsAt, m.user.id, m.room.id, m.createdAt, m.updatedAt, m.version)
+            FROM Meeting m
+            WHERE m.room.id = :roomId
+            """,
+            countQuery = "SELECT count(m) FROM Meeting m WHERE m.room.id = :roomId")
+    Page<ResponseMeetingDto> findResponsesByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto(m.id, m.startsAt, m.endsAt, m.user.id, m.room.id, m.createdAt, m.updatedAt, m.version)
             FROM Meeting m
-            WHERE m.user.id = :userId
+            ORDER BY m.startsAt, m.id
+            """)
+    List<ResponseMeetingDto> findFirstResponses(Limit limit);
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto(m.id, m.startsAt, m.endsAt, m.user.id, m.room.id, m.createdAt, m.updatedAt, m.version)
+            FROM Meeting m
+            WHERE (m.startsAt, m.id) > (:startsAt, :id)
+            ORDER BY m.startsAt, m.id
+            """)
+    List<ResponseMeetingDto> findResponsesAfter(
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto(m.id, m.startsAt, m.endsAt, m.user.id, m.room.id, m.createdAt, m.updatedAt, m.version)
+            FROM Meeting m
+            WHERE m.room.id = :roomId
+            ORDER BY m.startsAt, m.id
+            """)
+    List<ResponseMeetingDto> findFirstResponsesByRoomId(@Param("roomId") Long roomId, Limit limit);
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto(m.id, m.startsAt, m.endsAt, m.user.id, m.room.id, m.createdAt, m.updatedAt, m.version)
+            FROM Meeting m
+            WHERE m.room.id = :roomId
+              AND (m.startsAt, m.id) > (:startsAt, :id)
+            ORDER BY m.startsAt, m.id
+            """)
+    List<ResponseMeetingDto> findResponsesByRoomIdAfter(
+            @Param("roomId") Long roomId,
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    long countByRoomId(Long roomId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto(m.id, m.startsAt, m.endsAt, m.user.id, m.room.id, m.createdAt, m.updatedAt, m.version)
+            FROM Meeting m
+            WHERE m.startsAt < :to
+              AND m.endsAt > :from
+              AND (:roomId is null or m.room.id = :roomId)
+            ORDER BY m.startsAt, m.id
+            """)
+    Stream<ResponseMeetingDto> streamResponsesBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("roomId") Long roomId
+    );
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.MeetingSlot(m.id, m.room.id, m.user.id, m.startsAt, m.endsAt)
+            FROM Meeting m
+            """)
+    Stream<MeetingSlot> streamAllSlots();
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.MeetingSlot(m.id, m.room.id, m.user.id, m.startsAt, m.endsAt)
+            FROM Meeting m
+            WHERE m.endsAt > :startsAt
+              AND m.startsAt < :endsAt
+            ORDER BY m.room.id, m.startsAt
+            """)
+    List<MeetingSlot> findSlotsBetween(
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("endsAt") LocalDateTime endsAt
+    );
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.MeetingSlot(m.id, m.room.id, m.user.id, m.startsAt, m.endsAt)
+            FROM Meeting m
+            WHERE m.room.id IN :roomIds
+              AND m.startsAt < :endsAt
+              AND m.endsAt > :startsAt
+            """)
+    List<MeetingSlot> findSlotsByRoomIdsBetween(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("endsAt") LocalDateTime endsAt
+    );
+
+    /**
+     * Slots in which any of {@code userIds} is busy, as organizer or as attendee ({@link MeetingSlot#userId()}
+     * is the busy user).
+     */
+    default List<MeetingSlot> findSlotsByUserIdsBetween(Collection<Long> userIds, LocalDateTime startsAt, LocalDateTime endsAt) {
+        List<MeetingSlot> slots = new ArrayList<>(findOrganizerSlotsByUserIdsBetween(userIds, startsAt, endsAt));
+        slots.addAll(findAttendeeSlotsByUserIdsBetween(userIds, startsAt, endsAt));
+        return slots;
+    }
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.MeetingSlot(m.id, m.room.id, m.user.id, m.startsAt, m.endsAt)
+            FROM Meeting m
+            WHERE m.user.id IN :userIds
+              AND m.startsAt < :endsAt
+              AND m.endsAt > :startsAt
+            """)
+    List<MeetingSlot> findOrganizerSlotsByUserIdsBetween(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("endsAt") LocalDateTime endsAt
+    );
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.MeetingSlot(a.meetingId, m.room.id, a.userId, a.startsAt, a.endsAt)
+            FROM MeetingAttendee a
+            JOIN a.meeting m
+            WHERE a.userId IN :userIds
+              AND a.startsAt < :endsAt
+              AND a.endsAt > :startsAt
+            """)
+    List<MeetingSlot> findAttendeeSlotsByUserIdsBetween(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("endsAt") LocalDateTime endsAt
+    );
+
+    /**
+     * Which of {@code userIds} already organize or attend a meeting overlapping the period, in one
+     * statement for any number of participants.
+     */
+    @Query("""
+            SELECT m.user.id
+            FROM Meeting m
+            WHERE m.user.id IN :userIds
               AND (:meetingId is null or m.id <> :meetingId)
               AND m.startsAt < :endsAt
               AND m.endsAt > :startsAt
+            UNION
+            SELECT a.userId
+            FROM MeetingAttendee a
+            WHERE a.userId IN :userIds
+              AND (:meetingId is null or a.meetingId <> :meetingId)
+              AND a.startsAt < :endsAt
+              AND a.endsAt > :startsAt
             """)
-    boolean existsOverlappingMeetingForUser(
-            @Param("userId") Long userId,
+    List<Long> findBusyUserIds(
+            @Param("userIds") Collection<Long> userIds,
             @Param("startsAt") LocalDateTime startsAt,
             @Param("endsAt") LocalDateTime endsAt,
             @Param("meetingId") Long meetingId
     );
 
-    Page<Meeting> findByRoomId(Long roomId, Pageable pageable);
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto(m.id, m.startsAt, m.endsAt, m.user.id, m.room.id, m.createdAt, m.updatedAt, m.version)
+            FROM Meeting m
+            WHERE m.user.id = :userId
+            ORDER BY m.startsAt, m.id
+            """)
+    List<ResponseMeetingDto> findFirstResponsesByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto(m.id, m.startsAt, m.endsAt, m.user.id, m.room.id, m.createdAt, m.updatedAt, m.version)
+            FROM Meeting m
+            WHERE m.user.id = :userId
+              AND (m.startsAt, m.id) > (:startsAt, :id)
+            ORDER BY m.startsAt, m.id
+            """)
+    List<ResponseMeetingDto> findResponsesByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("id") Long id,
+            Limit limit
+    );
 }
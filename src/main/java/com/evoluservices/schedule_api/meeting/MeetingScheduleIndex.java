@@ -0,0 +1,412 @@
+package com.evoluservices.schedule_api.meeting;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * In-memory view of every meeting's time slot, grouped per room and per user, used to answer
+ * overlap checks without a database round-trip. A user's timeline holds the meetings they
+ * organize and the ones they attend; attendees follow the time of their meeting's slot.
+ * <p>
+ * Readers never block: each room/user timeline is an immutable {@link IntervalTimeline} swapped
+ * atomically on change, paired with a {@link DayOccupancy} bitmap of 5-minute slots that answers
+ * most overlap checks with a few bitwise ANDs before the intervals are searched. The bitmaps are
+ * built in bulk when a rebuild completes and then kept up to date with each mutation. Callers
+ * must check {@link #isReady()} and fall back to the repository queries while the index is cold
+ * or being rebuilt. Only mutations seen by this JVM are tracked, so the index should be disabled
+ * when several instances write to the same database.
+ * <p>
+ * A mutation updates the room, organizer and attendee timelines one after another. Lookups that
+ * span several of them go through {@link #readConsistent(Supplier)}, which retries them when a
+ * mutation ran meanwhile, so they see every timeline either before or after it. Intervals are
+ * stored in whole seconds rounded outwards, which keeps whole-second lookups exact; see
+ * {@link #canCheck(LocalDateTime, LocalDateTime)}.
+ */
+@Component
+public class MeetingScheduleIndex {
+
+    public enum State { COLD, BUILDING, READY }
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Timelines current = new Timelines();
+    private volatile State state = State.COLD;
+
+    // odd while a mutation is being applied; only changed under writeLock
+    private volatile long version;
+
+    private List<Runnable> pendingDuringRebuild;
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    /**
+     * Whether overlap checks of {@code [startsAt, endsAt)} can be answered here. Bounds with a
+     * fraction of a second fall between the whole seconds the intervals are kept in and must go
+     * to the repository queries.
+     */
+    public boolean canCheck(LocalDateTime startsAt, LocalDateTime endsAt) {
+        return isReady() && startsAt.getNano() == 0 && endsAt.getNano() == 0;
+    }
+
+    /**
+     * Runs {@code lookups} against a single state of the index, running them again if a mutation
+     * was applied meanwhile; anything {@code lookups} collects must be reset at its start.
+     */
+    public <T> T readConsistent(Supplier<T> lookups) {
+        while (true) {
+            long observed = version;
+
+            if ((observed & 1) == 0) {
+                T result = lookups.get();
+
+                if (version == observed) {
+                    return result;
+                }
+            }
+
+            Thread.onSpinWait();
+        }
+    }
+
+    public boolean hasRoomConflict(Long roomId, LocalDateTime startsAt, LocalDateTime endsAt, Long meetingId) {
+        return overlaps(current.rooms, roomId, startsAt, endsAt, meetingId);
+    }
+
+    public boolean hasUserConflict(Long userId, LocalDateTime startsAt, LocalDateTime endsAt, Long meetingId) {
+        return overlaps(current.users, userId, startsAt, endsAt, meetingId);
+    }
+
+    /**
+     * Busy intervals of {@code roomId} intersecting {@code [from, to)}, as epoch seconds in start order.
+     */
+    void forEachRoomInterval(Long roomId, LocalDateTime from, LocalDateTime to, IntervalTimeline.IntervalConsumer action) {
+        forEachInterval(current.rooms, roomId, from, to, action);
+    }
+
+    /**
+     * Busy intervals of {@code userId} intersecting {@code [from, to)}, as epoch seconds in start order.
+     */
+    void forEachUserInterval(Long userId, LocalDateTime from, LocalDateTime to, IntervalTimeline.IntervalConsumer action) {
+        forEachInterval(current.users, userId, from, to, action);
+    }
+
+    public int size() {
+        return current.slots.size();
+    }
+
+    /**
+     * Estimated heap used by the room and user day bitmaps.
+     */
+    public long dayBitmapBytes() {
+        Timelines timelines = current;
+        return bitmapBytes(timelines.rooms) + bitmapBytes(timelines.users);
+    }
+
+    public void put(MeetingSlot slot) {
+        mutate(timelines -> timelines.put(slot));
+    }
+
+    public void putAttendee(Long meetingId, Long userId) {
+        mutate(timelines -> timelines.putAttendee(meetingId, userId));
+    }
+
+    public void removeAttendee(Long meetingId, Long userId) {
+        mutate(timelines -> timelines.removeAttendee(meetingId, userId));
+    }
+
+    public void remove(Long meetingId) {
+        mutate(timelines -> timelines.remove(meetingId));
+    }
+
+    private void mutate(Consumer<Timelines> change) {
+        writeLock.lock();
+        try {
+            version++;
+            try {
+                change.accept(current);
+            } finally {
+                version++;
+            }
+
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(() -> change.accept(current));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Starts a rebuild. Until {@link #completeRebuild(Rebuild)} is called the index reports
+     * {@link State#BUILDING} and mutations are recorded so they can be replayed over the
+     * freshly loaded snapshot.
+     */
+    public Rebuild startRebuild() {
+        writeLock.lock();
+        try {
+            state = State.BUILDING;
+            pendingDuringRebuild = new ArrayList<>();
+            return new Rebuild();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void completeRebuild(Rebuild rebuild) {
+        writeLock.lock();
+        try {
+            rebuild.timelines.buildDays();
+            version++;
+            try {
+                current = rebuild.timelines;
+                pendingDuringRebuild.forEach(Runnable::run);
+            } finally {
+                version++;
+            }
+            pendingDuringRebuild = null;
+            state = State.READY;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        writeLock.lock();
+        try {
+            pendingDuringRebuild = null;
+            state = State.COLD;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Like {@link #toEpochSecond(LocalDateTime)}, rounding a fraction of a second up; used for the
+     * end of stored intervals so they never end before the meeting does.
+     */
+    static long toEpochSecondCeiling(LocalDateTime dateTime) {
+        return toEpochSecond(dateTime) + (dateTime.getNano() > 0 ? 1 : 0);
+    }
+
+    static LocalDateTime fromEpochSecond(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private static boolean overlaps(Map<Long, Occupancy> timelines, Long key, LocalDateTime startsAt, LocalDateTime endsAt, Long meetingId) {
+        Occupancy occupancy = timelines.get(key);
+
+        if (occupancy == null) {
+            return false;
+        }
+
+        long excludedId = meetingId != null ? meetingId : Long.MIN_VALUE;
+        return occupancy.overlaps(toEpochSecond(startsAt), toEpochSecondCeiling(endsAt), excludedId);
+    }
+
+    private static void forEachInterval(Map<Long, Occupancy> timelines, Long key, LocalDateTime from, LocalDateTime to,
+                                        IntervalTimeline.IntervalConsumer action) {
+        Occupancy occupancy = timelines.get(key);
+
+        if (occupancy != null) {
+            occupancy.intervals().forEachOverlapping(toEpochSecond(from), toEpochSecondCeiling(to), action);
+        }
+    }
+
+    private static long bitmapBytes(Map<Long, Occupancy> timelines) {
+        long bytes = 0;
+
+        for (Occupancy occupancy : timelines.values()) {
+            bytes += occupancy.days() != null ? occupancy.days().sizeInBytes() : 0;
+        }
+
+        return bytes;
+    }
+
+    public static final class Rebuild {
+
+        private final Timelines timelines = new Timelines(false);
+
+        public void add(MeetingSlot slot) {
+            timelines.put(slot);
+        }
+
+        public void addAttendee(Long meetingId, Long userId) {
+            timelines.putAttendee(meetingId, userId);
+        }
+    }
+
+    /**
+     * The intervals of one room or user and their day bitmap; {@code days} is {@code null} while a
+     * rebuild is loading, so bulk loads do not copy the bitmap once per meeting.
+     */
+    private record Occupancy(IntervalTimeline intervals, DayOccupancy days) {
+
+        boolean overlaps(long start, long end, long excludedId) {
+            DayOccupancy.Answer answer = days != null ? days.test(start, end) : DayOccupancy.Answer.UNKNOWN;
+
+            if (answer == DayOccupancy.Answer.FREE) {
+                return false;
+            }
+
+            // a busy slot may belong to the excluded meeting itself
+            if (answer == DayOccupancy.Answer.BUSY && excludedId == Long.MIN_VALUE) {
+                return true;
+            }
+
+            return intervals.overlaps(start, end, excludedId);
+        }
+
+        Occupancy with(long id, long start, long end) {
+            return new Occupancy(intervals.with(id, start, end), days != null ? days.with(start, end) : null);
+        }
+
+        Occupancy without(long id, long start, long end) {
+            IntervalTimeline remaining = intervals.without(id, start);
+
+            if (remaining.size() == 0) {
+                return null;
+            }
+
+            return new Occupancy(remaining, days != null ? days.without(start, end, remaining) : null);
+        }
+
+        Occupancy withDays() {
+            return new Occupancy(intervals, DayOccupancy.of(intervals));
+        }
+    }
+
+    private static final class Timelines {
+
+        private final Map<Long, MeetingSlot> slots = new ConcurrentHashMap<>();
+        private final Map<Long, Occupancy> rooms = new ConcurrentHashMap<>();
+        private final Map<Long, Occupancy> users = new ConcurrentHashMap<>();
+
+        // new timelines get a day bitmap; a rebuild fills them in bulk in buildDays()
+        private boolean trackDays;
+
+        Timelines() {
+            this(true);
+        }
+
+        Timelines(boolean trackDays) {
+            this.trackDays = trackDays;
+        }
+
+        // attendee user ids per meeting, kept across time changes of the meeting's slot
+        private final Map<Long, Set<Long>> attendees = new ConcurrentHashMap<>();
+
+        void put(MeetingSlot slot) {
+            removeIntervals(slot.id());
+            slots.put(slot.id(), slot);
+
+            long start = toEpochSecond(slot.startsAt());
+            long end = toEpochSecondCeiling(slot.endsAt());
+
+            if (slot.roomId() != null) {
+                rooms.compute(slot.roomId(), (id, occupancy) -> orEmpty(occupancy).with(slot.id(), start, end));
+            }
+
+            if (slot.userId() != null) {
+                addUserInterval(slot.userId(), slot.id(), start, end);
+            }
+
+            for (Long userId : attendees.getOrDefault(slot.id(), Set.of())) {
+                addUserInterval(userId, slot.id(), start, end);
+            }
+        }
+
+        void remove(Long meetingId) {
+            removeIntervals(meetingId);
+            attendees.remove(meetingId);
+        }
+
+        void putAttendee(Long meetingId, Long userId) {
+            if (!attendees.computeIfAbsent(meetingId, id -> ConcurrentHashMap.newKeySet()).add(userId)) {
+                return;
+            }
+
+            MeetingSlot slot = slots.get(meetingId);
+
+            if (slot != null) {
+                addUserInterval(userId, meetingId, toEpochSecond(slot.startsAt()), toEpochSecondCeiling(slot.endsAt()));
+            }
+        }
+
+        void removeAttendee(Long meetingId, Long userId) {
+            Set<Long> meetingAttendees = attendees.get(meetingId);
+
+            if (meetingAttendees == null || !meetingAttendees.remove(userId)) {
+                return;
+            }
+
+            MeetingSlot slot = slots.get(meetingId);
+
+            if (slot != null) {
+                long start = toEpochSecond(slot.startsAt());
+                long end = toEpochSecondCeiling(slot.endsAt());
+                users.computeIfPresent(userId, (id, occupancy) -> occupancy.without(meetingId, start, end));
+            }
+        }
+
+        void buildDays() {
+            rooms.replaceAll((id, occupancy) -> occupancy.withDays());
+            users.replaceAll((id, occupancy) -> occupancy.withDays());
+            trackDays = true;
+        }
+
+        private void addUserInterval(Long userId, Long meetingId, long start, long end) {
+            users.compute(userId, (id, occupancy) -> orEmpty(occupancy).with(meetingId, start, end));
+        }
+
+        private Occupancy orEmpty(Occupancy occupancy) {
+            if (occupancy != null) {
+                return occupancy;
+            }
+
+            return new Occupancy(IntervalTimeline.EMPTY, trackDays ? DayOccupancy.EMPTY : null);
+        }
+
+        private void removeIntervals(Long meetingId) {
+            MeetingSlot previous = slots.remove(meetingId);
+
+            if (previous == null) {
+                return;
+            }
+
+            long start = toEpochSecond(previous.startsAt());
+            long end = toEpochSecondCeiling(previous.endsAt());
+
+            if (previous.roomId() != null) {
+                rooms.computeIfPresent(previous.roomId(), (id, occupancy) -> occupancy.without(meetingId, start, end));
+            }
+
+            if (previous.userId() != null) {
+                users.computeIfPresent(previous.userId(), (id, occupancy) -> occupancy.without(meetingId, start, end));
+            }
+
+            for (Long userId : attendees.getOrDefault(meetingId, Set.of())) {
+                users.computeIfPresent(userId, (id, occupancy) -> occupancy.without(meetingId, start, end));
+            }
+        }
+    }
+}
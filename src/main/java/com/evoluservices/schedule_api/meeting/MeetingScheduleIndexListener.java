@@ -0,0 +1,72 @@
+package com.evoluservices.schedule_api.meeting;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps {@link MeetingScheduleIndex} in sync with every {@link Meeting} and {@link MeetingAttendee}
+ * write, including the ones that bypass {@link MeetingService}. Changes are applied only after the
+ * surrounding transaction commits so a rolled back insert never shows up as a conflict. Attendees
+ * removed by the cascade of a meeting delete go with the meeting's slot. Nothing is tracked when
+ * {@code schedule.index.enabled} is off.
+ */
+public class MeetingScheduleIndexListener {
+
+    @Autowired
+    private MeetingScheduleIndex scheduleIndex;
+
+    @Value("${schedule.index.enabled:true}")
+    private boolean enabled;
+
+    @PostPersist
+    @PostUpdate
+    void onSave(Object entity) {
+        if (!enabled) {
+            return;
+        }
+
+        if (entity instanceof Meeting meeting) {
+            MeetingSlot slot = MeetingSlot.of(meeting);
+            afterCommit(() -> scheduleIndex.put(slot));
+        } else if (entity instanceof MeetingAttendee attendee) {
+            Long meetingId = attendee.getMeetingId();
+            Long userId = attendee.getUserId();
+            afterCommit(() -> scheduleIndex.putAttendee(meetingId, userId));
+        }
+    }
+
+    @PostRemove
+    void onRemove(Object entity) {
+        if (!enabled) {
+            return;
+        }
+
+        if (entity instanceof Meeting meeting) {
+            Long meetingId = meeting.getId();
+            afterCommit(() -> scheduleIndex.remove(meetingId));
+        } else if (entity instanceof MeetingAttendee attendee) {
+            Long meetingId = attendee.getMeetingId();
+            Long userId = attendee.getUserId();
+            afterCommit(() -> scheduleIndex.removeAttendee(meetingId, userId));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
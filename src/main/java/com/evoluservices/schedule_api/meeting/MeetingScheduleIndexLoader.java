@@ -0,0 +1,71 @@
+package com.evoluservices.schedule_api.meeting;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+@Component
+public class MeetingScheduleIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(MeetingScheduleIndexLoader.class);
+
+    @Autowired
+    private MeetingScheduleIndex scheduleIndex;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingAttendeeRepository meetingAttendeeRepository;
+
+    @Autowired
+    private MeetingSeriesRepository meetingSeriesRepository;
+
+    @Autowired
+    private MeetingSeriesSpans seriesSpans;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${schedule.index.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            seriesSpans.load(meetingSeriesRepository.findAllSpans());
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        MeetingScheduleIndex.Rebuild rebuild = scheduleIndex.startRebuild();
+
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<MeetingSlot> slots = meetingRepository.streamAllSlots()) {
+                    slots.forEach(rebuild::add);
+                }
+                try (Stream<Object[]> attendees = meetingAttendeeRepository.streamAllIds()) {
+                    attendees.forEach(ids -> rebuild.addAttendee((Long) ids[0], (Long) ids[1]));
+                }
+            });
+
+            scheduleIndex.completeRebuild(rebuild);
+            log.info("Meeting schedule index warmed with {} meetings, {} KB of day bitmaps", scheduleIndex.size(), scheduleIndex.dayBitmapBytes() / 1024);
+        } catch (RuntimeException exception) {
+            scheduleIndex.abortRebuild();
+            log.warn("Meeting schedule index rebuild failed, falling back to database conflict checks", exception);
+        }
+    }
+}
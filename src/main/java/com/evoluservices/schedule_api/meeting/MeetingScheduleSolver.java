@@ -0,0 +1,264 @@
+package com.evoluservices.schedule_api.meeting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Assigns a room and a start time to many meeting requests at once, without conflicts between
+ * them or with the busy time already in the schedule (epoch seconds, per room and per user).
+ * <p>
+ * A pass places the requests greedily in a given order, each with {@link BestFitRoomPlanner} over
+ * the busy time plus what the pass placed before it. The search starts from the tightest requests
+ * first (least slack in their window, fewest allowed rooms) and then does local search on the
+ * order: a request left out is moved ahead of earlier ones, and the new order is kept when it
+ * places at least as many requests with no more leftover time. Independent searches with
+ * different seeds run as a fork/join task until every request is placed, the deadline passes or
+ * they stop improving, and the best solution wins: most requests placed, then the least leftover gap time.
+ */
+final class MeetingScheduleSolver {
+
+    // a search gives up after this many passes without improving its best solution
+    private static final int STALE_PASS_LIMIT = 2000;
+
+    private final List<Request> requests;
+    private final List<Long> allRoomIds;
+    private final Map<Long, List<long[]>> roomBusy;
+    private final Map<Long, List<long[]>> userBusy;
+    private final AtomicBoolean solved = new AtomicBoolean();
+    private final AtomicLong passes = new AtomicLong();
+
+    MeetingScheduleSolver(List<Request> requests, List<Long> allRoomIds, Map<Long, List<long[]>> roomBusy, Map<Long, List<long[]>> userBusy) {
+        this.requests = requests;
+        this.allRoomIds = allRoomIds;
+        this.roomBusy = roomBusy;
+        this.userBusy = userBusy;
+    }
+
+    /**
+     * Runs {@code searches} independent searches on {@code pool} until {@code deadlineNanos}
+     * ({@link System#nanoTime()}) and returns the best solution found.
+     */
+    Solution solve(ForkJoinPool pool, int searches, long deadlineNanos) {
+        if (requests.isEmpty()) {
+            return new Solution(new BestFitRoomPlanner.Placement[0], 0, 0);
+        }
+
+        return pool.invoke(new SearchTask(0, Math.max(1, searches), deadlineNanos));
+    }
+
+    /**
+     * Greedy passes evaluated so far, over all searches.
+     */
+    long passes() {
+        return passes.get();
+    }
+
+    private Solution search(int seed, long deadlineNanos) {
+        Random random = new Random(seed);
+        int[] order = initialOrder();
+
+        if (seed > 0) {
+            shuffle(order, random);
+        }
+
+        Solution current = place(order);
+        Solution best = current;
+        int stale = 0;
+
+        while (best.placed() < requests.size() && stale < STALE_PASS_LIMIT && !solved.get() && System.nanoTime() < deadlineNanos) {
+            stale++;
+            int[] candidate = moveLeftOutForward(order, current, random);
+            Solution neighbour = place(candidate);
+
+            if (!current.isBetterThan(neighbour)) {
+                order = candidate;
+                current = neighbour;
+
+                if (current.isBetterThan(best)) {
+                    best = current;
+                    stale = 0;
+                }
+            }
+        }
+
+        if (best.placed() == requests.size()) {
+            solved.set(true);
+        }
+
+        return best;
+    }
+
+    /**
+     * One greedy pass: every request in {@code order} goes to its best fit given the ones before it.
+     */
+    Solution place(int[] order) {
+        passes.incrementAndGet();
+
+        BestFitRoomPlanner.Placement[] placements = new BestFitRoomPlanner.Placement[requests.size()];
+        Map<Long, List<long[]>> placedRooms = new HashMap<>();
+        Map<Long, List<long[]>> placedUsers = new HashMap<>();
+        int placed = 0;
+        long leftover = 0;
+
+        for (int index : order) {
+            Request request = requests.get(index);
+            List<Long> roomIds = request.roomIds() != null ? request.roomIds() : allRoomIds;
+            BestFitRoomPlanner planner = new BestFitRoomPlanner(request.earliest(), request.latest(), request.duration());
+
+            for (Long roomId : roomIds) {
+                addAll(planner, roomId, roomBusy.get(roomId));
+                addAll(planner, roomId, placedRooms.get(roomId));
+            }
+            addAll(planner, null, userBusy.get(request.userId()));
+            addAll(planner, null, placedUsers.get(request.userId()));
+
+            BestFitRoomPlanner.Placement placement = planner.plan(roomIds);
+
+            if (placement != null) {
+                long[] interval = {placement.start(), placement.start() + request.duration()};
+                placedRooms.computeIfAbsent(placement.roomId(), id -> new ArrayList<>()).add(interval);
+                placedUsers.computeIfAbsent(request.userId(), id -> new ArrayList<>()).add(interval);
+                placements[index] = placement;
+                placed++;
+                leftover += placement.leftover();
+            }
+        }
+
+        return new Solution(placements, placed, leftover);
+    }
+
+    private int[] initialOrder() {
+        Integer[] order = new Integer[requests.size()];
+
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, Comparator
+                .comparingLong((Integer i) -> requests.get(i).slack())
+                .thenComparingInt(i -> requests.get(i).roomIds() != null ? requests.get(i).roomIds().size() : allRoomIds.size())
+                .thenComparingInt(i -> i));
+
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] moveLeftOutForward(int[] order, Solution current, Random random) {
+        List<Integer> leftOut = new ArrayList<>();
+
+        for (int position = 0; position < order.length; position++) {
+            if (current.placements()[order[position]] == null) {
+                leftOut.add(position);
+            }
+        }
+
+        int[] candidate = order.clone();
+        int from = leftOut.get(random.nextInt(leftOut.size()));
+
+        if (from == 0) {
+            // already first: swap two other requests so the search keeps moving
+            int a = random.nextInt(order.length);
+            int b = random.nextInt(order.length);
+            int swap = candidate[a];
+            candidate[a] = candidate[b];
+            candidate[b] = swap;
+            return candidate;
+        }
+
+        int to = random.nextInt(from);
+        int moved = candidate[from];
+        System.arraycopy(candidate, to, candidate, to + 1, from - to);
+        candidate[to] = moved;
+
+        return candidate;
+    }
+
+    private static void shuffle(int[] order, Random random) {
+        List<Integer> list = new ArrayList<>(order.length);
+        for (int index : order) {
+            list.add(index);
+        }
+
+        Collections.shuffle(list, random);
+
+        for (int i = 0; i < order.length; i++) {
+            order[i] = list.get(i);
+        }
+    }
+
+    private static void addAll(BestFitRoomPlanner planner, Long roomId, List<long[]> intervals) {
+        if (intervals == null) {
+            return;
+        }
+
+        for (long[] interval : intervals) {
+            if (roomId != null) {
+                planner.addRoomBusy(roomId, interval[0], interval[1]);
+            } else {
+                planner.addUserBusy(interval[0], interval[1]);
+            }
+        }
+    }
+
+    /**
+     * A request to place: {@code roomIds == null} allows every room.
+     */
+    record Request(Long userId, long earliest, long latest, long duration, List<Long> roomIds) {
+
+        long slack() {
+            return latest - earliest - duration;
+        }
+    }
+
+    /**
+     * Placement per request index ({@code null} when left out), how many were placed and the sum of
+     * the gap time they left over.
+     */
+    record Solution(BestFitRoomPlanner.Placement[] placements, int placed, long leftover) {
+
+        boolean isBetterThan(Solution other) {
+            if (placed != other.placed) {
+                return placed > other.placed;
+            }
+
+            return leftover < other.leftover;
+        }
+    }
+
+    private final class SearchTask extends RecursiveTask<Solution> {
+
+        private final int from;
+        private final int to;
+        private final long deadlineNanos;
+
+        private SearchTask(int from, int to, long deadlineNanos) {
+            this.from = from;
+            this.to = to;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        protected Solution compute() {
+            if (to - from == 1) {
+                return search(from, deadlineNanos);
+            }
+
+            int middle = (from + to) >>> 1;
+            SearchTask left = new SearchTask(from, middle, deadlineNanos);
+            left.fork();
+            Solution right = new SearchTask(middle, to, deadlineNanos).compute();
+            Solution leftBest = left.join();
+
+            return right.isBetterThan(leftBest) ? right : leftBest;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.evoluservices.schedule_api.meeting;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.user.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * A recurring meeting. The room and user are only ever read by id and stay lazy; the exceptions are
+ * fetched with the series by the {@link MeetingSeriesRepository} queries, so loading any number of
+ * series is a single select.
+ */
+@Entity
+@Table(name = "meeting_series")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "starts_at", nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at", nullable = false)
+    private LocalDateTime endsAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecurrenceFrequency frequency;
+
+    @Column(name = "interval_value", nullable = false)
+    private int interval;
+
+    @Column(name = "occurrence_count")
+    private Integer count;
+
+    @Column(name = "until_at")
+    private LocalDateTime until;
+
+    @Column(name = "last_ends_at", nullable = false)
+    private LocalDateTime lastEndsAt;
+
+    @ElementCollection
+    @CollectionTable(name = "meeting_series_exceptions", joinColumns = @JoinColumn(name = "series_id"))
+    @Column(name = "occurrence_starts_at")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Set<LocalDateTime> exceptions = new HashSet<>();
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Room room;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public RecurrenceRule toRule() {
+        return new RecurrenceRule(startsAt, Duration.between(startsAt, endsAt), frequency, interval, count, until, Set.copyOf(exceptions));
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingSeriesDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingSeriesDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseOccurrenceDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/meetings/series")
+@Tag(name = "Reuniões recorrentes", description = "Operações relacionadas a reuniões que se repetem")
+public class MeetingSeriesController {
+
+    @Autowired
+    private MeetingSeriesService meetingSeriesService;
+
+    @Operation(summary = "Criar uma reunião recorrente")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Recorrência criada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Regra de recorrência inválida informada"),
+            @ApiResponse(responseCode = "404", description = "Sala ou usuário informado não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Conflito de reunião detectado em alguma ocorrência")
+    })
+    @PostMapping
+    public ResponseEntity<ResponseMeetingSeriesDto> create(@RequestBody CreateMeetingSeriesDto dto) {
+        ResponseMeetingSeriesDto newSeries = meetingSeriesService.create(dto);
+        return ResponseEntity.ok(newSeries);
+    }
+
+    @Operation(summary = "Buscar detalhes da recorrência por id")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Recorrência retornada com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Recorrência não encontrada")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<ResponseMeetingSeriesDto> findById(@PathVariable Long id) {
+        ResponseMeetingSeriesDto series = meetingSeriesService.findById(id);
+        return ResponseEntity.ok(series);
+    }
+
+    @Operation(summary = "Listar as ocorrências da recorrência dentro de um período")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ocorrências retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Período inválido informado"),
+            @ApiResponse(responseCode = "404", description = "Recorrência não encontrada")
+    })
+    @GetMapping("/{id}/occurrences")
+    public ResponseEntity<List<ResponseOccurrenceDto>> findOccurrences(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<ResponseOccurrenceDto> occurrences = meetingSeriesService.findOccurrences(id, from, to);
+        return ResponseEntity.ok(occurrences);
+    }
+
+    @Operation(summary = "Excluir recorrência por id")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Recorrência excluída com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Recorrência não encontrada")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        meetingSeriesService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.evoluservices.schedule_api.meeting;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MeetingSeriesRepository extends JpaRepository<MeetingSeries, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = "exceptions")
+    Optional<MeetingSeries> findById(Long id);
+
+    @Query("""
+            SELECT s
+            FROM MeetingSeries s
+            LEFT JOIN FETCH s.exceptions
+            WHERE (s.room.id IN :roomIds OR s.user.id IN :userIds)
+              AND s.startsAt < :endsAt
+              AND s.lastEndsAt > :startsAt
+            """)
+    List<MeetingSeries> findSpanning(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("userIds") Collection<Long> userIds,
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("endsAt") LocalDateTime endsAt
+    );
+
+    @Query("""
+            SELECT s
+            FROM MeetingSeries s
+            LEFT JOIN FETCH s.exceptions
+            WHERE s.room IS NOT NULL
+              AND s.startsAt < :endsAt
+              AND s.lastEndsAt > :startsAt
+            """)
+    List<MeetingSeries> findSpanningAnyRoom(
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("endsAt") LocalDateTime endsAt
+    );
+
+    @Query("""
+            SELECT s
+            FROM MeetingSeries s
+            LEFT JOIN FETCH s.exceptions
+            WHERE s.room.id = :roomId
+              AND s.startsAt < :endsAt
+              AND s.lastEndsAt > :startsAt
+            """)
+    List<MeetingSeries> findSpanningRoom(
+            @Param("roomId") Long roomId,
+            @Param("startsAt") LocalDateTime startsAt,
+            @Param("endsAt") LocalDateTime endsAt
+    );
+
+    @Query("""
+            SELECT new com.evoluservices.schedule_api.meeting.MeetingSlot(s.id, s.room.id, s.user.id, s.startsAt, s.lastEndsAt)
+            FROM MeetingSeries s
+            """)
+    List<MeetingSlot> findAllSpans();
+}
@@ -0,0 +1,323 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingSeriesDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingSeriesDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseOccurrenceDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+@Service
+public class MeetingSeriesService {
+
+    private static final int MAX_YEAR = 9999;
+
+    @Autowired
+    private MeetingSeriesRepository meetingSeriesRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private MeetingBookingLocks bookingLocks;
+
+    @Autowired
+    private MeetingSeriesSpans seriesSpans;
+
+    public ResponseMeetingSeriesDto create(CreateMeetingSeriesDto dto) {
+        User user = userRepository.findById(dto.userId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
+
+        Room room = roomRepository.findById(dto.roomId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada"));
+
+        validateRecurrence(dto);
+
+        MeetingSeries series = new MeetingSeries();
+        series.setStartsAt(dto.startsAt());
+        series.setEndsAt(dto.endsAt());
+        series.setFrequency(dto.frequency());
+        series.setInterval(dto.interval() != null ? dto.interval() : 1);
+        series.setCount(dto.count());
+        series.setUntil(dto.until());
+        series.setExceptions(dto.exceptions() != null ? new HashSet<>(dto.exceptions()) : new HashSet<>());
+        series.setUser(user);
+        series.setRoom(room);
+
+        RecurrenceRule rule = series.toRule();
+        series.setLastEndsAt(lastEndsAt(rule));
+
+        MeetingSeries savedSeries = bookingLocks.withLocks(room.getId(), user.getId(), () -> {
+            validateAgainstMeetings(rule, room.getId(), user.getId(), series.getLastEndsAt());
+            validateAgainstSeries(rule, room.getId(), user.getId(), series.getLastEndsAt());
+
+            MeetingSeries saved = meetingSeriesRepository.save(series);
+            // before the locks are released, so no booking of the room or user misses it
+            seriesSpans.add(new MeetingSlot(saved.getId(), room.getId(), user.getId(), saved.getStartsAt(), saved.getLastEndsAt()));
+            return saved;
+        });
+
+        return toResponseDto(savedSeries);
+    }
+
+    public ResponseMeetingSeriesDto findById(Long id) {
+        return toResponseDto(findSeries(id));
+    }
+
+    public List<ResponseOccurrenceDto> findOccurrences(Long id, LocalDateTime from, LocalDateTime to) {
+        MeetingSeries series = findSeries(id);
+
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe um intervalo válido com início e fim");
+        }
+
+        RecurrenceRule rule = series.toRule();
+        Long userId = series.getUser() != null ? series.getUser().getId() : null;
+        Long roomId = series.getRoom() != null ? series.getRoom().getId() : null;
+
+        return rule.occurrences(from, to)
+                .map(start -> new ResponseOccurrenceDto(series.getId(), start, start.plus(rule.duration()), userId, roomId))
+                .toList();
+    }
+
+    public void delete(Long id) {
+        meetingSeriesRepository.delete(findSeries(id));
+    }
+
+    /**
+     * Rejects a single meeting that would overlap an occurrence of a series in the same room or
+     * with the organizer or one of the invitees. Only the series spanning the requested time are
+     * loaded, in one query for all participants.
+     */
+    public void validateAvailability(Long roomId, Long userId, Collection<Long> attendeeIds, LocalDateTime startsAt, LocalDateTime endsAt) {
+        List<Long> userIds = new ArrayList<>(attendeeIds);
+        userIds.add(userId);
+        SeriesCalendar calendar = calendarFor(Collections.singleton(roomId), userIds, startsAt, endsAt);
+
+        if (calendar.hasRoomConflict(roomId, startsAt, endsAt)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Já existe uma reunião agendada para esta sala neste horário");
+        }
+
+        if (userId != null && calendar.hasUserConflict(userId, startsAt, endsAt)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "O usuário já possui uma reunião neste horário");
+        }
+
+        for (Long attendeeId : attendeeIds) {
+            if (calendar.hasUserConflict(attendeeId, startsAt, endsAt)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "O participante " + attendeeId + " já possui uma reunião neste horário");
+            }
+        }
+    }
+
+    /**
+     * The series of the rooms and users spanning {@code [from, to)}; no query is run when
+     * {@link MeetingSeriesSpans} knows none of them has a series there.
+     */
+    public SeriesCalendar calendarFor(Collection<Long> roomIds, Collection<Long> userIds, LocalDateTime from, LocalDateTime to) {
+        if (!seriesSpans.mayOverlap(roomIds, userIds, from, to)) {
+            return new SeriesCalendar(List.of());
+        }
+
+        return new SeriesCalendar(meetingSeriesRepository.findSpanning(roomIds, userIds, from, to));
+    }
+
+    private void validateAgainstMeetings(RecurrenceRule rule, Long roomId, Long userId, LocalDateTime lastEndsAt) {
+        List<MeetingSlot> roomSlots = meetingRepository.findSlotsByRoomIdsBetween(List.of(roomId), rule.startsAt(), lastEndsAt);
+
+        if (roomSlots.stream().anyMatch(slot -> rule.overlaps(slot.startsAt(), slot.endsAt()))) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Já existe uma reunião agendada para esta sala neste horário");
+        }
+
+        List<MeetingSlot> userSlots = meetingRepository.findSlotsByUserIdsBetween(List.of(userId), rule.startsAt(), lastEndsAt);
+
+        if (userSlots.stream().anyMatch(slot -> rule.overlaps(slot.startsAt(), slot.endsAt()))) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "O usuário já possui uma reunião neste horário");
+        }
+    }
+
+    private void validateAgainstSeries(RecurrenceRule rule, Long roomId, Long userId, LocalDateTime lastEndsAt) {
+        List<MeetingSeries> spanning = meetingSeriesRepository.findSpanning(List.of(roomId), List.of(userId), rule.startsAt(), lastEndsAt);
+
+        for (MeetingSeries other : spanning) {
+            RecurrenceRule otherRule = other.toRule();
+            LocalDateTime from = max(rule.startsAt(), other.getStartsAt());
+            LocalDateTime to = min(lastEndsAt, other.getLastEndsAt());
+
+            // walk only the new series' occurrences inside the shared span; each probe into the other rule is O(1)
+            boolean overlaps = rule.occurrences(from, to)
+                    .anyMatch(start -> otherRule.overlaps(start, start.plus(rule.duration())));
+
+            if (overlaps && other.getRoom() != null && Objects.equals(other.getRoom().getId(), roomId)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Já existe uma reunião agendada para esta sala neste horário");
+            }
+
+            if (overlaps) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "O usuário já possui uma reunião neste horário");
+            }
+        }
+    }
+
+    private void validateRecurrence(CreateMeetingSeriesDto dto) {
+        if (dto.startsAt() == null || dto.endsAt() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Datas de início e fim são obrigatórias");
+        }
+
+        if (!dto.endsAt().isAfter(dto.startsAt())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Data de término deve ser após a data de início");
+        }
+
+        if (dto.frequency() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Frequência da recorrência é obrigatória");
+        }
+
+        int interval = dto.interval() != null ? dto.interval() : 1;
+
+        if (interval < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Intervalo da recorrência deve ser maior que zero");
+        }
+
+        if ((dto.count() == null) == (dto.until() == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe a quantidade de ocorrências ou a data limite da recorrência");
+        }
+
+        if (dto.count() != null && dto.count() < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Quantidade de ocorrências deve ser maior que zero");
+        }
+
+        if (dto.until() != null && dto.until().isBefore(dto.startsAt())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Data limite da recorrência deve ser após o início");
+        }
+
+        Duration shortestPeriod = switch (dto.frequency()) {
+            case DAILY -> Duration.ofDays(interval);
+            case WEEKLY -> Duration.ofDays(7L * interval);
+            case MONTHLY -> Duration.ofDays(28L * interval);
+        };
+
+        if (Duration.between(dto.startsAt(), dto.endsAt()).compareTo(shortestPeriod) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A duração da reunião deve ser menor que o intervalo da recorrência");
+        }
+    }
+
+    /**
+     * A count or until far enough ahead overflows the date arithmetic or leaves the range of the
+     * timestamp columns; both are rejected here instead of failing with a 500.
+     */
+    private static LocalDateTime lastEndsAt(RecurrenceRule rule) {
+        LocalDateTime lastEndsAt;
+
+        try {
+            lastEndsAt = rule.lastEndsAt();
+        } catch (DateTimeException | ArithmeticException exception) {
+            lastEndsAt = LocalDateTime.MAX;
+        }
+
+        if (lastEndsAt.getYear() > MAX_YEAR) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A recorrência ultrapassa a data máxima suportada");
+        }
+
+        return lastEndsAt;
+    }
+
+    private MeetingSeries findSeries(Long id) {
+        return meetingSeriesRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Recorrência não encontrada"));
+    }
+
+    private ResponseMeetingSeriesDto toResponseDto(MeetingSeries series) {
+        return new ResponseMeetingSeriesDto(
+                series.getId(),
+                series.getStartsAt(),
+                series.getEndsAt(),
+                series.getUser() != null ? series.getUser().getId() : null,
+                series.getRoom() != null ? series.getRoom().getId() : null,
+                series.getFrequency(),
+                series.getInterval(),
+                series.getCount(),
+                series.getUntil(),
+                series.getExceptions().stream().sorted().toList(),
+                series.getLastEndsAt(),
+                series.getCreatedAt(),
+                series.getUpdatedAt()
+        );
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * Recurrence rules of the series loaded for a time window, grouped by room and by user.
+     */
+    public static final class SeriesCalendar {
+
+        private final Map<Long, List<RecurrenceRule>> byRoom;
+        private final Map<Long, List<RecurrenceRule>> byUser;
+
+        private SeriesCalendar(List<MeetingSeries> series) {
+            this.byRoom = series.stream()
+                    .filter(s -> s.getRoom() != null)
+                    .collect(Collectors.groupingBy(s -> s.getRoom().getId(), Collectors.mapping(MeetingSeries::toRule, Collectors.toList())));
+            this.byUser = series.stream()
+                    .filter(s -> s.getUser() != null)
+                    .collect(Collectors.groupingBy(s -> s.getUser().getId(), Collectors.mapping(MeetingSeries::toRule, Collectors.toList())));
+        }
+
+        public boolean hasRoomConflict(Long roomId, LocalDateTime startsAt, LocalDateTime endsAt) {
+            return byRoom.getOrDefault(roomId, List.of()).stream().anyMatch(rule -> rule.overlaps(startsAt, endsAt));
+        }
+
+        public boolean hasUserConflict(Long userId, LocalDateTime startsAt, LocalDateTime endsAt) {
+            return byUser.getOrDefault(userId, List.of()).stream().anyMatch(rule -> rule.overlaps(startsAt, endsAt));
+        }
+
+        /**
+         * Calls {@code action} with the start and end of every occurrence in {@code roomId} intersecting {@code [from, to)}.
+         */
+        public void forEachRoomOccurrence(Long roomId, LocalDateTime from, LocalDateTime to, BiConsumer<LocalDateTime, LocalDateTime> action) {
+            forEachOccurrence(byRoom.getOrDefault(roomId, List.of()), from, to, action);
+        }
+
+        /**
+         * Calls {@code action} with the start and end of every occurrence of {@code userId} intersecting {@code [from, to)}.
+         */
+        public void forEachUserOccurrence(Long userId, LocalDateTime from, LocalDateTime to, BiConsumer<LocalDateTime, LocalDateTime> action) {
+            forEachOccurrence(byUser.getOrDefault(userId, List.of()), from, to, action);
+        }
+
+        private static void forEachOccurrence(List<RecurrenceRule> rules, LocalDateTime from, LocalDateTime to,
+                                              BiConsumer<LocalDateTime, LocalDateTime> action) {
+            for (RecurrenceRule rule : rules) {
+                rule.occurrences(from, to).forEach(start -> action.accept(start, start.plus(rule.duration())));
+            }
+        }
+    }
+}
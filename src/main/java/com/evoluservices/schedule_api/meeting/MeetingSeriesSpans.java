@@ -0,0 +1,78 @@
+package com.evoluservices.schedule_api.meeting;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The time spanned by the recurring series of each room and user, from the first occurrence's
+ * start to the last one's end, so booking checks can skip the series query for the many rooms and
+ * users that have no series around the requested time. Loaded with {@link MeetingScheduleIndex}
+ * and, like it, only aware of the series created by this JVM; until loaded every lookup goes to
+ * the database. Spans only grow: a deleted series keeps its span and costs a query, never a miss.
+ */
+@Component
+public class MeetingSeriesSpans {
+
+    private final Map<Long, Span> rooms = new ConcurrentHashMap<>();
+    private final Map<Long, Span> users = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+
+    /**
+     * {@code series} holds one slot per series, from its start to {@code lastEndsAt}. Series added
+     * while it was being read are merged, not replaced.
+     */
+    public void load(List<MeetingSlot> series) {
+        series.forEach(this::add);
+        loaded = true;
+    }
+
+    public void add(MeetingSlot series) {
+        Span span = new Span(series.startsAt(), series.endsAt());
+
+        if (series.roomId() != null) {
+            rooms.merge(series.roomId(), span, Span::union);
+        }
+
+        if (series.userId() != null) {
+            users.merge(series.userId(), span, Span::union);
+        }
+    }
+
+    /**
+     * Whether a series of any of the rooms or users may have an occurrence in {@code [from, to)}.
+     */
+    public boolean mayOverlap(Collection<Long> roomIds, Collection<Long> userIds, LocalDateTime from, LocalDateTime to) {
+        if (!loaded) {
+            return true;
+        }
+
+        return anyOverlaps(rooms, roomIds, from, to) || anyOverlaps(users, userIds, from, to);
+    }
+
+    private static boolean anyOverlaps(Map<Long, Span> spans, Collection<Long> ids, LocalDateTime from, LocalDateTime to) {
+        for (Long id : ids) {
+            Span span = id != null ? spans.get(id) : null;
+
+            if (span != null && span.startsAt().isBefore(to) && span.endsAt().isAfter(from)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private record Span(LocalDateTime startsAt, LocalDateTime endsAt) {
+
+        Span union(Span other) {
+            return new Span(
+                    startsAt.isBefore(other.startsAt) ? startsAt : other.startsAt,
+                    endsAt.isAfter(other.endsAt) ? endsAt : other.endsAt);
+        }
+    }
+}
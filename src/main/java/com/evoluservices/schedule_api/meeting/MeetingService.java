@@ -1,20 +1,48 @@
 package com.evoluservices.schedule_api.meeting;
 
+import com.evoluservices.schedule_api.change.ChangeEntityType;
+import com.evoluservices.schedule_api.change.ChangeOperation;
+import com.evoluservices.schedule_api.change.ChangeOutbox;
+import com.evoluservices.schedule_api.meeting.dto.AutoAssignMeetingDto;
 import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingCursorPageDto;
 import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
 import com.evoluservices.schedule_api.meeting.dto.UpdateMeetingDto;
 import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomEventBroadcaster;
 import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.room.RoomScheduleVersions;
+import com.evoluservices.schedule_api.room.RoomUtilizationRollup;
 import com.evoluservices.schedule_api.user.User;
 import com.evoluservices.schedule_api.user.UserRepository;
+import com.evoluservices.schedule_api.web.VersionTag;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 public class MeetingService {
@@ -22,12 +50,54 @@ public class MeetingService {
     @Autowired
     private MeetingRepository meetingRepository;
 
+    @Autowired
+    private MeetingAttendeeRepository meetingAttendeeRepository;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private RoomRepository roomRepository;
 
+    @Autowired
+    private MeetingScheduleIndex scheduleIndex;
+
+    @Autowired
+    private MeetingBookingLocks bookingLocks;
+
+    @Autowired
+    private RoomUtilizationRollup utilizationRollup;
+
+    @Autowired
+    private MeetingSeriesService meetingSeriesService;
+
+    @Autowired
+    private RoomEventBroadcaster roomEvents;
+
+    @Autowired
+    private RoomScheduleVersions roomVersions;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BookingMetrics bookingMetrics;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Value("${schedule.pagination.max-limit:1000}")
+    private int maxPageLimit;
+
+    @Value("${schedule.availability.max-window-days:31}")
+    private int maxWindowDays;
+
+    @Value("${schedule.meetings.max-attendees:500}")
+    private int maxAttendees;
+
     public ResponseMeetingDto create(CreateMeetingDto dto) {
         User user = userRepository.findById(dto.userId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
@@ -39,23 +109,124 @@ public class MeetingService {
         LocalDateTime endsAt = dto.endsAt();
 
         validateTimeRange(startsAt, endsAt);
-        validateRoomAvailability(room.getId(), startsAt, endsAt, null);
-        validateUserAvailability(user.getId(), startsAt, endsAt, null);
 
-        Meeting meeting = new Meeting();
-        meeting.setStartsAt(startsAt);
-        meeting.setEndsAt(endsAt);
-        meeting.setUser(user);
-        meeting.setRoom(room);
+        List<Long> attendeeIds = validateAttendees(user.getId(), dto.attendeeIds());
 
-        Meeting savedMeeting = meetingRepository.save(meeting);
+        Meeting savedMeeting = bookingMetrics.record(room.getId(), () -> withLocks(room.getId(), user.getId(), attendeeIds, () -> {
+            validateAvailability(room.getId(), user.getId(), attendeeIds, startsAt, endsAt, null);
 
-        return toResponseDto(savedMeeting);
+            Meeting meeting = new Meeting();
+            meeting.setStartsAt(startsAt);
+            meeting.setEndsAt(endsAt);
+            meeting.setUser(user);
+            meeting.setRoom(room);
+
+            return saveMeeting(meeting, ChangeOperation.CREATED, null, saved -> meetingAttendeeRepository.saveAll(
+                    attendeeIds.stream().map(attendeeId -> new MeetingAttendee(saved, attendeeId)).toList()));
+        }));
+
+        ResponseMeetingDto response = toResponseDto(savedMeeting);
+        roomVersions.scheduleChanged(response.roomId());
+        roomEvents.publish(RoomEventBroadcaster.MEETING_CREATED, response);
+
+        return response;
+    }
+
+    /**
+     * Books {@code duration} minutes inside {@code [from, to)} in the room that fits best (see
+     * {@link BestFitRoomPlanner}), trying {@code roomIds} first when given and then the other rooms.
+     * The plan is made once, without locks; only the chosen room and the user are then locked, once,
+     * and the slot is validated again like in {@link #create}. When another booking took it in
+     * between, the next slot of the same room is booked under those locks (see {@link #bookInRoom});
+     * another room is tried only when that one is full, so the caller never has to retry on a 409.
+     */
+    public ResponseMeetingDto createInBestRoom(AutoAssignMeetingDto dto) {
+        validateTimeRange(dto.from(), dto.to());
+
+        if (dto.duration() == null || dto.duration() <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Duração deve ser maior que zero");
+        }
+
+        Duration window = Duration.between(dto.from(), dto.to());
+        Duration duration = Duration.ofMinutes(dto.duration());
+
+        if (window.toDays() > maxWindowDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O intervalo pode ter no máximo " + maxWindowDays + " dias");
+        }
+
+        if (duration.compareTo(window) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A duração não cabe no intervalo informado");
+        }
+
+        User user = userRepository.findById(dto.userId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
+
+        List<Long> roomIds = roomRepository.findAllIds();
+        Set<Long> preferred = new LinkedHashSet<>(dto.roomIds() != null ? dto.roomIds() : List.of());
+
+        if (!new HashSet<>(roomIds).containsAll(preferred)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada");
+        }
+
+        List<Long> others = new ArrayList<>(roomIds);
+        others.removeAll(preferred);
+
+        BestFitRoomPlanner planner = loadPlanner(roomIds, user.getId(), dto.from(), dto.to(), duration);
+        Meeting savedMeeting = null;
+
+        while (savedMeeting == null) {
+            BestFitRoomPlanner.Placement placement = planner.plan(preferred);
+            if (placement == null) {
+                placement = planner.plan(others);
+            }
+
+            if (placement == null) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Nenhuma sala livre no período informado");
+            }
+
+            Long roomId = placement.roomId();
+            Optional<Room> room = roomRepository.findById(roomId);
+
+            if (room.isEmpty()) {
+                preferred.remove(roomId);
+                others.remove(roomId);
+                continue;
+            }
+
+            BestFitRoomPlanner.Placement planned = placement;
+
+            try {
+                savedMeeting = bookingMetrics.record(roomId, () -> withLocks(roomId, user.getId(), List.of(),
+                        () -> bookInRoom(planner, planned, room.get(), user, dto.from(), dto.to(), duration)));
+            } catch (ResponseStatusException exception) {
+                if (exception.getStatusCode() != HttpStatus.CONFLICT) {
+                    throw exception;
+                }
+                // the room is full; the planner already knows, so the next pass picks another one
+            }
+        }
+
+        ResponseMeetingDto response = toResponseDto(savedMeeting);
+        roomVersions.scheduleChanged(response.roomId());
+        roomEvents.publish(RoomEventBroadcaster.MEETING_CREATED, response);
+
+        return response;
     }
 
     public Page<ResponseMeetingDto> findAll(Pageable pageable) {
-        return meetingRepository.findAll(pageable)
-                .map(this::toResponseDto);
+        return meetingRepository.findAllResponses(pageable);
+    }
+
+    public ResponseMeetingCursorPageDto findAll(String after, int limit, boolean includeTotal) {
+        MeetingCursor.validateLimit(limit, maxPageLimit);
+        MeetingCursor cursor = MeetingCursor.decode(after);
+
+        List<ResponseMeetingDto> rows = cursor == null
+                ? meetingRepository.findFirstResponses(Limit.of(limit + 1))
+                : meetingRepository.findResponsesAfter(cursor.startsAt(), cursor.id(), Limit.of(limit + 1));
+        Long totalElements = includeTotal ? meetingRepository.count() : null;
+
+        return MeetingCursor.toPage(rows, limit, totalElements);
     }
 
     public ResponseMeetingDto findById(Long id) {
@@ -65,13 +236,52 @@ public class MeetingService {
         return toResponseDto(meeting);
     }
 
-    public ResponseMeetingDto update(Long id, UpdateMeetingDto dto) {
+    public List<Long> findAttendeeIds(Long id) {
+        if (!meetingRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Reunião não encontrada");
+        }
+
+        return meetingAttendeeRepository.findUserIdsByMeetingId(id);
+    }
+
+    /**
+     * Applies the non-null fields of {@code dto}. {@code ifMatch} is the optional {@code If-Match}
+     * header, checked against the loaded version; a concurrent update between that load and the
+     * write is caught by {@code @Version}. A PATCH that changes nothing returns without writing.
+     * {@code attendeeIds} replaces the invitees when given; every participant is checked again
+     * whenever the time, the organizer or the invitees change.
+     */
+    public ResponseMeetingDto update(Long id, UpdateMeetingDto dto, String ifMatch) {
         Meeting meeting = meetingRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Reunião não encontrada"));
 
+        VersionTag.checkIfMatch(ifMatch, meeting.getVersion(), "A reunião foi alterada desde a última leitura");
+
+        MeetingSlot previousSlot = MeetingSlot.of(meeting);
+
+        Long previousRoomId = meeting.getRoom().getId();
+        Long previousUserId = meeting.getUser() != null ? meeting.getUser().getId() : null;
         LocalDateTime startsAt = dto.startsAt() != null ? dto.startsAt() : meeting.getStartsAt();
         LocalDateTime endsAt = dto.endsAt() != null ? dto.endsAt() : meeting.getEndsAt();
 
+        List<MeetingAttendee> previousAttendees = meetingAttendeeRepository.findByMeetingId(id);
+        Set<Long> previousAttendeeIds = previousAttendees.stream().map(MeetingAttendee::getUserId).collect(Collectors.toSet());
+        Long nextUserId = dto.userId() != null ? dto.userId() : previousUserId;
+        List<Long> attendeeIds = dto.attendeeIds() != null
+                ? MeetingAttendee.invitees(nextUserId, dto.attendeeIds())
+                : MeetingAttendee.invitees(nextUserId, previousAttendeeIds);
+
+        boolean attendeesChanged = !previousAttendeeIds.equals(Set.copyOf(attendeeIds));
+        boolean unchanged = startsAt.equals(meeting.getStartsAt())
+                && endsAt.equals(meeting.getEndsAt())
+                && (dto.userId() == null || dto.userId().equals(previousUserId))
+                && (dto.roomId() == null || dto.roomId().equals(previousRoomId))
+                && !attendeesChanged;
+
+        if (unchanged) {
+            return toResponseDto(meeting);
+        }
+
         if (dto.userId() != null) {
             User user = userRepository.findById(dto.userId())
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
@@ -85,28 +295,78 @@ public class MeetingService {
         }
 
         validateTimeRange(startsAt, endsAt);
-        validateRoomAvailability(meeting.getRoom().getId(), startsAt, endsAt, meeting.getId());
 
-        if (meeting.getUser() != null) {
-            validateUserAvailability(meeting.getUser().getId(), startsAt, endsAt, meeting.getId());
+        if (dto.attendeeIds() != null) {
+            validateAttendees(nextUserId, dto.attendeeIds());
         }
 
-        meeting.setStartsAt(startsAt);
-        meeting.setEndsAt(endsAt);
+        Long roomId = meeting.getRoom().getId();
+        Long userId = meeting.getUser() != null ? meeting.getUser().getId() : null;
+        boolean timeChanged = !startsAt.equals(meeting.getStartsAt()) || !endsAt.equals(meeting.getEndsAt());
+        List<MeetingAttendee> removedAttendees = previousAttendees.stream()
+                .filter(attendee -> !attendeeIds.contains(attendee.getUserId()))
+                .toList();
+        List<Long> addedAttendeeIds = attendeeIds.stream()
+                .filter(attendeeId -> !previousAttendeeIds.contains(attendeeId))
+                .toList();
+
+        Meeting updatedMeeting;
+        try {
+            updatedMeeting = bookingMetrics.record(roomId, () -> withLocks(roomId, userId, attendeeIds, () -> {
+                validateAvailability(roomId, userId, attendeeIds, startsAt, endsAt, meeting.getId());
+
+                meeting.setStartsAt(startsAt);
+                meeting.setEndsAt(endsAt);
+
+                if (attendeesChanged) {
+                    // invitees live in their own table; touching the row bumps @Version for ETags and If-Match
+                    meeting.setUpdatedAt(LocalDateTime.now());
+                }
+
+                return saveMeeting(meeting, ChangeOperation.UPDATED, previousSlot, saved -> {
+                    meetingAttendeeRepository.deleteAll(removedAttendees);
+
+                    if (timeChanged) {
+                        meetingAttendeeRepository.updateTimes(saved.getId(), startsAt, endsAt);
+                    }
+
+                    meetingAttendeeRepository.saveAll(addedAttendeeIds.stream()
+                            .map(attendeeId -> new MeetingAttendee(saved, attendeeId))
+                            .toList());
+                });
+            }));
+        } catch (ObjectOptimisticLockingFailureException exception) {
+            throw new ResponseStatusException(ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT,
+                    "A reunião foi alterada por outra requisição");
+        }
 
-        Meeting updatedMeeting = meetingRepository.save(meeting);
+        ResponseMeetingDto response = toResponseDto(updatedMeeting);
+        roomVersions.scheduleChanged(response.roomId());
+        if (!previousRoomId.equals(response.roomId())) {
+            roomVersions.scheduleChanged(previousRoomId);
+        }
+        roomEvents.publish(RoomEventBroadcaster.MEETING_UPDATED, response, previousRoomId);
 
-        return toResponseDto(updatedMeeting);
+        return response;
     }
 
     public void delete(Long id) {
         Meeting meeting = meetingRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Reunião não encontrada"));
 
-        meetingRepository.delete(meeting);
+        ResponseMeetingDto response = toResponseDto(meeting);
+        // under the room lock, so a utilization backfill never sees the row and the rollup disagree
+        bookingLocks.withLocks(List.of(response.roomId()), List.of(), () -> new TransactionTemplate(transactionManager).execute(status -> {
+            meetingRepository.delete(meeting);
+            utilizationRollup.replace(MeetingSlot.of(meeting), null);
+            changeOutbox.record(ChangeEntityType.MEETING, meeting.getId(), ChangeOperation.DELETED, response);
+            return null;
+        }));
+        roomVersions.scheduleChanged(response.roomId());
+        roomEvents.publish(RoomEventBroadcaster.MEETING_DELETED, response);
     }
 
-    private ResponseMeetingDto toResponseDto(Meeting meeting) {
+    ResponseMeetingDto toResponseDto(Meeting meeting) {
         Long userId = meeting.getUser() != null ? meeting.getUser().getId() : null;
         Long roomId = meeting.getRoom() != null ? meeting.getRoom().getId() : null;
 
@@ -117,10 +377,143 @@ public class MeetingService {
                 userId,
                 roomId,
                 meeting.getCreatedAt(),
-                meeting.getUpdatedAt()
+                meeting.getUpdatedAt(),
+                meeting.getVersion()
         );
     }
 
+    /**
+     * Saves the meeting, its room utilization and its outbox row in one transaction, flushing so
+     * constraint violations surface here rather than at commit.
+     */
+    private Meeting saveMeeting(Meeting meeting, ChangeOperation operation) {
+        return saveMeeting(meeting, operation, null, savedMeeting -> {});
+    }
+
+    /**
+     * Same as {@link #saveMeeting(Meeting, ChangeOperation)}, running {@code attendeeWrites} in the
+     * same transaction once the meeting has its id. {@code previous} is the slot before an update,
+     * taken out of the utilization rollup.
+     */
+    private Meeting saveMeeting(Meeting meeting, ChangeOperation operation, MeetingSlot previous, Consumer<Meeting> attendeeWrites) {
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                Meeting savedMeeting = meetingRepository.saveAndFlush(meeting);
+                attendeeWrites.accept(savedMeeting);
+                meetingAttendeeRepository.flush();
+                utilizationRollup.replace(previous, MeetingSlot.of(savedMeeting));
+                changeOutbox.record(ChangeEntityType.MEETING, savedMeeting.getId(), operation, toResponseDto(savedMeeting));
+                return savedMeeting;
+            });
+        } catch (DataIntegrityViolationException exception) {
+            String cause = String.valueOf(exception.getMostSpecificCause().getMessage());
+
+            if (cause.contains("meetings_user_no_overlap")) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "O usuário já possui uma reunião neste horário");
+            }
+
+            if (cause.contains("meeting_attendees_user_no_overlap")) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Um dos participantes já possui uma reunião neste horário");
+            }
+
+            if (cause.contains("meetings_room_no_overlap")) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Já existe uma reunião agendada para esta sala neste horário");
+            }
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Books {@code placement} while holding the room's and the user's locks. A conflict means the plan
+     * missed a booking, typically one committed by another instance: the room's and the user's busy
+     * time is reloaded from the database, the rejected slot is excluded and the room is planned again
+     * under the same locks. The conflict is rethrown only once the room has no slot left, which the
+     * planner then knows as well.
+     */
+    private Meeting bookInRoom(BestFitRoomPlanner planner, BestFitRoomPlanner.Placement placement, Room room, User user,
+                               LocalDateTime from, LocalDateTime to, Duration duration) {
+        BestFitRoomPlanner.Placement current = placement;
+        boolean reloaded = false;
+
+        while (true) {
+            LocalDateTime startsAt = MeetingScheduleIndex.fromEpochSecond(current.start());
+            LocalDateTime endsAt = startsAt.plus(duration);
+
+            try {
+                validateAvailability(room.getId(), user.getId(), startsAt, endsAt, null);
+
+                Meeting meeting = new Meeting();
+                meeting.setStartsAt(startsAt);
+                meeting.setEndsAt(endsAt);
+                meeting.setUser(user);
+                meeting.setRoom(room);
+
+                return saveMeeting(meeting, ChangeOperation.CREATED);
+            } catch (ResponseStatusException exception) {
+                if (exception.getStatusCode() != HttpStatus.CONFLICT) {
+                    throw exception;
+                }
+
+                planner.addRoomBusy(room.getId(), current.start(), current.start() + duration.toSeconds());
+                if (!reloaded) {
+                    addStoredBusy(planner, List.of(room.getId()), user.getId(), from, to);
+                    reloaded = true;
+                }
+
+                current = planner.plan(List.of(room.getId()));
+                if (current == null) {
+                    throw exception;
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the busy time of the candidate rooms and of the user inside the window, from the schedule
+     * index when it is ready (one query otherwise) plus the series occurrences.
+     */
+    private BestFitRoomPlanner loadPlanner(List<Long> roomIds, Long userId, LocalDateTime from, LocalDateTime to, Duration duration) {
+        BestFitRoomPlanner planner = new BestFitRoomPlanner(
+                MeetingScheduleIndex.toEpochSecond(from), MeetingScheduleIndex.toEpochSecond(to), duration.toSeconds());
+
+        if (scheduleIndex.isReady()) {
+            scheduleIndex.readConsistent(() -> {
+                for (Long roomId : roomIds) {
+                    scheduleIndex.forEachRoomInterval(roomId, from, to, (start, end) -> planner.addRoomBusy(roomId, start, end));
+                }
+                scheduleIndex.forEachUserInterval(userId, from, to, planner::addUserBusy);
+                return planner;
+            });
+        } else {
+            addStoredBusy(planner, roomIds, userId, from, to);
+        }
+
+        MeetingSeriesService.SeriesCalendar seriesCalendar = meetingSeriesService.calendarFor(roomIds, List.of(userId), from, to);
+
+        for (Long roomId : roomIds) {
+            seriesCalendar.forEachRoomOccurrence(roomId, from, to, (start, end) ->
+                    planner.addRoomBusy(roomId, MeetingScheduleIndex.toEpochSecond(start), MeetingScheduleIndex.toEpochSecond(end)));
+        }
+        seriesCalendar.forEachUserOccurrence(userId, from, to, (start, end) ->
+                planner.addUserBusy(MeetingScheduleIndex.toEpochSecond(start), MeetingScheduleIndex.toEpochSecond(end)));
+
+        return planner;
+    }
+
+    /**
+     * Adds the meetings stored in the database for the rooms and the user; overlapping what the
+     * planner already holds is harmless.
+     */
+    private void addStoredBusy(BestFitRoomPlanner planner, List<Long> roomIds, Long userId, LocalDateTime from, LocalDateTime to) {
+        for (MeetingSlot slot : meetingRepository.findSlotsByRoomIdsBetween(roomIds, from, to)) {
+            planner.addRoomBusy(slot.roomId(), MeetingScheduleIndex.toEpochSecond(slot.startsAt()), MeetingScheduleIndex.toEpochSecondCeiling(slot.endsAt()));
+        }
+        for (MeetingSlot slot : meetingRepository.findSlotsByUserIdsBetween(List.of(userId), from, to)) {
+            planner.addUserBusy(MeetingScheduleIndex.toEpochSecond(slot.startsAt()), MeetingScheduleIndex.toEpochSecondCeiling(slot.endsAt()));
+        }
+    }
+
     private void validateTimeRange(LocalDateTime startsAt, LocalDateTime endsAt) {
         if (startsAt == null || endsAt == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Datas de início e fim são obrigatórias");
@@ -131,20 +524,105 @@ public class MeetingService {
         }
     }
 
-    private void validateRoomAvailability(Long roomId, LocalDateTime startsAt, LocalDateTime endsAt, Long meetingId) {
-        boolean hasConflict = meetingRepository.existsOverlappingMeeting(roomId, startsAt, endsAt, meetingId);
+    /**
+     * Room, user and recurring-series checks, observed as {@code schedule.booking.validation} with a
+     * nested {@code schedule.booking.overlap} per lookup (tagged by scope and by whether the
+     * in-memory index or the database answered).
+     */
+    private void validateAvailability(Long roomId, Long userId, LocalDateTime startsAt, LocalDateTime endsAt, Long meetingId) {
+        validateAvailability(roomId, userId, List.of(), startsAt, endsAt, meetingId);
+    }
+
+    private void validateAvailability(Long roomId, Long userId, List<Long> attendeeIds, LocalDateTime startsAt, LocalDateTime endsAt, Long meetingId) {
+        Observation.createNotStarted("schedule.booking.validation", observationRegistry).observe(() -> {
+            boolean indexed = scheduleIndex.canCheck(startsAt, endsAt);
+            Conflicts conflicts = indexed
+                    ? scheduleIndex.readConsistent(() -> findConflicts(roomId, userId, attendeeIds, startsAt, endsAt, meetingId, true))
+                    : findConflicts(roomId, userId, attendeeIds, startsAt, endsAt, meetingId, false);
+
+            if (conflicts.room()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Já existe uma reunião agendada para esta sala neste horário");
+            }
+
+            rejectBusyParticipants(userId, attendeeIds, conflicts.busyUserIds());
+            meetingSeriesService.validateAvailability(roomId, userId, attendeeIds, startsAt, endsAt);
+        });
+    }
+
+    /**
+     * Rejects missing or too many invitees and returns them without duplicates or the organizer.
+     * All invitees are looked up in one query.
+     */
+    private List<Long> validateAttendees(Long organizerId, List<Long> requestedIds) {
+        List<Long> attendeeIds = MeetingAttendee.invitees(organizerId, requestedIds);
+
+        if (attendeeIds.size() > maxAttendees) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A reunião pode ter no máximo " + maxAttendees + " participantes");
+        }
+
+        if (!attendeeIds.isEmpty() && userRepository.findAllById(attendeeIds).size() != attendeeIds.size()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Participante não encontrado");
+        }
+
+        return attendeeIds;
+    }
+
+    private <T> T withLocks(Long roomId, Long userId, List<Long> attendeeIds, Supplier<T> action) {
+        if (attendeeIds.isEmpty()) {
+            return bookingLocks.withLocks(roomId, userId, action);
+        }
+
+        List<Long> userIds = new ArrayList<>(attendeeIds);
+        userIds.add(userId);
+        return bookingLocks.withLocks(List.of(roomId), userIds, action);
+    }
+
+    /**
+     * Looks the room up first and the organizer and every invitee after it, skipping them when the
+     * room is taken: one lookup per participant in the index, or a single set-based query when the
+     * index cannot answer.
+     */
+    private Conflicts findConflicts(Long roomId, Long userId, List<Long> attendeeIds, LocalDateTime startsAt, LocalDateTime endsAt,
+                                    Long meetingId, boolean indexed) {
+        boolean roomConflict = overlapObservation("room", indexed).observe(() -> indexed
+                ? scheduleIndex.hasRoomConflict(roomId, startsAt, endsAt, meetingId)
+                : meetingRepository.existsOverlappingMeeting(roomId, startsAt, endsAt, meetingId));
+
+        List<Long> participants = new ArrayList<>();
+        if (userId != null) {
+            participants.add(userId);
+        }
+        participants.addAll(attendeeIds);
 
-        if (hasConflict) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Já existe uma reunião agendada para esta sala neste horário");
+        if (roomConflict || participants.isEmpty()) {
+            return new Conflicts(roomConflict, List.of());
         }
+
+        Collection<Long> busy = overlapObservation("user", indexed).observe(() -> indexed
+                ? participants.stream().filter(id -> scheduleIndex.hasUserConflict(id, startsAt, endsAt, meetingId)).toList()
+                : meetingRepository.findBusyUserIds(participants, startsAt, endsAt, meetingId));
+
+        return new Conflicts(false, busy);
     }
 
-    private void validateUserAvailability(Long userId, LocalDateTime startsAt, LocalDateTime endsAt, Long meetingId) {
-        boolean hasConflict = meetingRepository.existsOverlappingMeetingForUser(userId, startsAt, endsAt, meetingId);
+    private static void rejectBusyParticipants(Long userId, List<Long> attendeeIds, Collection<Long> busy) {
+        if (busy.isEmpty()) {
+            return;
+        }
 
-        if (hasConflict) {
+        if (userId != null && busy.contains(userId)) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "O usuário já possui uma reunião neste horário");
         }
+
+        Long attendeeId = attendeeIds.stream().filter(busy::contains).findFirst().orElseThrow();
+        throw new ResponseStatusException(HttpStatus.CONFLICT, "O participante " + attendeeId + " já possui uma reunião neste horário");
+    }
+
+    private Observation overlapObservation(String scope, boolean indexed) {
+        return Observation.createNotStarted("schedule.booking.overlap", observationRegistry)
+                .lowCardinalityKeyValue("scope", scope)
+                .lowCardinalityKeyValue("source", indexed ? "index" : "database");
     }
 
+    private record Conflicts(boolean room, Collection<Long> busyUserIds) {}
 }
@@ -0,0 +1,16 @@
+package com.evoluservices.schedule_api.meeting;
+
+import java.time.LocalDateTime;
+
+public record MeetingSlot(Long id, Long roomId, Long userId, LocalDateTime startsAt, LocalDateTime endsAt) {
+
+    public static MeetingSlot of(Meeting meeting) {
+        return new MeetingSlot(
+                meeting.getId(),
+                meeting.getRoom() != null ? meeting.getRoom().getId() : null,
+                meeting.getUser() != null ? meeting.getUser().getId() : null,
+                meeting.getStartsAt(),
+                meeting.getEndsAt()
+        );
+    }
+}
@@ -0,0 +1,284 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingAssignmentDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingBatchDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingBatchItemDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingSolutionDto;
+import com.evoluservices.schedule_api.meeting.dto.SolveMeetingItemDto;
+import com.evoluservices.schedule_api.meeting.dto.SolveMeetingsDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Plans many meetings at once with {@link MeetingScheduleSolver}: each request gives a user, a
+ * duration, the earliest start and latest end, and optionally the rooms it may use. The solver
+ * runs on its own fork/join pool within a time budget; the plan can then be booked through
+ * {@link MeetingBatchService}, which locks and checks every item again.
+ */
+@Service
+public class MeetingSolverService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingScheduleIndex scheduleIndex;
+
+    @Autowired
+    private MeetingSeriesService meetingSeriesService;
+
+    @Autowired
+    private MeetingBatchService meetingBatchService;
+
+    @Value("${schedule.solver.max-size:500}")
+    private int maxItems;
+
+    @Value("${schedule.solver.time-budget:2s}")
+    private Duration defaultTimeBudget;
+
+    @Value("${schedule.solver.max-time-budget:10s}")
+    private Duration maxTimeBudget;
+
+    @Value("${schedule.availability.max-window-days:31}")
+    private int maxWindowDays;
+
+    private final ForkJoinPool pool;
+    private final int searches;
+
+    public MeetingSolverService(@Value("${schedule.solver.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        // a few more searches than threads so an early finisher can pick up another seed
+        this.searches = threads * 4;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Solves the requests and, with {@code apply}, books the assignments found.
+     */
+    public ResponseMeetingSolutionDto solve(SolveMeetingsDto dto, boolean apply) {
+        List<SolveMeetingItemDto> items = dto != null ? dto.meetings() : null;
+
+        if (items == null || items.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nenhuma reunião informada");
+        }
+
+        if (items.size() > maxItems) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O lote excede o limite de " + maxItems + " reuniões");
+        }
+
+        Duration budget = timeBudget(dto.timeBudgetMillis());
+        long began = System.nanoTime();
+
+        Set<Long> userIds = items.stream().filter(item -> item != null && item.userId() != null)
+                .map(SolveMeetingItemDto::userId).collect(Collectors.toSet());
+        Set<Long> users = userRepository.findAllById(userIds).stream().map(User::getId).collect(Collectors.toSet());
+        List<Long> roomIds = roomRepository.findAll(Sort.by("id")).stream().map(Room::getId).toList();
+        Set<Long> rooms = new HashSet<>(roomIds);
+
+        List<ResponseMeetingBatchItemDto> unsatisfiable = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        List<MeetingScheduleSolver.Request> requests = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            ResponseMeetingBatchItemDto rejection = validate(i, items.get(i), users, rooms);
+
+            if (rejection != null) {
+                unsatisfiable.add(rejection);
+                continue;
+            }
+
+            SolveMeetingItemDto item = items.get(i);
+            indexes.add(i);
+            requests.add(new MeetingScheduleSolver.Request(
+                    item.userId(),
+                    MeetingScheduleIndex.toEpochSecond(item.earliest()),
+                    MeetingScheduleIndex.toEpochSecond(item.latest()),
+                    Duration.ofMinutes(item.duration()).toSeconds(),
+                    item.roomIds() != null && !item.roomIds().isEmpty() ? List.copyOf(new HashSet<>(item.roomIds())) : null
+            ));
+        }
+
+        List<ResponseMeetingAssignmentDto> assignments = new ArrayList<>();
+        long passes = 0;
+
+        if (!requests.isEmpty()) {
+            MeetingScheduleSolver solver = solver(requests, indexes.stream().map(items::get).toList(), roomIds);
+            MeetingScheduleSolver.Solution solution = solver.solve(pool, searches, began + budget.toNanos());
+            passes = solver.passes();
+
+            for (int k = 0; k < requests.size(); k++) {
+                BestFitRoomPlanner.Placement placement = solution.placements()[k];
+                int index = indexes.get(k);
+
+                if (placement == null) {
+                    unsatisfiable.add(new ResponseMeetingBatchItemDto(index, HttpStatus.CONFLICT.value(),
+                            "Não foi possível encaixar a reunião sem conflitos", null));
+                    continue;
+                }
+
+                LocalDateTime startsAt = MeetingScheduleIndex.fromEpochSecond(placement.start());
+                assignments.add(new ResponseMeetingAssignmentDto(index, requests.get(k).userId(), placement.roomId(),
+                        startsAt, startsAt.plusSeconds(requests.get(k).duration())));
+            }
+        }
+
+        unsatisfiable.sort((a, b) -> Integer.compare(a.index(), b.index()));
+
+        ResponseMeetingBatchDto booking = null;
+        if (apply && !assignments.isEmpty()) {
+            ResponseMeetingBatchDto created = meetingBatchService.create(assignments.stream()
+                    .map(assignment -> new CreateMeetingDto(assignment.startsAt(), assignment.endsAt(), assignment.userId(), assignment.roomId()))
+                    .toList());
+            // the batch numbers its results by assignment; report them by request index instead
+            booking = new ResponseMeetingBatchDto(created.created(), created.failed(), created.results().stream()
+                    .map(result -> new ResponseMeetingBatchItemDto(assignments.get(result.index()).index(),
+                            result.status(), result.message(), result.meeting()))
+                    .toList());
+        }
+
+        return new ResponseMeetingSolutionDto(assignments, unsatisfiable, passes,
+                Duration.ofNanos(System.nanoTime() - began).toMillis(), booking);
+    }
+
+    /**
+     * Loads the busy time of the rooms and users involved over the span of all windows, from the
+     * schedule index when it is ready (two queries otherwise) plus the series occurrences.
+     */
+    private MeetingScheduleSolver solver(List<MeetingScheduleSolver.Request> requests, List<SolveMeetingItemDto> items, List<Long> allRoomIds) {
+        LocalDateTime from = items.stream().map(SolveMeetingItemDto::earliest).min(LocalDateTime::compareTo).orElseThrow();
+        LocalDateTime to = items.stream().map(SolveMeetingItemDto::latest).max(LocalDateTime::compareTo).orElseThrow();
+
+        Set<Long> roomIds = requests.stream().anyMatch(request -> request.roomIds() == null)
+                ? new HashSet<>(allRoomIds)
+                : requests.stream().flatMap(request -> request.roomIds().stream()).collect(Collectors.toSet());
+        Set<Long> userIds = requests.stream().map(MeetingScheduleSolver.Request::userId).collect(Collectors.toSet());
+
+        Map<Long, List<long[]>> roomBusy = new HashMap<>();
+        Map<Long, List<long[]>> userBusy = new HashMap<>();
+
+        if (scheduleIndex.isReady()) {
+            scheduleIndex.readConsistent(() -> {
+                roomBusy.clear();
+                userBusy.clear();
+                for (Long roomId : roomIds) {
+                    scheduleIndex.forEachRoomInterval(roomId, from, to, (start, end) -> add(roomBusy, roomId, start, end));
+                }
+                for (Long userId : userIds) {
+                    scheduleIndex.forEachUserInterval(userId, from, to, (start, end) -> add(userBusy, userId, start, end));
+                }
+                return null;
+            });
+        } else {
+            for (MeetingSlot slot : meetingRepository.findSlotsByRoomIdsBetween(roomIds, from, to)) {
+                add(roomBusy, slot.roomId(), MeetingScheduleIndex.toEpochSecond(slot.startsAt()), MeetingScheduleIndex.toEpochSecondCeiling(slot.endsAt()));
+            }
+            for (MeetingSlot slot : meetingRepository.findSlotsByUserIdsBetween(userIds, from, to)) {
+                add(userBusy, slot.userId(), MeetingScheduleIndex.toEpochSecond(slot.startsAt()), MeetingScheduleIndex.toEpochSecondCeiling(slot.endsAt()));
+            }
+        }
+
+        MeetingSeriesService.SeriesCalendar seriesCalendar = meetingSeriesService.calendarFor(roomIds, userIds, from, to);
+
+        for (Long roomId : roomIds) {
+            seriesCalendar.forEachRoomOccurrence(roomId, from, to, (start, end) ->
+                    add(roomBusy, roomId, MeetingScheduleIndex.toEpochSecond(start), MeetingScheduleIndex.toEpochSecond(end)));
+        }
+        for (Long userId : userIds) {
+            seriesCalendar.forEachUserOccurrence(userId, from, to, (start, end) ->
+                    add(userBusy, userId, MeetingScheduleIndex.toEpochSecond(start), MeetingScheduleIndex.toEpochSecond(end)));
+        }
+
+        return new MeetingScheduleSolver(requests, allRoomIds, roomBusy, userBusy);
+    }
+
+    private ResponseMeetingBatchItemDto validate(int index, SolveMeetingItemDto item, Set<Long> users, Set<Long> rooms) {
+        if (item == null) {
+            return rejected(index, HttpStatus.BAD_REQUEST, "Reunião não informada");
+        }
+
+        if (item.userId() == null || !users.contains(item.userId())) {
+            return rejected(index, HttpStatus.NOT_FOUND, "Usuário não encontrado");
+        }
+
+        if (item.roomIds() != null && !rooms.containsAll(item.roomIds())) {
+            return rejected(index, HttpStatus.NOT_FOUND, "Sala não encontrada");
+        }
+
+        if (item.earliest() == null || item.latest() == null) {
+            return rejected(index, HttpStatus.BAD_REQUEST, "Datas de início e fim são obrigatórias");
+        }
+
+        if (!item.latest().isAfter(item.earliest())) {
+            return rejected(index, HttpStatus.BAD_REQUEST, "Data de término deve ser após a data de início");
+        }
+
+        if (item.duration() == null || item.duration() <= 0) {
+            return rejected(index, HttpStatus.BAD_REQUEST, "Duração deve ser maior que zero");
+        }
+
+        Duration window = Duration.between(item.earliest(), item.latest());
+
+        if (window.toDays() > maxWindowDays) {
+            return rejected(index, HttpStatus.BAD_REQUEST, "O intervalo pode ter no máximo " + maxWindowDays + " dias");
+        }
+
+        if (Duration.ofMinutes(item.duration()).compareTo(window) > 0) {
+            return rejected(index, HttpStatus.BAD_REQUEST, "A duração não cabe no intervalo informado");
+        }
+
+        return null;
+    }
+
+    private Duration timeBudget(Long millis) {
+        if (millis == null) {
+            return defaultTimeBudget;
+        }
+
+        if (millis <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O tempo limite deve ser maior que zero");
+        }
+
+        Duration requested = Duration.ofMillis(millis);
+        return requested.compareTo(maxTimeBudget) > 0 ? maxTimeBudget : requested;
+    }
+
+    private static void add(Map<Long, List<long[]>> busy, Long key, long start, long end) {
+        busy.computeIfAbsent(key, id -> new ArrayList<>()).add(new long[]{start, end});
+    }
+
+    private static ResponseMeetingBatchItemDto rejected(int index, HttpStatus status, String message) {
+        return new ResponseMeetingBatchItemDto(index, status.value(), message, null);
+    }
+}
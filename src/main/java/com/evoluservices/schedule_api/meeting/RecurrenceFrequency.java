@@ -0,0 +1,7 @@
+package com.evoluservices.schedule_api.meeting;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY
+}
@@ -0,0 +1,115 @@
+package com.evoluservices.schedule_api.meeting;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * RRULE-like recurrence (daily, weekly or monthly, every {@code interval} periods, bounded by a count
+ * or an until date, minus excluded occurrences). Occurrence {@code k} is computed directly from the
+ * first one, so lookups around a given instant are {@code O(1)} and nothing is materialized.
+ * Monthly rules keep the day of month of the first occurrence, clamped to the month length.
+ */
+public record RecurrenceRule(
+        LocalDateTime startsAt,
+        Duration duration,
+        RecurrenceFrequency frequency,
+        int interval,
+        Integer count,
+        LocalDateTime until,
+        Set<LocalDateTime> exceptions
+) {
+
+    public LocalDateTime occurrenceStart(long index) {
+        long periods = index * interval;
+
+        return switch (frequency) {
+            case DAILY -> startsAt.plusDays(periods);
+            case WEEKLY -> startsAt.plusWeeks(periods);
+            case MONTHLY -> startsAt.plusMonths(periods);
+        };
+    }
+
+    public long lastIndex() {
+        if (count != null) {
+            return count - 1L;
+        }
+
+        long index = Math.max(0, periodsBetween(startsAt, until) / interval);
+
+        while (index > 0 && occurrenceStart(index).isAfter(until)) {
+            index--;
+        }
+
+        while (!occurrenceStart(index + 1).isAfter(until)) {
+            index++;
+        }
+
+        return index;
+    }
+
+    public LocalDateTime lastEndsAt() {
+        return occurrenceStart(lastIndex()).plus(duration);
+    }
+
+    /**
+     * Occurrences intersecting {@code [from, to)}, generated lazily starting at the first relevant one.
+     */
+    public Stream<LocalDateTime> occurrences(LocalDateTime from, LocalDateTime to) {
+        long last = lastIndex();
+
+        return LongStream.rangeClosed(firstIndexEndingAfter(from), last)
+                .mapToObj(this::occurrenceStart)
+                .takeWhile(start -> start.isBefore(to))
+                .filter(start -> !exceptions.contains(start));
+    }
+
+    public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        long last = lastIndex();
+
+        for (long index = firstIndexEndingAfter(from); index <= last; index++) {
+            LocalDateTime start = occurrenceStart(index);
+
+            if (!start.isBefore(to)) {
+                return false;
+            }
+
+            if (!exceptions.contains(start)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private long firstIndexEndingAfter(LocalDateTime instant) {
+        LocalDateTime threshold = instant.minus(duration);
+
+        if (threshold.isBefore(startsAt)) {
+            return 0;
+        }
+
+        long index = periodsBetween(startsAt, threshold) / interval;
+
+        while (index > 0 && occurrenceStart(index - 1).isAfter(threshold)) {
+            index--;
+        }
+
+        while (!occurrenceStart(index).isAfter(threshold)) {
+            index++;
+        }
+
+        return index;
+    }
+
+    private long periodsBetween(LocalDateTime from, LocalDateTime to) {
+        return switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(from, to);
+            case WEEKLY -> ChronoUnit.WEEKS.between(from, to);
+            case MONTHLY -> ChronoUnit.MONTHS.between(from, to);
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.evoluservices.schedule_api.meeting.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AutoAssignMeetingDto(
+        LocalDateTime from,
+        LocalDateTime to,
+        Integer duration,
+        Long userId,
+        List<Long> roomIds
+) {
+}
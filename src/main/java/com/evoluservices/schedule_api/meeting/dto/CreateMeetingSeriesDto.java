@@ -0,0 +1,19 @@
+package com.evoluservices.schedule_api.meeting.dto;
+
+import com.evoluservices.schedule_api.meeting.RecurrenceFrequency;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CreateMeetingSeriesDto(
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        Long userId,
+        Long roomId,
+        RecurrenceFrequency frequency,
+        Integer interval,
+        Integer count,
+        LocalDateTime until,
+        List<LocalDateTime> exceptions
+) {
+}
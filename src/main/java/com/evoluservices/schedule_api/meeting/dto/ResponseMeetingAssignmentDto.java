@@ -0,0 +1,12 @@
+package com.evoluservices.schedule_api.meeting.dto;
+
+import java.time.LocalDateTime;
+
+public record ResponseMeetingAssignmentDto(
+        int index,
+        Long userId,
+        Long roomId,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt
+) {
+}
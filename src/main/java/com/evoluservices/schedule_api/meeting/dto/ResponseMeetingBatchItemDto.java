@@ -0,0 +1,4 @@
+package com.evoluservices.schedule_api.meeting.dto;
+
+public record ResponseMeetingBatchItemDto(int index, int status, String message, ResponseMeetingDto meeting) {
+}
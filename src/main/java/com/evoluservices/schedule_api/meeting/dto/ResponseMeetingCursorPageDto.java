@@ -0,0 +1,6 @@
+package com.evoluservices.schedule_api.meeting.dto;
+
+import java.util.List;
+
+public record ResponseMeetingCursorPageDto(List<ResponseMeetingDto> content, String next, Long totalElements) {
+}
@@ -3,5 +3,5 @@ package com.evoluservices.schedule_api.meeting.dto;
 
 import java.time.LocalDateTime;
 
-public record ResponseMeetingDto(Long id, LocalDateTime startsAt, LocalDateTime endsAt, Long userId, Long roomId, LocalDateTime createdAt, LocalDateTime updatedAt) {
+public record ResponseMeetingDto(Long id, LocalDateTime startsAt, LocalDateTime endsAt, Long userId, Long roomId, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
 }
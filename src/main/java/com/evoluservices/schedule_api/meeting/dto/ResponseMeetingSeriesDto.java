@@ -0,0 +1,23 @@
+package com.evoluservices.schedule_api.meeting.dto;
+
+import com.evoluservices.schedule_api.meeting.RecurrenceFrequency;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ResponseMeetingSeriesDto(
+        Long id,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        Long userId,
+        Long roomId,
+        RecurrenceFrequency frequency,
+        int interval,
+        Integer count,
+        LocalDateTime until,
+        List<LocalDateTime> exceptions,
+        LocalDateTime lastEndsAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
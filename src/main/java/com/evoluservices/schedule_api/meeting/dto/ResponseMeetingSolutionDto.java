@@ -0,0 +1,12 @@
+package com.evoluservices.schedule_api.meeting.dto;
+
+import java.util.List;
+
+public record ResponseMeetingSolutionDto(
+        List<ResponseMeetingAssignmentDto> assignments,
+        List<ResponseMeetingBatchItemDto> unsatisfiable,
+        long passes,
+        long elapsedMillis,
+        ResponseMeetingBatchDto booking
+) {
+}
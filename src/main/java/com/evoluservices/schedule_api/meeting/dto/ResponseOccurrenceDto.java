@@ -0,0 +1,6 @@
+package com.evoluservices.schedule_api.meeting.dto;
+
+import java.time.LocalDateTime;
+
+public record ResponseOccurrenceDto(Long seriesId, LocalDateTime startsAt, LocalDateTime endsAt, Long userId, Long roomId) {
+}
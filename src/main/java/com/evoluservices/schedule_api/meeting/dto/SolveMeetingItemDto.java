@@ -0,0 +1,13 @@
+package com.evoluservices.schedule_api.meeting.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SolveMeetingItemDto(
+        Long userId,
+        Integer duration,
+        LocalDateTime earliest,
+        LocalDateTime latest,
+        List<Long> roomIds
+) {
+}
@@ -0,0 +1,9 @@
+package com.evoluservices.schedule_api.meeting.dto;
+
+import java.util.List;
+
+public record SolveMeetingsDto(
+        List<SolveMeetingItemDto> meetings,
+        Long timeBudgetMillis
+) {
+}
@@ -1,11 +1,17 @@
 package com.evoluservices.schedule_api.meeting.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public record UpdateMeetingDto(
         LocalDateTime startsAt,
         LocalDateTime endsAt,
         Long userId,
-        Long roomId
+        Long roomId,
+        List<Long> attendeeIds
 ) {
+
+    public UpdateMeetingDto(LocalDateTime startsAt, LocalDateTime endsAt, Long userId, Long roomId) {
+        this(startsAt, endsAt, userId, roomId, null);
+    }
 }
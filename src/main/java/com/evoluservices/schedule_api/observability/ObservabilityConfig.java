@@ -0,0 +1,27 @@
+package com.evoluservices.schedule_api.observability;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ObservabilityConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "schedule.metrics.query-count.enabled", havingValue = "true", matchIfMissing = true)
+    public HibernatePropertiesCustomizer queryCountStatementInspector() {
+        return properties -> properties.put("hibernate.session_factory.statement_inspector", new QueryCountStatementInspector());
+    }
+
+    /**
+     * Per-room booking meters are tagged with the room id; beyond this many rooms new ones are
+     * dropped instead of growing the registry without bound.
+     */
+    @Bean
+    public MeterFilter bookingRoomTagLimit(@Value("${schedule.metrics.max-room-tags:1000}") int maxRoomTags) {
+        return MeterFilter.maximumAllowableTags("schedule.booking", "room", maxRoomTags, MeterFilter.deny());
+    }
+}
@@ -0,0 +1,54 @@
+package com.evoluservices.schedule_api.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the number of Hibernate statements each request runs as the {@code http.server.requests.queries}
+ * distribution, tagged like {@code http.server.requests} by method and URI template. Runs ahead of
+ * the security chain so the principal lookup is counted too. Statements issued through
+ * {@code JdbcTemplate} (outbox inserts, exports) are not included.
+ */
+@Component
+@Profile("!reactive")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "schedule.metrics.query-count.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        QueryCountStatementInspector.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queries = QueryCountStatementInspector.end();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("Comandos SQL executados pelo Hibernate por requisição")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                    .minimumExpectedValue(1.0)
+                    .maximumExpectedValue(1000.0)
+                    .register(meterRegistry)
+                    .record(queries);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.evoluservices.schedule_api.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a count is open. Outside
+ * of {@link QueryCountFilter} it only costs a thread-local lookup per statement. Tests use
+ * {@link #begin()}/{@link #end()} directly, since unlike Hibernate's global statistics the count
+ * ignores background work such as the change feed relay.
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public static void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    public static int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
@@ -0,0 +1,43 @@
+package com.evoluservices.schedule_api.reactive;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Renders a {@link Pageable} as SQL. Sort properties are translated through a whitelist of
+ * columns, so request parameters never reach the statement text.
+ */
+final class PageableSql {
+
+    private PageableSql() {
+    }
+
+    static String orderBy(Sort sort, Map<String, String> columns) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+
+        return sort.stream()
+                .map(order -> {
+                    String column = columns.get(order.getProperty());
+
+                    if (column == null) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Campo de ordenação inválido: " + order.getProperty());
+                    }
+
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    static String limitOffset(Pageable pageable) {
+        return pageable.isPaged()
+                ? " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset()
+                : "";
+    }
+}
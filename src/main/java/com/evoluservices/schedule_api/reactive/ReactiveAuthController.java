@@ -0,0 +1,55 @@
+package com.evoluservices.schedule_api.reactive;
+
+import com.evoluservices.schedule_api.auth.dto.LoginDto;
+import com.evoluservices.schedule_api.auth.dto.LoginResponseDto;
+import com.evoluservices.schedule_api.security.TokenService;
+import com.evoluservices.schedule_api.user.dto.CreateUserDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Login and registration for the reactive stack. BCrypt is deliberately slow CPU work, so hashing
+ * runs on the parallel scheduler instead of the event loop.
+ */
+@RestController
+@RequestMapping("/auth")
+@Profile("reactive")
+public class ReactiveAuthController {
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<LoginResponseDto>> login(@RequestBody LoginDto dto) {
+        return userRepository.findByEmail(dto.email())
+                .filterWhen(user -> Mono.fromCallable(() -> passwordEncoder.matches(dto.password(), user.getPassword()))
+                        .subscribeOn(Schedulers.parallel()))
+                .map(user -> ResponseEntity.ok(new LoginResponseDto(user.getName(), tokenService.generateToken(user))))
+                .defaultIfEmpty(ResponseEntity.badRequest().build());
+    }
+
+    @PostMapping("/register")
+    public Mono<ResponseEntity<LoginResponseDto>> register(@RequestBody CreateUserDto dto) {
+        return userRepository.findByEmail(dto.email())
+                .flatMap(existing -> Mono.<String>error(new ResponseStatusException(HttpStatus.CONFLICT, "Usuário já existe com este e-mail")))
+                .switchIfEmpty(Mono.fromCallable(() -> passwordEncoder.encode(dto.password())).subscribeOn(Schedulers.parallel()))
+                .flatMap(encodedPassword -> userRepository.insert(dto.name(), dto.email(), encodedPassword))
+                .map(user -> ResponseEntity.ok(new LoginResponseDto(user.getName(), tokenService.generateToken(user))));
+    }
+}
@@ -0,0 +1,57 @@
+package com.evoluservices.schedule_api.reactive;
+
+import com.evoluservices.schedule_api.security.AuthenticationCache;
+import com.evoluservices.schedule_api.security.TokenService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Reactive counterpart of {@code SecurityFilter}. The JWT check is pure CPU work (and cached), and a
+ * principal missing from the cache is loaded through R2DBC, so no event-loop thread ever waits on I/O.
+ */
+class ReactiveAuthenticationFilter implements WebFilter {
+
+    private final TokenService tokenService;
+    private final AuthenticationCache authenticationCache;
+    private final ReactiveUserRepository userRepository;
+
+    ReactiveAuthenticationFilter(TokenService tokenService, AuthenticationCache authenticationCache, ReactiveUserRepository userRepository) {
+        this.tokenService = tokenService;
+        this.authenticationCache = authenticationCache;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String login = tokenService.validateToken(recoverToken(exchange.getRequest()));
+
+        if (login == null) {
+            return chain.filter(exchange);
+        }
+
+        return authenticationCache.reactivePrincipal(login, userRepository::findByEmail)
+                .map(user -> Optional.<Authentication>of(new UsernamePasswordAuthenticationToken(
+                        user, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")))))
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(authentication -> authentication
+                        .map(value -> chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(value)))
+                        .orElseGet(() -> chain.filter(exchange)));
+    }
+
+    private String recoverToken(ServerHttpRequest request) {
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null) return null;
+        return authHeader.replace("Bearer ", "");
+    }
+}
@@ -0,0 +1,78 @@
+package com.evoluservices.schedule_api.reactive;
+
+import com.evoluservices.schedule_api.change.ChangeEntityType;
+import com.evoluservices.schedule_api.change.ChangeFeed;
+import com.evoluservices.schedule_api.change.ChangeOperation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Non-blocking version of {@code ChangeOutbox}: the same {@code change_outbox} rows, written through
+ * R2DBC. Writers wrap the change and its rows in {@link #inTransaction(Mono)}, so both commit or roll
+ * back together and {@link ChangeFeed} is woken up after the commit, like on the servlet stack.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveChangeOutbox {
+
+    // the casts keep H2 (tests), which binds R2DBC strings as CLOBs, able to store them in its enum columns
+    private static final String INSERT = """
+            INSERT INTO change_outbox (entity_type, entity_id, operation, payload, created_at)
+            VALUES (CAST(:entityType AS VARCHAR(16)), :entityId, CAST(:operation AS VARCHAR(16)), :payload, :createdAt)
+            """;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    public <T> Mono<T> inTransaction(Mono<T> change) {
+        return transactionalOperator.transactional(change)
+                .doOnSuccess(result -> changeFeed.wakeUp());
+    }
+
+    public Mono<Void> record(ChangeEntityType entityType, Long entityId, ChangeOperation operation, Object payload) {
+        return Mono.fromCallable(() -> toJson(payload))
+                .flatMap(json -> databaseClient.sql(INSERT)
+                        .bind("entityType", entityType.name())
+                        .bind("entityId", entityId)
+                        .bind("operation", operation.name())
+                        .bind("payload", json)
+                        .bind("createdAt", LocalDateTime.now())
+                        .fetch()
+                        .rowsUpdated())
+                .then();
+    }
+
+    public <T> Mono<Void> recordAll(ChangeEntityType entityType, ChangeOperation operation, List<T> payloads, Function<T, Long> entityId) {
+        return Flux.fromIterable(payloads)
+                .concatMap(payload -> record(entityType, entityId.apply(payload), operation, payload))
+                .then();
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Falha ao serializar registro de alteração", exception);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.evoluservices.schedule_api.reactive;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Spring Boot skips the JDBC DataSource once an R2DBC ConnectionFactory is present. Flyway, the
+ * Hibernate-backed cache statistics and the JPA repositories still need it, so it is declared here
+ * from the usual {@code spring.datasource.*} properties with a small pool; request traffic goes
+ * through R2DBC.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.evoluservices.schedule_api.reactive;
+
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.UpdateMeetingDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same contract as {@code MeetingController} (create, list, find, update, delete) on WebFlux and R2DBC.
+ */
+@RestController
+@RequestMapping("/meetings")
+@Profile("reactive")
+public class ReactiveMeetingController {
+
+    @Autowired
+    private ReactiveMeetingService meetingService;
+
+    @PostMapping
+    public Mono<ResponseEntity<ResponseMeetingDto>> create(@RequestBody CreateMeetingDto dto) {
+        return meetingService.create(dto).map(ResponseEntity::ok);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Page<ResponseMeetingDto>>> findAll(Pageable pageable) {
+        return meetingService.findAll(pageable).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ResponseMeetingDto>> findById(@PathVariable Long id) {
+        return meetingService.findById(id).map(ResponseEntity::ok);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<ResponseMeetingDto>> update(@PathVariable Long id, @RequestBody UpdateMeetingDto dto) {
+        return meetingService.update(id, dto).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return meetingService.delete(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
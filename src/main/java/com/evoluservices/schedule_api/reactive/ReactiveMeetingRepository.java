@@ -0,0 +1,292 @@
+package com.evoluservices.schedule_api.reactive;
+
+import com.evoluservices.schedule_api.meeting.RecurrenceFrequency;
+import com.evoluservices.schedule_api.meeting.RecurrenceRule;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+@Profile("reactive")
+public class ReactiveMeetingRepository {
+
+    private static final String COLUMNS = "id, starts_at, ends_at, user_id, room_id, created_at, updated_at, version";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "startsAt", "starts_at",
+            "endsAt", "ends_at",
+            "userId", "user_id",
+            "roomId", "room_id",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at"
+    );
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    /**
+     * Takes the id from {@code meetings_id_seq} like the JPA side. Hibernate's pooled optimizer
+     * treats every value it fetches as the bound of its own block, so a value fetched here is never
+     * handed out by Hibernate as well.
+     */
+    public Mono<ResponseMeetingDto> insert(LocalDateTime startsAt, LocalDateTime endsAt, Long userId, Long roomId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return databaseClient.sql("SELECT nextval('meetings_id_seq')")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> databaseClient.sql("""
+                                INSERT INTO meetings (id, starts_at, ends_at, user_id, room_id, created_at, updated_at, version)
+                                VALUES (:id, :startsAt, :endsAt, :userId, :roomId, :now, :now, 0)
+                                """)
+                        .bind("id", id)
+                        .bind("startsAt", startsAt)
+                        .bind("endsAt", endsAt)
+                        .bind("userId", userId)
+                        .bind("roomId", roomId)
+                        .bind("now", now)
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(new ResponseMeetingDto(id, startsAt, endsAt, userId, roomId, now, now, 0L)));
+    }
+
+    public Mono<ResponseMeetingDto> findById(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM meetings WHERE id = :id")
+                .bind("id", id)
+                .map(this::toResponseDto)
+                .one();
+    }
+
+    public Mono<Page<ResponseMeetingDto>> findAll(Pageable pageable) {
+        return page("", Map.of(), pageable);
+    }
+
+    public Mono<Page<ResponseMeetingDto>> findByRoomId(Long roomId, Pageable pageable) {
+        return page(" WHERE room_id = :roomId", Map.of("roomId", roomId), pageable);
+    }
+
+    public Flux<ResponseMeetingDto> findAllByRoomId(Long roomId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM meetings WHERE room_id = :roomId ORDER BY starts_at, id")
+                .bind("roomId", roomId)
+                .map(this::toResponseDto)
+                .all();
+    }
+
+    public Mono<Boolean> existsOverlappingMeeting(Long roomId, LocalDateTime startsAt, LocalDateTime endsAt, Long meetingId) {
+        return existsOverlapping("meetings", "id", "room_id", roomId, startsAt, endsAt, meetingId);
+    }
+
+    /**
+     * Whether the user organizes or attends a meeting overlapping the period.
+     */
+    public Mono<Boolean> existsOverlappingMeetingForUser(Long userId, LocalDateTime startsAt, LocalDateTime endsAt, Long meetingId) {
+        return existsOverlapping("meetings", "id", "user_id", userId, startsAt, endsAt, meetingId)
+                .flatMap(busy -> busy
+                        ? Mono.just(true)
+                        : existsOverlapping("meeting_attendees", "meeting_id", "user_id", userId, startsAt, endsAt, meetingId));
+    }
+
+    /**
+     * An invitee of the meeting, other than {@code organizerId}, who organizes or attends another
+     * meeting overlapping the period, i.e. one that would block moving the meeting there.
+     */
+    public Mono<Long> findBusyAttendee(Long meetingId, Long organizerId, LocalDateTime startsAt, LocalDateTime endsAt) {
+        return databaseClient.sql("""
+                        SELECT a.user_id FROM meeting_attendees a
+                        WHERE a.meeting_id = :id
+                          AND a.user_id <> :organizerId
+                          AND (EXISTS (SELECT 1 FROM meetings m
+                                       WHERE m.user_id = a.user_id AND m.id <> :id
+                                         AND m.starts_at < :endsAt AND m.ends_at > :startsAt)
+                               OR EXISTS (SELECT 1 FROM meeting_attendees o
+                                          WHERE o.user_id = a.user_id AND o.meeting_id <> :id
+                                            AND o.starts_at < :endsAt AND o.ends_at > :startsAt))
+                        ORDER BY a.user_id
+                        LIMIT 1
+                        """)
+                .bind("id", meetingId)
+                .bind("organizerId", organizerId != null ? organizerId : -1L)
+                .bind("startsAt", startsAt)
+                .bind("endsAt", endsAt)
+                .map(row -> row.get("user_id", Long.class))
+                .one();
+    }
+
+    /**
+     * Series of the room or the user that span the interval, with their exceptions, as
+     * {@code roomId}/{@code userId}-tagged rules.
+     */
+    public Flux<SeriesRule> findSpanningSeries(Long roomId, Long userId, LocalDateTime startsAt, LocalDateTime endsAt) {
+        Mono<List<SeriesRow>> series = databaseClient.sql("""
+                        SELECT id, starts_at, ends_at, frequency, interval_value, occurrence_count, until_at, room_id, user_id
+                        FROM meeting_series
+                        WHERE (room_id = :roomId OR user_id = :userId)
+                          AND starts_at < :endsAt
+                          AND last_ends_at > :startsAt
+                        """)
+                .bind("roomId", roomId)
+                .bind("userId", userId != null ? userId : -1L)
+                .bind("startsAt", startsAt)
+                .bind("endsAt", endsAt)
+                .map(row -> new SeriesRow(
+                        row.get("id", Long.class),
+                        row.get("starts_at", LocalDateTime.class),
+                        row.get("ends_at", LocalDateTime.class),
+                        RecurrenceFrequency.valueOf(row.get("frequency", String.class)),
+                        row.get("interval_value", Integer.class),
+                        row.get("occurrence_count", Integer.class),
+                        row.get("until_at", LocalDateTime.class),
+                        row.get("room_id", Long.class),
+                        row.get("user_id", Long.class)))
+                .all()
+                .collectList();
+
+        return series.flatMapMany(rows -> {
+            if (rows.isEmpty()) {
+                return Flux.empty();
+            }
+
+            List<Long> ids = rows.stream().map(SeriesRow::id).toList();
+
+            return databaseClient.sql("SELECT series_id, occurrence_starts_at FROM meeting_series_exceptions WHERE series_id IN (:ids)")
+                    .bind("ids", ids)
+                    .map(row -> Map.entry(row.get("series_id", Long.class), row.get("occurrence_starts_at", LocalDateTime.class)))
+                    .all()
+                    .collect(Collectors.groupingBy(Map.Entry::getKey, HashMap::new, Collectors.mapping(Map.Entry::getValue, Collectors.toCollection(HashSet::new))))
+                    .flatMapMany(exceptions -> Flux.fromIterable(rows)
+                            .map(row -> row.toSeriesRule(exceptions.getOrDefault(row.id(), new HashSet<>()))));
+        });
+    }
+
+    /**
+     * Moves the meeting and its invitees' copies of its time in one transaction, so a conflict on
+     * either table leaves both as they were.
+     */
+    public Mono<Long> update(Long id, LocalDateTime startsAt, LocalDateTime endsAt, Long userId, Long roomId) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        UPDATE meetings
+                        SET starts_at = :startsAt, ends_at = :endsAt, user_id = :userId, room_id = :roomId, updated_at = :now, version = version + 1
+                        WHERE id = :id
+                        """)
+                .bind("startsAt", startsAt)
+                .bind("endsAt", endsAt)
+                .bind("roomId", roomId)
+                .bind("now", LocalDateTime.now())
+                .bind("id", id);
+
+        spec = userId != null ? spec.bind("userId", userId) : spec.bindNull("userId", Long.class);
+
+        // invitees carry a copy of the meeting's time; a new organizer stops being an invitee
+        Mono<Long> attendees = databaseClient.sql("""
+                        UPDATE meeting_attendees
+                        SET starts_at = :startsAt, ends_at = :endsAt
+                        WHERE meeting_id = :id
+                        """)
+                .bind("startsAt", startsAt)
+                .bind("endsAt", endsAt)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+        Mono<Long> organizer = userId != null
+                ? databaseClient.sql("DELETE FROM meeting_attendees WHERE meeting_id = :id AND user_id = :userId")
+                        .bind("id", id)
+                        .bind("userId", userId)
+                        .fetch()
+                        .rowsUpdated()
+                : Mono.just(0L);
+
+        return transactionalOperator.transactional(spec.fetch().rowsUpdated()
+                .flatMap(updated -> organizer.then(attendees).thenReturn(updated)));
+    }
+
+    public Mono<Long> delete(Long id) {
+        return databaseClient.sql("DELETE FROM meetings WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Mono<Boolean> existsOverlapping(String table, String idColumn, String column, Long key,
+                                            LocalDateTime startsAt, LocalDateTime endsAt, Long meetingId) {
+        String sql = "SELECT 1 FROM " + table + " WHERE " + column + " = :key AND starts_at < :endsAt AND ends_at > :startsAt"
+                + (meetingId != null ? " AND " + idColumn + " <> :meetingId" : "")
+                + " LIMIT 1";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("key", key)
+                .bind("startsAt", startsAt)
+                .bind("endsAt", endsAt);
+
+        if (meetingId != null) {
+            spec = spec.bind("meetingId", meetingId);
+        }
+
+        return spec.map(row -> true)
+                .one()
+                .defaultIfEmpty(false);
+    }
+
+    private Mono<Page<ResponseMeetingDto>> page(String where, Map<String, Object> parameters, Pageable pageable) {
+        DatabaseClient.GenericExecuteSpec content = databaseClient.sql("SELECT " + COLUMNS + " FROM meetings" + where
+                + PageableSql.orderBy(pageable.getSort(), SORT_COLUMNS) + PageableSql.limitOffset(pageable));
+        DatabaseClient.GenericExecuteSpec count = databaseClient.sql("SELECT COUNT(*) FROM meetings" + where);
+
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            content = content.bind(parameter.getKey(), parameter.getValue());
+            count = count.bind(parameter.getKey(), parameter.getValue());
+        }
+
+        return Mono.zip(
+                content.map(this::toResponseDto).all().collectList(),
+                count.map(row -> row.get(0, Long.class)).one(),
+                (meetings, total) -> new PageImpl<>(meetings, pageable, total)
+        );
+    }
+
+    private ResponseMeetingDto toResponseDto(Readable row) {
+        return new ResponseMeetingDto(
+                row.get("id", Long.class),
+                row.get("starts_at", LocalDateTime.class),
+                row.get("ends_at", LocalDateTime.class),
+                row.get("user_id", Long.class),
+                row.get("room_id", Long.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("version", Long.class)
+        );
+    }
+
+    public record SeriesRule(Long roomId, Long userId, RecurrenceRule rule) {
+    }
+
+    private record SeriesRow(Long id, LocalDateTime startsAt, LocalDateTime endsAt, RecurrenceFrequency frequency,
+                             Integer interval, Integer count, LocalDateTime until, Long roomId, Long userId) {
+
+        SeriesRule toSeriesRule(Set<LocalDateTime> exceptions) {
+            RecurrenceRule rule = new RecurrenceRule(startsAt, Duration.between(startsAt, endsAt), frequency, interval, count, until, exceptions);
+            return new SeriesRule(roomId, userId, rule);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.evoluservices.schedule_api.reactive;
+
+import com.evoluservices.schedule_api.change.ChangeEntityType;
+import com.evoluservices.schedule_api.change.ChangeOperation;
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.UpdateMeetingDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Non-blocking version of {@code MeetingService}. There are no in-process booking locks here:
+ * concurrent bookings that slip past the checks are rejected by the {@code meetings_*_no_overlap}
+ * exclusion constraints and reported as 409, as on the servlet stack. Every write records its
+ * {@code change_outbox} row in the same transaction.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveMeetingService {
+
+    @Autowired
+    private ReactiveMeetingRepository meetingRepository;
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private ReactiveRoomRepository roomRepository;
+
+    @Autowired
+    private ReactiveChangeOutbox changeOutbox;
+
+    public Mono<ResponseMeetingDto> create(CreateMeetingDto dto) {
+        LocalDateTime startsAt = dto.startsAt();
+        LocalDateTime endsAt = dto.endsAt();
+
+        return rejectAttendees(dto.attendeeIds())
+                .then(requireUser(dto.userId()))
+                .then(requireRoom(dto.roomId()))
+                .then(Mono.fromRunnable(() -> validateTimeRange(startsAt, endsAt)))
+                .then(validateAvailability(dto.roomId(), dto.userId(), startsAt, endsAt, null))
+                .then(changeOutbox.inTransaction(meetingRepository.insert(startsAt, endsAt, dto.userId(), dto.roomId())
+                        .flatMap(meeting -> changeOutbox.record(ChangeEntityType.MEETING, meeting.id(), ChangeOperation.CREATED, meeting)
+                                .thenReturn(meeting))))
+                .onErrorMap(DataIntegrityViolationException.class, this::toConflict);
+    }
+
+    public Mono<Page<ResponseMeetingDto>> findAll(Pageable pageable) {
+        return meetingRepository.findAll(pageable);
+    }
+
+    public Mono<ResponseMeetingDto> findById(Long id) {
+        return meetingRepository.findById(id)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Reunião não encontrada")));
+    }
+
+    public Mono<ResponseMeetingDto> update(Long id, UpdateMeetingDto dto) {
+        return findById(id).flatMap(meeting -> {
+            LocalDateTime startsAt = dto.startsAt() != null ? dto.startsAt() : meeting.startsAt();
+            LocalDateTime endsAt = dto.endsAt() != null ? dto.endsAt() : meeting.endsAt();
+            Long userId = dto.userId() != null ? dto.userId() : meeting.userId();
+            Long roomId = dto.roomId() != null ? dto.roomId() : meeting.roomId();
+
+            Mono<Void> userExists = dto.userId() != null ? requireUser(dto.userId()) : Mono.empty();
+            Mono<Void> roomExists = dto.roomId() != null ? requireRoom(dto.roomId()) : Mono.empty();
+
+            return rejectAttendees(dto.attendeeIds())
+                    .then(userExists)
+                    .then(roomExists)
+                    .then(Mono.fromRunnable(() -> validateTimeRange(startsAt, endsAt)))
+                    .then(validateAvailability(roomId, userId, startsAt, endsAt, id))
+                    .then(validateAttendees(id, userId, startsAt, endsAt))
+                    .then(changeOutbox.inTransaction(meetingRepository.update(id, startsAt, endsAt, userId, roomId)
+                            .then(meetingRepository.findById(id))
+                            .flatMap(updated -> changeOutbox.record(ChangeEntityType.MEETING, id, ChangeOperation.UPDATED, updated)
+                                    .thenReturn(updated))));
+        }).onErrorMap(DataIntegrityViolationException.class, this::toConflict);
+    }
+
+    public Mono<Void> delete(Long id) {
+        return changeOutbox.inTransaction(findById(id)
+                .flatMap(meeting -> meetingRepository.delete(id)
+                        .flatMap(deleted -> deleted == 0
+                                ? Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Reunião não encontrada"))
+                                : changeOutbox.record(ChangeEntityType.MEETING, id, ChangeOperation.DELETED, meeting))));
+    }
+
+    private Mono<Void> requireUser(Long userId) {
+        return userRepository.existsById(userId)
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Usuário não encontrado")));
+    }
+
+    private Mono<Void> requireRoom(Long roomId) {
+        return roomRepository.existsById(roomId)
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada")));
+    }
+
+    private Mono<Void> validateAvailability(Long roomId, Long userId, LocalDateTime startsAt, LocalDateTime endsAt, Long meetingId) {
+        Mono<Void> room = meetingRepository.existsOverlappingMeeting(roomId, startsAt, endsAt, meetingId)
+                .flatMap(conflict -> conflict ? Mono.error(roomConflict()) : Mono.empty());
+
+        Mono<Void> user = userId == null
+                ? Mono.empty()
+                : meetingRepository.existsOverlappingMeetingForUser(userId, startsAt, endsAt, meetingId)
+                        .flatMap(conflict -> conflict ? Mono.error(userConflict()) : Mono.empty());
+
+        Mono<Void> series = meetingRepository.findSpanningSeries(roomId, userId, startsAt, endsAt)
+                .filter(candidate -> candidate.rule().overlaps(startsAt, endsAt))
+                .next()
+                .flatMap(candidate -> Mono.error(Objects.equals(candidate.roomId(), roomId) ? roomConflict() : userConflict()));
+
+        return room.then(user).then(series);
+    }
+
+    /**
+     * The meeting's existing invitees must be free at its new time as well.
+     */
+    private Mono<Void> validateAttendees(Long meetingId, Long userId, LocalDateTime startsAt, LocalDateTime endsAt) {
+        return meetingRepository.findBusyAttendee(meetingId, userId, startsAt, endsAt)
+                .flatMap(attendeeId -> Mono.error(new ResponseStatusException(HttpStatus.CONFLICT,
+                        "O participante " + attendeeId + " já possui uma reunião neste horário")));
+    }
+
+    /**
+     * Invitees are only managed by the servlet stack; here they are checked against but not written.
+     */
+    private Mono<Void> rejectAttendees(List<Long> attendeeIds) {
+        return attendeeIds != null && !attendeeIds.isEmpty()
+                ? Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Participantes não são suportados neste perfil"))
+                : Mono.empty();
+    }
+
+    private void validateTimeRange(LocalDateTime startsAt, LocalDateTime endsAt) {
+        if (startsAt == null || endsAt == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Datas de início e fim são obrigatórias");
+        }
+
+        if (!endsAt.isAfter(startsAt)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Data de término deve ser após a data de início");
+        }
+    }
+
+    private Throwable toConflict(DataIntegrityViolationException exception) {
+        String cause = String.valueOf(exception.getMostSpecificCause().getMessage());
+
+        if (cause.contains("meetings_user_no_overlap")) {
+            return userConflict();
+        }
+
+        if (cause.contains("meeting_attendees_user_no_overlap")) {
+            return new ResponseStatusException(HttpStatus.CONFLICT, "Um dos participantes já possui uma reunião neste horário");
+        }
+
+        if (cause.contains("meetings_room_no_overlap")) {
+            return roomConflict();
+        }
+
+        return exception;
+    }
+
+    private ResponseStatusException roomConflict() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Já existe uma reunião agendada para esta sala neste horário");
+    }
+
+    private ResponseStatusException userConflict() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "O usuário já possui uma reunião neste horário");
+    }
+}
@@ -0,0 +1,63 @@
+package com.evoluservices.schedule_api.reactive;
+
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import com.evoluservices.schedule_api.room.dto.CreateRoomDto;
+import com.evoluservices.schedule_api.room.dto.ResponseRoomDto;
+import com.evoluservices.schedule_api.room.dto.UpdateRoomDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same contract as {@code RoomController} (create, list, find, meetings of a room, update, delete)
+ * on WebFlux and R2DBC.
+ */
+@RestController
+@RequestMapping("/rooms")
+@Profile("reactive")
+public class ReactiveRoomController {
+
+    @Autowired
+    private ReactiveRoomService roomService;
+
+    @PostMapping
+    public Mono<ResponseEntity<ResponseRoomDto>> create(@RequestBody CreateRoomDto dto) {
+        return roomService.create(dto).map(ResponseEntity::ok);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Page<ResponseRoomDto>>> findAll(Pageable pageable) {
+        return roomService.findAll(pageable).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ResponseRoomDto>> getById(@PathVariable Long id) {
+        return roomService.findById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}/meetings")
+    public Mono<ResponseEntity<Page<ResponseMeetingDto>>> getMeetingsByRoomId(@PathVariable Long id, Pageable pageable) {
+        return roomService.findMeetingsByRoomId(id, pageable).map(ResponseEntity::ok);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<ResponseRoomDto>> updatePartial(@PathVariable Long id, @RequestBody UpdateRoomDto dto) {
+        return roomService.update(id, dto).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return roomService.delete(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
@@ -0,0 +1,112 @@
+package com.evoluservices.schedule_api.reactive;
+
+import com.evoluservices.schedule_api.room.dto.ResponseRoomDto;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@Profile("reactive")
+public class ReactiveRoomRepository {
+
+    private static final String COLUMNS = "id, name, created_at, updated_at, version";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at"
+    );
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    public Mono<ResponseRoomDto> insert(String name) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return databaseClient.sql("INSERT INTO rooms (name, created_at, updated_at, version) VALUES (:name, :now, :now, 0)")
+                .bind("name", name)
+                .bind("now", now)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> new ResponseRoomDto(id, name, now, now, 0L));
+    }
+
+    public Mono<ResponseRoomDto> findById(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM rooms WHERE id = :id")
+                .bind("id", id)
+                .map(this::toResponseDto)
+                .one();
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT id FROM rooms WHERE id = :id")
+                .bind("id", id)
+                .map(row -> true)
+                .one()
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<Page<ResponseRoomDto>> findAll(Pageable pageable) {
+        Mono<List<ResponseRoomDto>> content = databaseClient
+                .sql("SELECT " + COLUMNS + " FROM rooms" + PageableSql.orderBy(pageable.getSort(), SORT_COLUMNS) + PageableSql.limitOffset(pageable))
+                .map(this::toResponseDto)
+                .all()
+                .collectList();
+        Mono<Long> total = databaseClient.sql("SELECT COUNT(*) FROM rooms")
+                .map(row -> row.get(0, Long.class))
+                .one();
+
+        return Mono.zip(content, total, (rooms, count) -> new PageImpl<>(rooms, pageable, count));
+    }
+
+    public Mono<Long> updateName(Long id, String name) {
+        return databaseClient.sql("UPDATE rooms SET name = :name, updated_at = :now, version = version + 1 WHERE id = :id")
+                .bind("name", name)
+                .bind("now", LocalDateTime.now())
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Deletes the room and its meetings in one transaction, like the cascade on {@code Room.meetings}.
+     */
+    public Mono<Long> delete(Long id) {
+        Mono<Long> deleteRoom = databaseClient.sql("DELETE FROM meetings WHERE room_id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .then(databaseClient.sql("DELETE FROM rooms WHERE id = :id")
+                        .bind("id", id)
+                        .fetch()
+                        .rowsUpdated());
+
+        return transactionalOperator.transactional(deleteRoom);
+    }
+
+    private ResponseRoomDto toResponseDto(Readable row) {
+        return new ResponseRoomDto(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("version", Long.class)
+        );
+    }
+}
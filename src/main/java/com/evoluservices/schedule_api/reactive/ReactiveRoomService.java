@@ -0,0 +1,79 @@
+package com.evoluservices.schedule_api.reactive;
+
+import com.evoluservices.schedule_api.change.ChangeEntityType;
+import com.evoluservices.schedule_api.change.ChangeOperation;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import com.evoluservices.schedule_api.room.dto.CreateRoomDto;
+import com.evoluservices.schedule_api.room.dto.ResponseRoomDto;
+import com.evoluservices.schedule_api.room.dto.UpdateRoomDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking version of {@code RoomService}. Every write records its {@code change_outbox} rows in
+ * the same transaction; deleting a room records the deletion of each of its meetings first.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveRoomService {
+
+    @Autowired
+    private ReactiveRoomRepository roomRepository;
+
+    @Autowired
+    private ReactiveMeetingRepository meetingRepository;
+
+    @Autowired
+    private ReactiveChangeOutbox changeOutbox;
+
+    public Mono<ResponseRoomDto> create(CreateRoomDto dto) {
+        return changeOutbox.inTransaction(roomRepository.insert(dto.name())
+                .flatMap(room -> changeOutbox.record(ChangeEntityType.ROOM, room.id(), ChangeOperation.CREATED, room)
+                        .thenReturn(room)));
+    }
+
+    public Mono<Page<ResponseRoomDto>> findAll(Pageable pageable) {
+        return roomRepository.findAll(pageable);
+    }
+
+    public Mono<ResponseRoomDto> findById(Long id) {
+        return roomRepository.findById(id)
+                .switchIfEmpty(Mono.error(roomNotFound()));
+    }
+
+    public Mono<Page<ResponseMeetingDto>> findMeetingsByRoomId(Long id, Pageable pageable) {
+        return roomRepository.existsById(id)
+                .flatMap(exists -> exists
+                        ? meetingRepository.findByRoomId(id, pageable)
+                        : Mono.error(roomNotFound()));
+    }
+
+    public Mono<ResponseRoomDto> update(Long id, UpdateRoomDto dto) {
+        return findById(id).flatMap(room -> dto.name() != null && !dto.name().isBlank()
+                ? changeOutbox.inTransaction(roomRepository.updateName(id, dto.name())
+                        .then(roomRepository.findById(id))
+                        .flatMap(updated -> changeOutbox.record(ChangeEntityType.ROOM, id, ChangeOperation.UPDATED, updated)
+                                .thenReturn(updated)))
+                : Mono.just(room));
+    }
+
+    public Mono<Void> delete(Long id) {
+        return changeOutbox.inTransaction(findById(id)
+                .flatMap(room -> meetingRepository.findAllByRoomId(id).collectList()
+                        .flatMap(cascaded -> roomRepository.delete(id)
+                                .flatMap(deleted -> deleted == 0
+                                        ? Mono.error(roomNotFound())
+                                        : changeOutbox.recordAll(ChangeEntityType.MEETING, ChangeOperation.DELETED, cascaded, ResponseMeetingDto::id)
+                                                .then(changeOutbox.record(ChangeEntityType.ROOM, id, ChangeOperation.DELETED, room))))));
+    }
+
+    private ResponseStatusException roomNotFound() {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada");
+    }
+}
@@ -0,0 +1,59 @@
+package com.evoluservices.schedule_api.reactive;
+
+import com.evoluservices.schedule_api.user.User;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+@Profile("reactive")
+public class ReactiveUserRepository {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Mono<User> findByEmail(String email) {
+        return databaseClient.sql("SELECT id, name, email, password, created_at, updated_at FROM users WHERE email = :email")
+                .bind("email", email)
+                .map(this::toUser)
+                .one();
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT id FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(row -> true)
+                .one()
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<User> insert(String name, String email, String encodedPassword) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return databaseClient.sql("INSERT INTO users (name, email, password, created_at, updated_at) VALUES (:name, :email, :password, :now, :now)")
+                .bind("name", name)
+                .bind("email", email)
+                .bind("password", encodedPassword)
+                .bind("now", now)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> new User(id, name, email, encodedPassword, now, now));
+    }
+
+    private User toUser(Readable row) {
+        return new User(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("email", String.class),
+                row.get("password", String.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class)
+        );
+    }
+}
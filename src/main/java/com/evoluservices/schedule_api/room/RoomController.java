@@ -1,21 +1,45 @@
 package com.evoluservices.schedule_api.room;
 
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingCursorPageDto;
 import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
 import com.evoluservices.schedule_api.room.dto.CreateRoomDto;
+import com.evoluservices.schedule_api.room.dto.ResponseRoomAvailabilityDto;
 import com.evoluservices.schedule_api.room.dto.ResponseRoomDto;
+import com.evoluservices.schedule_api.room.dto.ResponseRoomUtilizationDto;
+import com.evoluservices.schedule_api.room.dto.ResponseUtilizationBackfillDto;
 import com.evoluservices.schedule_api.room.dto.UpdateRoomDto;
+import com.evoluservices.schedule_api.web.VersionTag;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springdoc.core.annotations.ParameterObject;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/rooms")
 @Tag(name = "Salas", description = "Endpoints para gerenciamento de salas")
 public class RoomController {
@@ -23,6 +47,27 @@ public class RoomController {
     @Autowired
     private RoomService roomService;
 
+    @Autowired
+    private RoomUtilizationService utilizationService;
+
+    @Autowired
+    private RoomUtilizationBackfill utilizationBackfill;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RoomEventBroadcaster roomEvents;
+
+    @Autowired
+    private RoomScheduleVersions roomVersions;
+
+    @Value("${schedule.http-cache.rooms-cache-control:no-cache}")
+    private String roomsCacheControl;
+
+    @Value("${schedule.http-cache.room-meetings-cache-control:no-cache}")
+    private String roomMeetingsCacheControl;
+
     @Operation(summary = "Cadastrar uma nova sala")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Sala criada com sucesso"),
@@ -36,46 +81,164 @@ public class RoomController {
 
     @Operation(summary = "Listar salas com paginação")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Salas retornadas com sucesso")
+            @ApiResponse(responseCode = "200", description = "Salas retornadas com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Nenhuma sala alterada desde a versão informada em If-None-Match")
     })
     @GetMapping
-    public ResponseEntity<Page<ResponseRoomDto>> findAll(@ParameterObject Pageable pageable) {
-        Page<ResponseRoomDto> rooms = roomService.findAll(pageable);
-        return ResponseEntity.ok(rooms);
+    public ResponseEntity<Page<ResponseRoomDto>> findAll(
+            @ParameterObject Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cached(roomVersions.roomsTag(), ifNoneMatch, roomsCacheControl, () -> roomService.findAll(pageable));
     }
 
-    @Operation(summary = "Buscar detalhes da sala por id")
+    @Operation(summary = "Buscar horários livres de todas as salas", description = "Retorna, para cada sala, os intervalos livres no período com pelo menos `duration` minutos")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Disponibilidade retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Período ou duração inválidos")
+    })
+    @GetMapping("/availability")
+    public ResponseEntity<StreamingResponseBody> findAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam Integer duration) {
+        Stream<ResponseRoomAvailabilityDto> availability = roomService.findAvailability(from, to, duration);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+
+                for (Iterator<ResponseRoomAvailabilityDto> rooms = availability.iterator(); rooms.hasNext(); ) {
+                    generator.writeObject(rooms.next());
+                }
+
+                generator.writeEndArray();
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @Operation(summary = "Consultar a ocupação de uma sala", description = "Ocupação por hora, dia ou semana (`granularity`) no período `[from, to)`, calculada a partir dos totais por hora mantidos a cada reserva, e os horários do dia mais ocupados")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ocupação retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Período ou granularidade inválidos"),
+            @ApiResponse(responseCode = "404", description = "Sala não encontrada")
+    })
+    @GetMapping("/{id}/utilization")
+    public ResponseEntity<ResponseRoomUtilizationDto> findUtilization(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(utilizationService.find(id, granularity, from, to));
+    }
+
+    @Operation(summary = "Reconstruir a ocupação das salas", description = "Inicia em segundo plano o recálculo dos totais por hora de todas as salas a partir das reuniões gravadas, em lotes de salas processados em paralelo. O andamento é consultado em `GET /rooms/utilization/backfill`")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Reconstrução iniciada"),
+            @ApiResponse(responseCode = "409", description = "Uma reconstrução já está em andamento")
+    })
+    @PostMapping("/utilization/backfill")
+    public ResponseEntity<ResponseUtilizationBackfillDto> backfillUtilization() {
+        return ResponseEntity.accepted()
+                .location(URI.create("/rooms/utilization/backfill"))
+                .body(utilizationBackfill.start());
+    }
+
+    @Operation(summary = "Consultar a reconstrução da ocupação", description = "Estado (`RUNNING`, `COMPLETED` ou `FAILED`) e andamento da última reconstrução iniciada nesta instância")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estado retornado com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Nenhuma reconstrução foi iniciada")
+    })
+    @GetMapping("/utilization/backfill")
+    public ResponseEntity<ResponseUtilizationBackfillDto> findUtilizationBackfill() {
+        return ResponseEntity.ok(utilizationBackfill.status());
+    }
+
+    @Operation(summary = "Acompanhar reuniões de várias salas em tempo real", description = "Stream Server-Sent Events com os eventos `meeting.created`, `meeting.updated` e `meeting.deleted` das salas informadas em `roomIds`. Um evento `resync` indica que eventos foram descartados e as salas devem ser recarregadas")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream de eventos aberto"),
+            @ApiResponse(responseCode = "400", description = "Nenhuma sala informada"),
+            @ApiResponse(responseCode = "404", description = "Sala não encontrada")
+    })
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamEvents(@RequestParam List<Long> roomIds) {
+        roomService.validateRoomsExist(roomIds);
+        return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(roomEvents.open(roomIds));
+    }
+
+    @Operation(summary = "Buscar detalhes da sala por id", description = "Retorna a versão da sala no cabeçalho `ETag`; envie-a em `If-None-Match` para receber 304 se a sala não mudou")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Sala retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Sala não modificada desde a versão informada"),
             @ApiResponse(responseCode = "404", description = "Sala não encontrada")
     })
     @GetMapping("/{id}")
     public ResponseEntity<ResponseRoomDto> getById(@PathVariable Long id) {
         ResponseRoomDto room = roomService.findById(id);
-        return ResponseEntity.ok(room);
+        return ResponseEntity.ok().eTag(VersionTag.of(room.version())).body(room);
     }
 
     @Operation(summary = "Listar reuniões agendadas para uma sala")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Reuniões retornadas com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Agenda da sala não modificada desde a versão informada em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Sala não encontrada")
     })
     @GetMapping("/{id}/meetings")
-    public ResponseEntity<Page<ResponseMeetingDto>> getMeetingsByRoomId(@PathVariable Long id, @ParameterObject Pageable pageable) {
-        Page<ResponseMeetingDto> roomMeetings = roomService.findMeetingsByRoomId(id, pageable);
-        return ResponseEntity.ok(roomMeetings);
+    public ResponseEntity<Page<ResponseMeetingDto>> getMeetingsByRoomId(
+            @PathVariable Long id,
+            @ParameterObject Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cachedSchedule(id, ifNoneMatch, () -> roomService.findMeetingsByRoomId(id, pageable));
+    }
+
+    @Operation(summary = "Acompanhar reuniões da sala em tempo real", description = "Stream Server-Sent Events com os eventos `meeting.created`, `meeting.updated` e `meeting.deleted` da sala. Um evento `resync` indica que eventos foram descartados e a sala deve ser recarregada")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream de eventos aberto"),
+            @ApiResponse(responseCode = "404", description = "Sala não encontrada")
+    })
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamRoomEvents(@PathVariable Long id) {
+        roomService.validateRoomsExist(List.of(id));
+        return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(roomEvents.open(List.of(id)));
+    }
+
+    @Operation(summary = "Listar reuniões de uma sala por cursor", description = "Ativado pelo parâmetro `limit`. Ordena por início e id; envie o valor de `next` em `after` para obter a próxima página. O total só é calculado com `includeTotal=true`")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reuniões retornadas com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Agenda da sala não modificada desde a versão informada em If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido"),
+            @ApiResponse(responseCode = "404", description = "Sala não encontrada")
+    })
+    @GetMapping(value = "/{id}/meetings", params = "limit")
+    public ResponseEntity<ResponseMeetingCursorPageDto> getMeetingsByRoomIdByCursor(
+            @PathVariable Long id,
+            @RequestParam int limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cachedSchedule(id, ifNoneMatch, () -> roomService.findMeetingsByRoomId(id, after, limit, includeTotal));
     }
 
 
-    @Operation(summary = "Atualizar informações da sala")
+    @Operation(summary = "Atualizar informações da sala", description = "Com `If-Match` a atualização só é aplicada se a sala ainda estiver na versão informada")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Sala atualizada com sucesso"),
-            @ApiResponse(responseCode = "404", description = "Sala não encontrada")
+            @ApiResponse(responseCode = "404", description = "Sala não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Sala alterada por outra requisição durante a atualização"),
+            @ApiResponse(responseCode = "412", description = "Versão informada em If-Match não é a atual")
     })
     @PatchMapping("/{id}")
-    public ResponseEntity<ResponseRoomDto> updatePartial(@PathVariable Long id, @RequestBody UpdateRoomDto dto) {
-        ResponseRoomDto updatedRoom = roomService.update(id, dto);
-        return ResponseEntity.ok(updatedRoom);
+    public ResponseEntity<ResponseRoomDto> updatePartial(
+            @PathVariable Long id,
+            @RequestBody UpdateRoomDto dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ResponseRoomDto updatedRoom = roomService.update(id, dto, ifMatch);
+        return ResponseEntity.ok().eTag(VersionTag.of(updatedRoom.version())).body(updatedRoom);
     }
 
     @Operation(summary = "Excluir sala por id")
@@ -89,4 +252,35 @@ public class RoomController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Answers 304 from the room's change counter when {@code If-None-Match} still matches; otherwise
+     * loads the body and tags it. Schedule tags exist for any id, so the 304 is only sent once the
+     * room is known to exist, a lookup the second-level cache answers without a query once the room
+     * is in it. The tag is read before loading, so a write that commits meanwhile leaves an older tag
+     * on a newer body and only costs a later refetch.
+     */
+    private <T> ResponseEntity<T> cachedSchedule(Long roomId, String ifNoneMatch, Supplier<T> body) {
+        String etag = roomVersions.scheduleTag(roomId);
+
+        if (VersionTag.matchesNoneMatch(ifNoneMatch, etag)) {
+            roomService.findById(roomId);
+        }
+
+        return cached(etag, ifNoneMatch, roomMeetingsCacheControl, body);
+    }
+
+    private <T> ResponseEntity<T> cached(String etag, String ifNoneMatch, String cacheControl, Supplier<T> body) {
+        if (VersionTag.matchesNoneMatch(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().header(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(body.get());
+    }
 }
@@ -0,0 +1,195 @@
+package com.evoluservices.schedule_api.room;
+
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes meeting changes to the Server-Sent Events subscribers of each room. Every event is
+ * serialized once into a complete SSE frame that all subscribers share; fan-out only enqueues that
+ * frame into each subscriber's bounded buffer (see {@link RoomEventSubscription} for the drop
+ * policy), so a slow display never holds up the request that changed the meeting. Idle streams get a
+ * comment frame every {@code schedule.events.heartbeat} to keep proxies from closing them and to
+ * detect disconnected clients. Subscribers are local to this instance.
+ */
+@Component
+public class RoomEventBroadcaster {
+
+    public static final String MEETING_CREATED = "meeting.created";
+    public static final String MEETING_UPDATED = "meeting.updated";
+    public static final String MEETING_DELETED = "meeting.deleted";
+
+    static final byte[] RESYNC_FRAME = "event: resync\ndata: {\"reason\":\"overflow\"}\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEARTBEAT_FRAME = ": heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeat;
+    private final Map<Long, Set<RoomEventSubscription>> subscriptionsByRoom = new ConcurrentHashMap<>();
+    private final Set<RoomEventSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder droppedFrames = new LongAdder();
+
+    public RoomEventBroadcaster(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${schedule.events.buffer-size:256}") int bufferSize,
+            @Value("${schedule.events.dispatch-threads:4}") int dispatchThreads,
+            @Value("${schedule.events.heartbeat:15s}") Duration heartbeatInterval,
+            @Value("${schedule.events.timeout:30m}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads,
+                Thread.ofPlatform().name("room-events-", 0).daemon().factory());
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("room-events-heartbeat").daemon().factory());
+
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("rooms.events.subscribers", subscriptions, Set::size)
+                .description("Assinantes de eventos de sala conectados a esta instância")
+                .register(meterRegistry);
+        FunctionCounter.builder("rooms.events.dropped", droppedFrames, LongAdder::sum)
+                .description("Eventos descartados por assinantes lentos")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens an SSE stream for the given rooms, closed again when the client disconnects or the
+     * stream reaches {@code schedule.events.timeout} (EventSource clients reconnect on their own).
+     */
+    public ResponseBodyEmitter open(Collection<Long> roomIds) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeout.toMillis());
+        RoomEventSubscription subscription = subscribe(roomIds, frame -> emitter.send(frame, MediaType.TEXT_EVENT_STREAM));
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+
+        return emitter;
+    }
+
+    public RoomEventSubscription subscribe(Collection<Long> roomIds, RoomEventSink sink) {
+        RoomEventSubscription subscription = new RoomEventSubscription(
+                Set.copyOf(roomIds), sink, bufferSize, dispatcher, droppedFrames, this::unsubscribe);
+
+        subscriptions.add(subscription);
+        for (Long roomId : subscription.roomIds()) {
+            subscriptionsByRoom.compute(roomId, (id, roomSubscriptions) -> {
+                Set<RoomEventSubscription> updated = roomSubscriptions != null ? roomSubscriptions : ConcurrentHashMap.newKeySet();
+                updated.add(subscription);
+                return updated;
+            });
+        }
+
+        return subscription;
+    }
+
+    public void publish(String type, ResponseMeetingDto meeting) {
+        publish(type, meeting, null);
+    }
+
+    /**
+     * Publishes a meeting change to the subscribers of its room and, when the meeting moved, of the
+     * room it left.
+     */
+    public void publish(String type, ResponseMeetingDto meeting, Long previousRoomId) {
+        Set<RoomEventSubscription> current = subscriptionsByRoom.get(meeting.roomId());
+        Set<RoomEventSubscription> previous = previousRoomId == null || previousRoomId.equals(meeting.roomId())
+                ? null
+                : subscriptionsByRoom.get(previousRoomId);
+
+        if (isEmpty(current) && isEmpty(previous)) {
+            return;
+        }
+
+        byte[] frame = encode(type, meeting);
+
+        if (current != null) {
+            for (RoomEventSubscription subscription : current) {
+                subscription.offer(frame);
+            }
+        }
+
+        if (previous != null) {
+            for (RoomEventSubscription subscription : previous) {
+                if (current == null || !current.contains(subscription)) {
+                    subscription.offer(frame);
+                }
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    public long droppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+
+    private void unsubscribe(RoomEventSubscription subscription) {
+        subscriptions.remove(subscription);
+
+        for (Long roomId : subscription.roomIds()) {
+            subscriptionsByRoom.computeIfPresent(roomId, (id, roomSubscriptions) -> {
+                roomSubscriptions.remove(subscription);
+                return roomSubscriptions.isEmpty() ? null : roomSubscriptions;
+            });
+        }
+    }
+
+    private void sendHeartbeat() {
+        for (RoomEventSubscription subscription : subscriptions) {
+            subscription.offerIdle(HEARTBEAT_FRAME);
+        }
+    }
+
+    private byte[] encode(String type, ResponseMeetingDto meeting) {
+        try {
+            ByteArrayOutputStream frame = new ByteArrayOutputStream(256);
+            frame.writeBytes(("id: " + sequence.incrementAndGet() + "\nevent: " + type + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+            frame.writeBytes(objectMapper.writeValueAsBytes(meeting));
+            frame.writeBytes("\n\n".getBytes(StandardCharsets.UTF_8));
+            return frame.toByteArray();
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Falha ao serializar evento de reunião", exception);
+        }
+    }
+
+    private static boolean isEmpty(Set<RoomEventSubscription> subscriptions) {
+        return subscriptions == null || subscriptions.isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package com.evoluservices.schedule_api.room;
+
+import java.io.IOException;
+
+/**
+ * Destination of the encoded Server-Sent Events frames of one {@link RoomEventSubscription}.
+ * Frames are shared between subscribers and must not be modified.
+ */
+@FunctionalInterface
+public interface RoomEventSink {
+
+    void send(byte[] frame) throws IOException;
+}
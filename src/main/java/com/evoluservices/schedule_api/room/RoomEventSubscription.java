@@ -0,0 +1,108 @@
+package com.evoluservices.schedule_api.room;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * One subscriber of {@link RoomEventBroadcaster}. Frames wait in a bounded buffer until a dispatch
+ * thread drains them into the sink; when the subscriber falls behind the oldest frame is dropped and
+ * a {@code resync} event is sent before the next frame so the client knows to reload its rooms.
+ * At most one dispatch thread drains a subscription at a time.
+ */
+public class RoomEventSubscription implements Runnable {
+
+    private final Set<Long> roomIds;
+    private final RoomEventSink sink;
+    private final ArrayBlockingQueue<byte[]> buffer;
+    private final Executor dispatcher;
+    private final LongAdder droppedFrames;
+    private final Consumer<RoomEventSubscription> onClose;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean overflowed;
+
+    RoomEventSubscription(Set<Long> roomIds, RoomEventSink sink, int bufferSize, Executor dispatcher,
+                          LongAdder droppedFrames, Consumer<RoomEventSubscription> onClose) {
+        this.roomIds = roomIds;
+        this.sink = sink;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.dispatcher = dispatcher;
+        this.droppedFrames = droppedFrames;
+        this.onClose = onClose;
+    }
+
+    public Set<Long> roomIds() {
+        return roomIds;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            onClose.accept(this);
+        }
+    }
+
+    void offer(byte[] frame) {
+        while (!buffer.offer(frame)) {
+            if (buffer.poll() != null) {
+                overflowed = true;
+                droppedFrames.increment();
+            }
+        }
+        schedule();
+    }
+
+    /**
+     * Enqueues a keep-alive only when nothing else is pending, so it never pushes out an event.
+     */
+    void offerIdle(byte[] frame) {
+        if (buffer.isEmpty() && buffer.offer(frame)) {
+            schedule();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            byte[] frame;
+            while (!closed.get() && (frame = buffer.poll()) != null) {
+                if (overflowed) {
+                    overflowed = false;
+                    sink.send(RoomEventBroadcaster.RESYNC_FRAME);
+                }
+                sink.send(frame);
+            }
+        } catch (IOException | RuntimeException exception) {
+            close();
+        } finally {
+            scheduled.set(false);
+        }
+
+        if (!buffer.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if (closed.get() || !scheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            dispatcher.execute(this);
+        } catch (RejectedExecutionException exception) {
+            scheduled.set(false);
+            close();
+        }
+    }
+}
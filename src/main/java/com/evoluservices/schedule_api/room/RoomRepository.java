@@ -1,6 +1,15 @@
 package com.evoluservices.schedule_api.room;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface RoomRepository extends JpaRepository<Room, Long> {
+
+    long countByIdIn(Collection<Long> ids);
+
+    @Query("SELECT r.id FROM Room r ORDER BY r.id")
+    List<Long> findAllIds();
 }
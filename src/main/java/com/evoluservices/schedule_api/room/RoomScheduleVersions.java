@@ -0,0 +1,62 @@
+package com.evoluservices.schedule_api.room;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Change counters behind the ETags of {@code GET /rooms} (one counter for the room list) and
+ * {@code GET /rooms/{id}/meetings} (one counter per room). {@link RoomService} and the meeting
+ * services bump them after their transaction commits, so a request whose {@code If-None-Match}
+ * still matches can be answered with 304 before any query runs.
+ * <p>
+ * Tags carry a random per-instance epoch, so tags issued before a restart never match. Like
+ * {@code MeetingScheduleIndex}, only writes made through this JVM are counted: disable it
+ * ({@code schedule.http-cache.enabled=false}) when several instances write to the same database.
+ */
+@Component
+public class RoomScheduleVersions {
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong rooms = new AtomicLong();
+    // entries are kept after a room is deleted so that its old tags can never match again
+    private final Map<Long, AtomicLong> schedules = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    public RoomScheduleVersions(@Value("${schedule.http-cache.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Tag of the room list, or {@code null} when HTTP caching is disabled.
+     */
+    public String roomsTag() {
+        return enabled ? tag(rooms.get()) : null;
+    }
+
+    /**
+     * Tag of the meetings of {@code roomId}, or {@code null} when HTTP caching is disabled.
+     */
+    public String scheduleTag(Long roomId) {
+        AtomicLong counter = schedules.get(roomId);
+        return enabled ? tag(counter != null ? counter.get() : 0) : null;
+    }
+
+    public void roomsChanged() {
+        rooms.incrementAndGet();
+    }
+
+    public void scheduleChanged(Long roomId) {
+        if (roomId != null) {
+            schedules.computeIfAbsent(roomId, id -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private String tag(long counter) {
+        return "\"" + epoch + "-" + counter + "\"";
+    }
+}
@@ -1,17 +1,48 @@
 package com.evoluservices.schedule_api.room;
 
+import com.evoluservices.schedule_api.change.ChangeEntityType;
+import com.evoluservices.schedule_api.change.ChangeOperation;
+import com.evoluservices.schedule_api.change.ChangeOutbox;
+import com.evoluservices.schedule_api.meeting.MeetingBookingLocks;
+import com.evoluservices.schedule_api.meeting.MeetingCursor;
+import com.evoluservices.schedule_api.meeting.MeetingSeries;
+import com.evoluservices.schedule_api.meeting.MeetingSeriesRepository;
+import com.evoluservices.schedule_api.meeting.MeetingSlot;
+import com.evoluservices.schedule_api.meeting.RecurrenceRule;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingCursorPageDto;
 import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
 import com.evoluservices.schedule_api.meeting.MeetingRepository;
 import com.evoluservices.schedule_api.room.dto.CreateRoomDto;
+import com.evoluservices.schedule_api.room.dto.ResponseFreeSlotDto;
+import com.evoluservices.schedule_api.room.dto.ResponseRoomAvailabilityDto;
 import com.evoluservices.schedule_api.room.dto.ResponseRoomDto;
 import com.evoluservices.schedule_api.room.dto.UpdateRoomDto;
+import com.evoluservices.schedule_api.web.VersionTag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
 @Service
 public class RoomService {
 
@@ -21,13 +52,35 @@ public class RoomService {
     @Autowired
     private MeetingRepository meetingRepository;
 
+    @Autowired
+    private MeetingSeriesRepository meetingSeriesRepository;
+
+    @Autowired
+    private ChangeOutbox changeOutbox;
+
+    @Autowired
+    private RoomScheduleVersions roomVersions;
+
+    @Autowired
+    private RoomEventBroadcaster roomEvents;
+
+    @Autowired
+    private MeetingBookingLocks bookingLocks;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${schedule.availability.max-window-days:31}")
+    private int maxAvailabilityWindowDays;
+
+    @Value("${schedule.pagination.max-limit:1000}")
+    private int maxPageLimit;
+
     public ResponseRoomDto create(CreateRoomDto dto) {
         Room newRoom = new Room();
         newRoom.setName(dto.name());
 
-        Room savedRoom = roomRepository.save(newRoom);
-
-        return toResponseDto(savedRoom);
+        return saveRoom(newRoom, ChangeOperation.CREATED);
 
     }
 
@@ -45,41 +98,160 @@ public class RoomService {
         return toResponseDto(room);
     }
 
+    public void validateRoomsExist(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe ao menos uma sala");
+        }
+
+        Set<Long> distinctIds = new HashSet<>(ids);
+        if (roomRepository.countByIdIn(distinctIds) != distinctIds.size()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada");
+        }
+    }
+
     public Page<ResponseMeetingDto> findMeetingsByRoomId(Long id, Pageable pageable) {
         Room room = roomRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada"));
 
-        return meetingRepository.findByRoomId(room.getId(), pageable)
-                .map(meeting -> new ResponseMeetingDto(
-                        meeting.getId(),
-                        meeting.getStartsAt(),
-                        meeting.getEndsAt(),
-                        meeting.getUser() != null ? meeting.getUser().getId() : null,
-                        meeting.getRoom() != null ? meeting.getRoom().getId() : null,
-                        meeting.getCreatedAt(),
-                        meeting.getUpdatedAt()
-                ));
+        return meetingRepository.findResponsesByRoomId(room.getId(), pageable);
+
+    }
+
+    public ResponseMeetingCursorPageDto findMeetingsByRoomId(Long id, String after, int limit, boolean includeTotal) {
+        if (!roomRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada");
+        }
+
+        MeetingCursor.validateLimit(limit, maxPageLimit);
+        MeetingCursor cursor = MeetingCursor.decode(after);
+
+        List<ResponseMeetingDto> rows = cursor == null
+                ? meetingRepository.findFirstResponsesByRoomId(id, Limit.of(limit + 1))
+                : meetingRepository.findResponsesByRoomIdAfter(id, cursor.startsAt(), cursor.id(), Limit.of(limit + 1));
+        Long totalElements = includeTotal ? meetingRepository.countByRoomId(id) : null;
 
+        return MeetingCursor.toPage(rows, limit, totalElements);
     }
 
-    public ResponseRoomDto update(Long id, UpdateRoomDto dto) {
+    /**
+     * Free intervals of at least {@code durationMinutes} for every room inside {@code [from, to)}.
+     * Busy time for all rooms comes from a single range query over {@code meetings} (plus the series
+     * spanning the window), and each room's gaps are computed lazily with a sweep over its sorted
+     * busy intervals as the result stream is consumed.
+     */
+    public Stream<ResponseRoomAvailabilityDto> findAvailability(LocalDateTime from, LocalDateTime to, Integer durationMinutes) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe um intervalo válido com início e fim");
+        }
+
+        if (Duration.between(from, to).toDays() > maxAvailabilityWindowDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O intervalo pode ter no máximo " + maxAvailabilityWindowDays + " dias");
+        }
+
+        if (durationMinutes == null || durationMinutes <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Duração deve ser maior que zero");
+        }
+
+        Duration duration = Duration.ofMinutes(durationMinutes);
+        Map<Long, List<ResponseFreeSlotDto>> busyByRoom = new HashMap<>();
+
+        for (MeetingSlot slot : meetingRepository.findSlotsBetween(from, to)) {
+            busyByRoom.computeIfAbsent(slot.roomId(), id -> new ArrayList<>())
+                    .add(new ResponseFreeSlotDto(slot.startsAt(), slot.endsAt()));
+        }
+
+        for (MeetingSeries series : meetingSeriesRepository.findSpanningAnyRoom(from, to)) {
+            RecurrenceRule rule = series.toRule();
+            List<ResponseFreeSlotDto> busy = busyByRoom.computeIfAbsent(series.getRoom().getId(), id -> new ArrayList<>());
+            rule.occurrences(from, to).forEach(start -> busy.add(new ResponseFreeSlotDto(start, start.plus(rule.duration()))));
+        }
+
+        return roomRepository.findAll(Sort.by("id")).stream()
+                .map(room -> new ResponseRoomAvailabilityDto(
+                        room.getId(),
+                        room.getName(),
+                        freeSlots(busyByRoom.getOrDefault(room.getId(), List.of()), from, to, duration)
+                ));
+    }
+
+    /**
+     * Renames the room. {@code ifMatch} is the optional {@code If-Match} header; a PATCH that leaves
+     * the name as it is returns without writing.
+     */
+    public ResponseRoomDto update(Long id, UpdateRoomDto dto, String ifMatch) {
         Room room = roomRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada"));
 
-        if (dto.name() != null && !dto.name().isBlank()) {
-            room.setName(dto.name());
+        VersionTag.checkIfMatch(ifMatch, room.getVersion(), "A sala foi alterada desde a última leitura");
+
+        if (dto.name() == null || dto.name().isBlank() || dto.name().equals(room.getName())) {
+            return toResponseDto(room);
         }
 
-        Room savedRoom = roomRepository.save(room);
+        room.setName(dto.name());
 
-        return toResponseDto(savedRoom);
+        try {
+            return saveRoom(room, ChangeOperation.UPDATED);
+        } catch (ObjectOptimisticLockingFailureException exception) {
+            throw new ResponseStatusException(ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT,
+                    "A sala foi alterada por outra requisição");
+        }
     }
 
+    /**
+     * Deletes the room and, through the cascade, its meetings. Each of those meetings gets its own
+     * outbox row and room event, as if it had been deleted on its own; the room lock keeps a booking
+     * from landing in the room between listing its meetings and deleting them.
+     */
     public void delete(Long id) {
         Room room = roomRepository.findById(id).orElseThrow(() ->
                 new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada"));
 
-        roomRepository.delete(room);
+        ResponseRoomDto response = toResponseDto(room);
+        List<ResponseMeetingDto> meetings = bookingLocks.withLocks(List.of(id), List.of(), () -> new TransactionTemplate(transactionManager).execute(status -> {
+            List<ResponseMeetingDto> cascaded = meetingRepository.findFirstResponsesByRoomId(id, Limit.unlimited());
+            roomRepository.delete(room);
+            changeOutbox.recordAll(ChangeEntityType.MEETING, ChangeOperation.DELETED, cascaded, ResponseMeetingDto::id);
+            changeOutbox.record(ChangeEntityType.ROOM, room.getId(), ChangeOperation.DELETED, response);
+            return cascaded;
+        }));
+        roomVersions.roomsChanged();
+        roomVersions.scheduleChanged(room.getId());
+        meetings.forEach(meeting -> roomEvents.publish(RoomEventBroadcaster.MEETING_DELETED, meeting));
+    }
+
+    private ResponseRoomDto saveRoom(Room room, ChangeOperation operation) {
+        ResponseRoomDto saved = new TransactionTemplate(transactionManager).execute(status -> {
+            ResponseRoomDto response = toResponseDto(roomRepository.saveAndFlush(room));
+            changeOutbox.record(ChangeEntityType.ROOM, response.id(), operation, response);
+            return response;
+        });
+        roomVersions.roomsChanged();
+        return saved;
+    }
+
+    private List<ResponseFreeSlotDto> freeSlots(List<ResponseFreeSlotDto> busy, LocalDateTime from, LocalDateTime to, Duration duration) {
+        List<ResponseFreeSlotDto> sorted = new ArrayList<>(busy);
+        sorted.sort(Comparator.comparing(ResponseFreeSlotDto::startsAt));
+
+        List<ResponseFreeSlotDto> free = new ArrayList<>();
+        LocalDateTime cursor = from;
+
+        for (ResponseFreeSlotDto interval : sorted) {
+            if (interval.startsAt().isAfter(cursor) && !Duration.between(cursor, interval.startsAt()).minus(duration).isNegative()) {
+                free.add(new ResponseFreeSlotDto(cursor, interval.startsAt()));
+            }
+
+            if (interval.endsAt().isAfter(cursor)) {
+                cursor = interval.endsAt();
+            }
+        }
+
+        if (to.isAfter(cursor) && !Duration.between(cursor, to).minus(duration).isNegative()) {
+            free.add(new ResponseFreeSlotDto(cursor, to));
+        }
+
+        return free;
     }
 
     private ResponseRoomDto toResponseDto(Room room) {
@@ -87,7 +259,8 @@ public class RoomService {
                 room.getId(),
                 room.getName(),
                 room.getCreatedAt(),
-                room.getUpdatedAt()
+                room.getUpdatedAt(),
+                room.getVersion()
         );
     }
 
@@ -0,0 +1,191 @@
+package com.evoluservices.schedule_api.room;
+
+import com.evoluservices.schedule_api.meeting.MeetingBookingLocks;
+import com.evoluservices.schedule_api.room.dto.ResponseUtilizationBackfillDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rebuilds {@code room_utilization_hourly} from the whole {@code meetings} table, for the history
+ * written before the rollups existed or by writers that bypass {@link RoomUtilizationRollup} (bulk
+ * SQL loads, the reactive profile). Rooms are split into chunks of consecutive ids processed in
+ * parallel; each room is recomputed in its own transaction while holding its booking lock, so a
+ * booking in this instance cannot commit between reading the room's meetings and replacing its rows.
+ * <p>
+ * On a large history this takes minutes, so {@link #start()} only lists the rooms and hands the
+ * chunks to the workers; {@link #status()} reports the progress of the latest run. One run at a
+ * time per instance, and its status is kept in memory only.
+ */
+@Component
+public class RoomUtilizationBackfill {
+
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    private static final Logger log = LoggerFactory.getLogger(RoomUtilizationBackfill.class);
+
+    private static final String INSERT_HOUR = """
+            INSERT INTO room_utilization_hourly (room_id, hour_start, busy_seconds, meetings_started)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeetingBookingLocks bookingLocks;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService workers;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile Job current;
+
+    public RoomUtilizationBackfill(
+            @Value("${schedule.utilization.backfill-threads:4}") int threads,
+            @Value("${schedule.utilization.backfill-chunk-size:100}") int chunkSize) {
+        this.workers = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("utilization-backfill-", 0).daemon().factory());
+        this.chunkSize = chunkSize;
+    }
+
+    public ResponseUtilizationBackfillDto start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Uma reconstrução da utilização já está em andamento");
+        }
+
+        try {
+            List<Long> roomIds = jdbcTemplate.queryForList("SELECT id FROM rooms ORDER BY id", Long.class);
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            Job job = new Job(roomIds.size(), (roomIds.size() + chunkSize - 1) / chunkSize);
+            current = job;
+
+            for (int from = 0; from < roomIds.size(); from += chunkSize) {
+                List<Long> chunk = roomIds.subList(from, Math.min(from + chunkSize, roomIds.size()));
+                chunks.add(CompletableFuture.runAsync(() -> rebuildChunk(chunk, job), workers));
+            }
+
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                    .whenComplete((ignored, failure) -> finish(job, failure));
+
+            return job.toResponseDto();
+        } catch (RuntimeException exception) {
+            running.set(false);
+            throw exception;
+        }
+    }
+
+    /**
+     * The latest run, finished or not.
+     */
+    public ResponseUtilizationBackfillDto status() {
+        Job job = current;
+
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nenhuma reconstrução da utilização foi iniciada");
+        }
+
+        return job.toResponseDto();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void rebuildChunk(List<Long> roomIds, Job job) {
+        for (Long roomId : roomIds) {
+            long[] room = bookingLocks.withLocks(List.of(roomId), List.of(),
+                    () -> new TransactionTemplate(transactionManager).execute(status -> rebuildRoom(roomId)));
+            job.meetings.add(room[0]);
+            job.hours.add(room[1]);
+            job.roomsDone.increment();
+        }
+    }
+
+    private void finish(Job job, Throwable failure) {
+        job.elapsedMillis = (System.nanoTime() - job.began) / 1_000_000;
+
+        if (failure != null) {
+            job.state = State.FAILED;
+            log.warn("Room utilization rebuild failed after {} of {} rooms", job.roomsDone.sum(), job.rooms, failure);
+        } else {
+            job.state = State.COMPLETED;
+            log.info("Room utilization rebuilt for {} rooms ({} meetings, {} hours) in {} ms",
+                    job.rooms, job.meetings.sum(), job.hours.sum(), job.elapsedMillis);
+        }
+
+        running.set(false);
+    }
+
+    /**
+     * Replaces the room's rows with the sums of its meetings; returns meetings read and hours written.
+     */
+    private long[] rebuildRoom(Long roomId) {
+        Map<RoomUtilizationRollup.HourKey, long[]> hours = new TreeMap<>(RoomUtilizationRollup.HourKey.ORDER);
+        long[] meetings = {0};
+
+        jdbcTemplate.query("SELECT starts_at, ends_at FROM meetings WHERE room_id = ?", resultSet -> {
+            RoomUtilizationRollup.accumulate(hours, roomId,
+                    resultSet.getTimestamp(1).toLocalDateTime(), resultSet.getTimestamp(2).toLocalDateTime(), 1);
+            meetings[0]++;
+        }, roomId);
+
+        List<Object[]> rows = new ArrayList<>(hours.size());
+        hours.forEach((key, totals) -> rows.add(new Object[]{roomId, Timestamp.valueOf(key.hourStart()), totals[0], totals[1]}));
+
+        jdbcTemplate.update("DELETE FROM room_utilization_hourly WHERE room_id = ?", roomId);
+        jdbcTemplate.batchUpdate(INSERT_HOUR, rows);
+
+        return new long[]{meetings[0], rows.size()};
+    }
+
+    private static final class Job {
+
+        private final int rooms;
+        private final int chunks;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long began = System.nanoTime();
+        private final LongAdder roomsDone = new LongAdder();
+        private final LongAdder meetings = new LongAdder();
+        private final LongAdder hours = new LongAdder();
+        private volatile State state = State.RUNNING;
+        private volatile long elapsedMillis;
+
+        private Job(int rooms, int chunks) {
+            this.rooms = rooms;
+            this.chunks = chunks;
+        }
+
+        private ResponseUtilizationBackfillDto toResponseDto() {
+            State snapshot = state;
+            long elapsed = snapshot == State.RUNNING ? (System.nanoTime() - began) / 1_000_000 : elapsedMillis;
+
+            return new ResponseUtilizationBackfillDto(snapshot, rooms, chunks, roomsDone.sum(), meetings.sum(), hours.sum(),
+                    startedAt, elapsed);
+        }
+    }
+}
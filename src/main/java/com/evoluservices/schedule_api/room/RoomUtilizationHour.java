@@ -0,0 +1,53 @@
+package com.evoluservices.schedule_api.room;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Rollup row of one room and one hour: seconds covered by meetings and meetings starting in it.
+ * Written only through {@link RoomUtilizationRollup} and {@link RoomUtilizationBackfill}.
+ */
+@Entity
+@Table(name = "room_utilization_hourly")
+@IdClass(RoomUtilizationHour.Key.class)
+@Getter
+@NoArgsConstructor
+public class RoomUtilizationHour {
+
+    @Id
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Id
+    @Column(name = "hour_start")
+    private LocalDateTime hourStart;
+
+    @Column(name = "busy_seconds", nullable = false)
+    private long busySeconds;
+
+    @Column(name = "meetings_started", nullable = false)
+    private int meetingsStarted;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Room room;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private Long roomId;
+        private LocalDateTime hourStart;
+    }
+}
@@ -0,0 +1,25 @@
+package com.evoluservices.schedule_api.room;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RoomUtilizationHourRepository extends JpaRepository<RoomUtilizationHour, RoomUtilizationHour.Key> {
+
+    @Query("""
+            SELECT h
+            FROM RoomUtilizationHour h
+            WHERE h.roomId = :roomId
+              AND h.hourStart >= :from
+              AND h.hourStart < :to
+            ORDER BY h.hourStart
+            """)
+    List<RoomUtilizationHour> findBetween(
+            @Param("roomId") Long roomId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
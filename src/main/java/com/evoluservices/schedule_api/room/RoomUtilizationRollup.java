@@ -0,0 +1,122 @@
+package com.evoluservices.schedule_api.room;
+
+import com.evoluservices.schedule_api.meeting.MeetingSlot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps {@code room_utilization_hourly} in step with {@code meetings}. Meeting writers call it
+ * inside the transaction that writes the meeting, with the slot before and after the change;
+ * each call is one batch creating the missing hour rows and one batch of relative increments, so
+ * concurrent bookings touching the same hour add up instead of overwriting each other. Rows are
+ * updated in (room, hour) order, which keeps concurrent writers from deadlocking on them.
+ */
+@Component
+public class RoomUtilizationRollup {
+
+    private static final String INSERT_HOUR = """
+            INSERT INTO room_utilization_hourly (room_id, hour_start, busy_seconds, meetings_started)
+            VALUES (?, ?, 0, 0)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String INCREMENT = """
+            UPDATE room_utilization_hourly
+            SET busy_seconds = busy_seconds + ?, meetings_started = meetings_started + ?
+            WHERE room_id = ? AND hour_start = ?
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void add(Collection<MeetingSlot> slots) {
+        Map<HourKey, long[]> deltas = new TreeMap<>(HourKey.ORDER);
+        slots.forEach(slot -> accumulate(deltas, slot.roomId(), slot.startsAt(), slot.endsAt(), 1));
+        apply(deltas);
+    }
+
+    /**
+     * Moves a meeting from {@code previous} to {@code current}; either may be {@code null} for a
+     * created or deleted meeting. Hours that end up unchanged are not written.
+     */
+    public void replace(MeetingSlot previous, MeetingSlot current) {
+        Map<HourKey, long[]> deltas = new TreeMap<>(HourKey.ORDER);
+
+        if (previous != null) {
+            accumulate(deltas, previous.roomId(), previous.startsAt(), previous.endsAt(), -1);
+        }
+
+        if (current != null) {
+            accumulate(deltas, current.roomId(), current.startsAt(), current.endsAt(), 1);
+        }
+
+        deltas.values().removeIf(delta -> delta[0] == 0 && delta[1] == 0);
+        apply(deltas);
+    }
+
+    /**
+     * Adds {@code sign} times the meeting {@code [startsAt, endsAt)} to the hours it covers: its
+     * seconds inside each hour, and one meeting started to the hour it starts in.
+     */
+    static void accumulate(Map<HourKey, long[]> hours, Long roomId, LocalDateTime startsAt, LocalDateTime endsAt, int sign) {
+        if (roomId == null || !endsAt.isAfter(startsAt)) {
+            return;
+        }
+
+        LocalDateTime hour = startsAt.truncatedTo(ChronoUnit.HOURS);
+        boolean first = true;
+
+        while (hour.isBefore(endsAt)) {
+            LocalDateTime next = hour.plusHours(1);
+            LocalDateTime from = startsAt.isAfter(hour) ? startsAt : hour;
+            LocalDateTime to = endsAt.isBefore(next) ? endsAt : next;
+
+            long[] totals = hours.computeIfAbsent(new HourKey(roomId, hour), key -> new long[2]);
+            totals[0] += sign * Duration.between(from, to).toSeconds();
+            totals[1] += first ? sign : 0;
+
+            first = false;
+            hour = next;
+        }
+    }
+
+    private void apply(Map<HourKey, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("A utilização das salas deve ser gravada na transação da reunião");
+        }
+
+        List<Object[]> keys = new ArrayList<>(deltas.size());
+        List<Object[]> increments = new ArrayList<>(deltas.size());
+
+        deltas.forEach((key, delta) -> {
+            Timestamp hour = Timestamp.valueOf(key.hourStart());
+            keys.add(new Object[]{key.roomId(), hour});
+            increments.add(new Object[]{delta[0], delta[1], key.roomId(), hour});
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_HOUR, keys);
+        jdbcTemplate.batchUpdate(INCREMENT, increments);
+    }
+
+    record HourKey(Long roomId, LocalDateTime hourStart) {
+
+        static final Comparator<HourKey> ORDER = Comparator.comparing(HourKey::roomId).thenComparing(HourKey::hourStart);
+    }
+}
@@ -0,0 +1,128 @@
+package com.evoluservices.schedule_api.room;
+
+import com.evoluservices.schedule_api.meeting.MeetingSeries;
+import com.evoluservices.schedule_api.meeting.MeetingSeriesRepository;
+import com.evoluservices.schedule_api.meeting.RecurrenceRule;
+import com.evoluservices.schedule_api.room.dto.ResponsePeakHourDto;
+import com.evoluservices.schedule_api.room.dto.ResponseRoomUtilizationDto;
+import com.evoluservices.schedule_api.room.dto.ResponseUtilizationBucketDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+@Service
+public class RoomUtilizationService {
+
+    private static final int PEAK_HOURS = 3;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomUtilizationHourRepository utilizationHourRepository;
+
+    @Autowired
+    private MeetingSeriesRepository meetingSeriesRepository;
+
+    @Value("${schedule.utilization.max-buckets:1000}")
+    private int maxBuckets;
+
+    /**
+     * Occupancy of the room per {@code granularity} bucket inside {@code [from, to)} and its busiest
+     * hours of the day. Reads the hourly rollup rows of the window, at most 24 per day however many
+     * meetings there are, and expands the room's recurring series inside it.
+     */
+    public ResponseRoomUtilizationDto find(Long roomId, String granularity, LocalDate from, LocalDate to) {
+        UtilizationGranularity bucketSize = UtilizationGranularity.from(granularity);
+
+        if (!roomRepository.existsById(roomId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Sala não encontrada");
+        }
+
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe um intervalo válido com início e fim");
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.atStartOfDay();
+        List<LocalDateTime> bucketStarts = new ArrayList<>();
+
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = bucketSize.next(bucket)) {
+            if (bucketStarts.size() == maxBuckets) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O período pode ter no máximo " + maxBuckets + " intervalos");
+            }
+            bucketStarts.add(bucket);
+        }
+
+        Map<RoomUtilizationRollup.HourKey, long[]> hours = new TreeMap<>(RoomUtilizationRollup.HourKey.ORDER);
+
+        for (RoomUtilizationHour hour : utilizationHourRepository.findBetween(roomId, start, end)) {
+            hours.put(new RoomUtilizationRollup.HourKey(roomId, hour.getHourStart()), new long[]{hour.getBusySeconds(), hour.getMeetingsStarted()});
+        }
+
+        for (MeetingSeries series : meetingSeriesRepository.findSpanningRoom(roomId, start, end)) {
+            RecurrenceRule rule = series.toRule();
+            rule.occurrences(start, end).forEach(occurrence ->
+                    RoomUtilizationRollup.accumulate(hours, roomId, occurrence, occurrence.plus(rule.duration()), 1));
+        }
+
+        long[] busy = new long[bucketStarts.size()];
+        long[] meetings = new long[bucketStarts.size()];
+        long[] busyByHourOfDay = new long[24];
+
+        hours.forEach((key, totals) -> {
+            LocalDateTime hour = key.hourStart();
+
+            // series occurrences may start before the window or run past it
+            if (hour.isBefore(start) || !hour.isBefore(end)) {
+                return;
+            }
+
+            int found = Collections.binarySearch(bucketStarts, hour);
+            int bucket = found >= 0 ? found : -found - 2;
+            busy[bucket] += totals[0];
+            meetings[bucket] += totals[1];
+            busyByHourOfDay[hour.getHour()] += totals[0];
+        });
+
+        List<ResponseUtilizationBucketDto> buckets = new ArrayList<>(bucketStarts.size());
+        long totalBusy = 0;
+
+        for (int i = 0; i < bucketStarts.size(); i++) {
+            LocalDateTime bucketEnd = i + 1 < bucketStarts.size() ? bucketStarts.get(i + 1) : end;
+            long seconds = Duration.between(bucketStarts.get(i), bucketEnd).toSeconds();
+            buckets.add(new ResponseUtilizationBucketDto(bucketStarts.get(i), bucketEnd, busy[i] / 60, meetings[i], percent(busy[i], seconds)));
+            totalBusy += busy[i];
+        }
+
+        long days = ChronoUnit.DAYS.between(from, to);
+        List<ResponsePeakHourDto> peakHours = IntStream.range(0, 24)
+                .filter(hour -> busyByHourOfDay[hour] > 0)
+                .boxed()
+                .sorted(Comparator.comparingLong((Integer hour) -> busyByHourOfDay[hour]).reversed().thenComparing(hour -> hour))
+                .limit(PEAK_HOURS)
+                .map(hour -> new ResponsePeakHourDto(hour, busyByHourOfDay[hour] / 60, percent(busyByHourOfDay[hour], days * 3600)))
+                .toList();
+
+        return new ResponseRoomUtilizationDto(roomId, bucketSize.value(), from, to, totalBusy / 60,
+                percent(totalBusy, Duration.between(start, end).toSeconds()), buckets, peakHours);
+    }
+
+    private static double percent(long busySeconds, long totalSeconds) {
+        return Math.round(busySeconds * 10_000.0 / totalSeconds) / 100.0;
+    }
+}
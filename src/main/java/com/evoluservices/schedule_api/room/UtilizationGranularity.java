@@ -0,0 +1,44 @@
+package com.evoluservices.schedule_api.room;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+
+public enum UtilizationGranularity {
+
+    HOUR("hour"),
+    DAY("day"),
+    WEEK("week");
+
+    private final String value;
+
+    UtilizationGranularity(String value) {
+        this.value = value;
+    }
+
+    public static UtilizationGranularity from(String value) {
+        return Arrays.stream(values())
+                .filter(granularity -> granularity.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Granularidade inválida, use hour, day ou week"));
+    }
+
+    public String value() {
+        return value;
+    }
+
+    /**
+     * Start of the bucket after the one containing {@code start}; weeks start on Monday.
+     */
+    LocalDateTime next(LocalDateTime start) {
+        return switch (this) {
+            case HOUR -> start.plusHours(1);
+            case DAY -> start.toLocalDate().plusDays(1).atStartOfDay();
+            case WEEK -> start.toLocalDate().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atStartOfDay();
+        };
+    }
+}
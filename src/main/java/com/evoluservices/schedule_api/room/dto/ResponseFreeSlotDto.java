@@ -0,0 +1,6 @@
+package com.evoluservices.schedule_api.room.dto;
+
+import java.time.LocalDateTime;
+
+public record ResponseFreeSlotDto(LocalDateTime startsAt, LocalDateTime endsAt) {
+}
@@ -0,0 +1,4 @@
+package com.evoluservices.schedule_api.room.dto;
+
+public record ResponsePeakHourDto(int hour, long busyMinutes, double occupancyPercent) {
+}
@@ -0,0 +1,6 @@
+package com.evoluservices.schedule_api.room.dto;
+
+import java.util.List;
+
+public record ResponseRoomAvailabilityDto(Long roomId, String name, List<ResponseFreeSlotDto> free) {
+}
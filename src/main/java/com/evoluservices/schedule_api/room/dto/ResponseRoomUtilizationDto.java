@@ -0,0 +1,16 @@
+package com.evoluservices.schedule_api.room.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ResponseRoomUtilizationDto(
+        Long roomId,
+        String granularity,
+        LocalDate from,
+        LocalDate to,
+        long busyMinutes,
+        double occupancyPercent,
+        List<ResponseUtilizationBucketDto> buckets,
+        List<ResponsePeakHourDto> peakHours
+) {
+}
@@ -0,0 +1,9 @@
+package com.evoluservices.schedule_api.room.dto;
+
+import com.evoluservices.schedule_api.room.RoomUtilizationBackfill;
+
+import java.time.LocalDateTime;
+
+public record ResponseUtilizationBackfillDto(RoomUtilizationBackfill.State state, int rooms, int chunks, long roomsProcessed,
+                                             long meetings, long hours, LocalDateTime startedAt, long elapsedMillis) {
+}
@@ -0,0 +1,12 @@
+package com.evoluservices.schedule_api.room.dto;
+
+import java.time.LocalDateTime;
+
+public record ResponseUtilizationBucketDto(
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        long busyMinutes,
+        long meetings,
+        double occupancyPercent
+) {
+}
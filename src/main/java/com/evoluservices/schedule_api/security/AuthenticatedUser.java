@@ -0,0 +1,14 @@
+package com.evoluservices.schedule_api.security;
+
+import com.evoluservices.schedule_api.user.User;
+
+/**
+ * The authenticated principal: what requests need to know about their {@link User}, without the
+ * password hash, so that caching it keeps no credential in memory.
+ */
+public record AuthenticatedUser(Long id, String name, String email) {
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getName(), user.getEmail());
+    }
+}
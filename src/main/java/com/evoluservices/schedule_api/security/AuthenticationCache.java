@@ -0,0 +1,185 @@
+package com.evoluservices.schedule_api.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.evoluservices.schedule_api.user.User;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Bounded caches for the authentication hot path: verified token subjects keyed by a SHA-256 of the
+ * token (entries never outlive the token's own expiry) and loaded principals keyed by e-mail, kept
+ * as {@link AuthenticatedUser} so no password hash is cached. Hit ratios are published as
+ * {@code cache.gets} metrics under the names {@code auth.tokens} and {@code auth.principals}.
+ */
+@Component
+public class AuthenticationCache {
+
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> tokens;
+    private final AsyncCache<String, AuthenticatedUser> principals;
+
+    public AuthenticationCache(
+            @Value("${security.cache.enabled:true}") boolean enabled,
+            @Value("${security.cache.token-max-size:10000}") long tokenMaxSize,
+            @Value("${security.cache.principal-max-size:10000}") long principalMaxSize,
+            @Value("${security.cache.principal-ttl:5m}") Duration principalTtl,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(tokenMaxSize)
+                .expireAfter(new UntilTokenExpires())
+                .recordStats()
+                .build();
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(principalMaxSize)
+                .expireAfterWrite(principalTtl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "auth.tokens");
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "auth.principals");
+    }
+
+    /**
+     * Subject of a valid token, verifying it with {@code verifier} only on a cache miss.
+     * The verifier returns {@code null} for invalid tokens, which are never cached.
+     */
+    public String subject(String token, Function<String, DecodedJWT> verifier) {
+        if (!enabled) {
+            DecodedJWT jwt = verifier.apply(token);
+            return jwt != null ? jwt.getSubject() : null;
+        }
+
+        String key = sha256(token);
+        VerifiedToken cached = tokens.getIfPresent(key);
+
+        if (cached != null) {
+            return cached.subject();
+        }
+
+        DecodedJWT jwt = verifier.apply(token);
+
+        if (jwt == null) {
+            return null;
+        }
+
+        tokens.put(key, new VerifiedToken(jwt.getSubject(), jwt.getExpiresAtAsInstant()));
+        return jwt.getSubject();
+    }
+
+    /**
+     * A miss only puts an incomplete future in the cache, so the JDBC query runs outside of the
+     * cache's compute lock (a {@code synchronized} map bin would pin the calling virtual thread),
+     * and concurrent misses for the same e-mail wait for that one load instead of each querying.
+     */
+    public AuthenticatedUser principal(String email, Function<String, User> loader) {
+        if (!enabled) {
+            return toPrincipal(loader.apply(email));
+        }
+
+        CompletableFuture<AuthenticatedUser> loading = new CompletableFuture<>();
+        CompletableFuture<AuthenticatedUser> principal = principals.get(email, (key, executor) -> loading);
+
+        if (principal != loading) {
+            return principal.join();
+        }
+
+        try {
+            AuthenticatedUser loaded = toPrincipal(loader.apply(email));
+            loading.complete(loaded);
+            return loaded;
+        } catch (RuntimeException exception) {
+            loading.completeExceptionally(exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #principal} for the reactive stack.
+     */
+    public Mono<AuthenticatedUser> reactivePrincipal(String email, Function<String, Mono<User>> loader) {
+        if (!enabled) {
+            return loader.apply(email).map(AuthenticatedUser::of);
+        }
+
+        return Mono.defer(() -> {
+            CompletableFuture<AuthenticatedUser> loading = new CompletableFuture<>();
+            CompletableFuture<AuthenticatedUser> principal = principals.get(email, (key, executor) -> loading);
+
+            if (principal != loading) {
+                return Mono.fromFuture(principal);
+            }
+
+            return loader.apply(email)
+                    .map(AuthenticatedUser::of)
+                    .doOnSuccess(loading::complete)
+                    .doOnError(loading::completeExceptionally)
+                    .doOnCancel(() -> loading.complete(null));
+        });
+    }
+
+    /**
+     * Also drops loads still in flight: they may have read the user before the change, and their
+     * result then completes a future the cache no longer holds instead of replacing a fresher entry.
+     */
+    public void evictPrincipal(Long userId) {
+        principals.asMap().values().removeIf(principal -> {
+            AuthenticatedUser loaded = principal.isDone() && !principal.isCompletedExceptionally() ? principal.join() : null;
+            return loaded == null || loaded.id().equals(userId);
+        });
+    }
+
+    private static AuthenticatedUser toPrincipal(User user) {
+        return user != null ? AuthenticatedUser.of(user) : null;
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private record VerifiedToken(String subject, Instant expiresAt) {
+    }
+
+    private static final class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return Duration.ofMinutes(5).toNanos();
+            }
+
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.evoluservices.schedule_api.security;
+
+import com.evoluservices.schedule_api.user.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Drops the cached principal of a {@link User} once a change to it is committed, so the next
+ * request reloads it from the database.
+ */
+public class AuthenticationCacheListener {
+
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
+    @PostUpdate
+    @PostRemove
+    void onChange(User user) {
+        Long userId = user.getId();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            authenticationCache.evictPrincipal(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                authenticationCache.evictPrincipal(userId);
+            }
+        });
+    }
+}
@@ -1,12 +1,14 @@
 package com.evoluservices.schedule_api.security;
 
-import com.evoluservices.schedule_api.user.User;
 import com.evoluservices.schedule_api.user.UserRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,6 +19,7 @@ import java.io.IOException;
 import java.util.Collections;
 
 @Component
+@Profile("!reactive")
 public class SecurityFilter extends OncePerRequestFilter {
 
     @Autowired
@@ -25,13 +28,25 @@ public class SecurityFilter extends OncePerRequestFilter {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    AuthenticationCache authenticationCache;
+
+    @Autowired
+    ObservationRegistry observationRegistry;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         var token = this.recoverToken(request);
         var login = tokenService.validateToken(token);
 
         if (login != null) {
-            User user = userRepository.findByEmail(login).orElseThrow(() -> new RuntimeException("Usuário não encontrado"));;
+            AuthenticatedUser user = Observation.createNotStarted("schedule.auth.principal", observationRegistry)
+                    .observe(() -> authenticationCache.principal(login, email -> userRepository.findByEmail(email).orElse(null)));
+
+            if (user == null) {
+                throw new RuntimeException("Usuário não encontrado");
+            }
+
             var authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
             var authentication = new UsernamePasswordAuthenticationToken(user, null, authorities);
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -1,10 +1,16 @@
 package com.evoluservices.schedule_api.security;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.evoluservices.schedule_api.user.User;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -18,10 +24,24 @@ public class TokenService {
     @Value("${api.secret}")
     private String secret;
 
+    @Autowired
+    AuthenticationCache authenticationCache;
+
+    @Autowired
+    ObservationRegistry observationRegistry;
+
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+
+    @PostConstruct
+    void init() {
+        // both are thread-safe and expensive enough to build that they should not be created per request
+        algorithm = Algorithm.HMAC256(secret);
+        verifier = JWT.require(algorithm).build();
+    }
+
     public String generateToken(User user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-
             return JWT.create()
                     .withSubject(user.getEmail())
                     .withExpiresAt(this.generateExpirationDate())
@@ -32,13 +52,17 @@ public class TokenService {
     }
 
     public String validateToken(String token) {
-        try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
+        if (token == null) {
+            return null;
+        }
 
-            return JWT.require(algorithm)
-                    .build()
-                    .verify(token)
-                    .getSubject();
+        return Observation.createNotStarted("schedule.auth.token", observationRegistry)
+                .observe(() -> authenticationCache.subject(token, this::verify));
+    }
+
+    private DecodedJWT verify(String token) {
+        try {
+            return verifier.verify(token);
         } catch (JWTVerificationException exception) {
             return null;
         }
@@ -1,10 +1,17 @@
 package com.evoluservices.schedule_api.user;
 
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingCursorPageDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/users")
+@Tag(name = "Usuários", description = "Operações relacionadas aos usuários")
 public class UserController {
 
     @Autowired
@@ -16,4 +23,20 @@ public class UserController {
 //        return ResponseEntity.ok(newUser).getBody();
 //    }
 
+    @Operation(summary = "Listar reuniões de um usuário por cursor", description = "Reuniões que o usuário organiza ou das quais participa, ordenadas por início e id; envie o valor de `next` em `after` para obter a próxima página")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reuniões retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido"),
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
+    })
+    @GetMapping("/{id}/meetings")
+    public ResponseEntity<ResponseMeetingCursorPageDto> getMeetingsByUserId(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String after
+    ) {
+        ResponseMeetingCursorPageDto meetings = userService.findMeetings(id, after, limit);
+        return ResponseEntity.ok(meetings);
+    }
+
 }
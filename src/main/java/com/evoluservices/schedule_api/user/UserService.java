@@ -1,7 +1,20 @@
 package com.evoluservices.schedule_api.user;
 
+import com.evoluservices.schedule_api.meeting.MeetingAttendeeRepository;
+import com.evoluservices.schedule_api.meeting.MeetingCursor;
+import com.evoluservices.schedule_api.meeting.MeetingRepository;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingCursorPageDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 @Service
 public class UserService {
@@ -9,5 +22,36 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingAttendeeRepository meetingAttendeeRepository;
+
+    @Value("${schedule.pagination.max-limit:1000}")
+    private int maxPageLimit;
+
+    /**
+     * Meetings the user organizes or attends, ordered by (startsAt, id). Each side is a keyset read
+     * of {@code limit + 1} rows on its own {@code (user_id, starts_at)} index and the two are merged,
+     * so a page costs the same however deep it is.
+     */
+    public ResponseMeetingCursorPageDto findMeetings(Long id, String after, int limit) {
+        if (!userRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Usuário não encontrado");
+        }
+
+        MeetingCursor.validateLimit(limit, maxPageLimit);
+        MeetingCursor cursor = MeetingCursor.decode(after);
+
+        List<ResponseMeetingDto> rows = new ArrayList<>(cursor == null
+                ? meetingRepository.findFirstResponsesByUserId(id, Limit.of(limit + 1))
+                : meetingRepository.findResponsesByUserIdAfter(id, cursor.startsAt(), cursor.id(), Limit.of(limit + 1)));
+        rows.addAll(cursor == null
+                ? meetingAttendeeRepository.findFirstResponsesByAttendee(id, Limit.of(limit + 1))
+                : meetingAttendeeRepository.findResponsesByAttendeeAfter(id, cursor.startsAt(), cursor.id(), Limit.of(limit + 1)));
+        rows.sort(Comparator.comparing(ResponseMeetingDto::startsAt).thenComparing(ResponseMeetingDto::id));
 
+        return MeetingCursor.toPage(rows.subList(0, Math.min(rows.size(), limit + 1)), limit, null);
+    }
 }
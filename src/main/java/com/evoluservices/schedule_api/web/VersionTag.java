@@ -0,0 +1,60 @@
+package com.evoluservices.schedule_api.web;
+
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Entity tags derived from the {@code @Version} counter of an entity: {@code "<version>"}. GETs send
+ * it as {@code ETag} (Spring answers a matching {@code If-None-Match} with 304 on its own) and
+ * updates check {@code If-Match} against the version that was loaded.
+ */
+public final class VersionTag {
+
+    private VersionTag() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Whether {@code ifNoneMatch} contains {@code etag} (weak comparison) or is {@code *}, i.e. a GET
+     * may be answered with 304. Always false when {@code etag} is {@code null}.
+     */
+    public static boolean matchesNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+
+        ETag current = ETag.create(etag);
+
+        for (ETag tag : ETag.parse(ifNoneMatch)) {
+            if (tag.isWildcard() || tag.compare(current, false)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Fails with 412 unless {@code ifMatch} is absent, {@code *}, or contains the strong tag of
+     * {@code version}. Weak tags never match, as required for {@code If-Match}.
+     */
+    public static void checkIfMatch(String ifMatch, Long version, String message) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return;
+        }
+
+        ETag current = new ETag(String.valueOf(version), false);
+
+        for (ETag tag : ETag.parse(ifMatch)) {
+            if (tag.isWildcard() || tag.compare(current, true)) {
+                return;
+            }
+        }
+
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, message);
+    }
+}
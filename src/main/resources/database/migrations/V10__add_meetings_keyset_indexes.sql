@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_meetings_starts_at_id ON meetings (starts_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_meetings_room_starts_at_id ON meetings (room_id, starts_at, id);
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS change_outbox (
+    seq BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    operation VARCHAR(16) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_change_outbox_created_at ON change_outbox (created_at);
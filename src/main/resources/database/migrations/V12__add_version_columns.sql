@@ -0,0 +1,3 @@
+-- optimistic locking counters for Meeting and Room (@Version), also exposed as ETags
+ALTER TABLE meetings ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE rooms ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,20 @@
+-- invitees of a meeting besides its organizer (meetings.user_id), with the meeting's time copied
+-- so per-user conflict checks and listings stay on one index
+CREATE TABLE IF NOT EXISTS meeting_attendees (
+    meeting_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    starts_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    ends_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    PRIMARY KEY (meeting_id, user_id),
+    FOREIGN KEY (meeting_id) REFERENCES meetings(id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_meeting_attendees_user_starts_at ON meeting_attendees (user_id, starts_at, meeting_id) INCLUDE (ends_at);
+
+ALTER TABLE meeting_attendees
+    ADD CONSTRAINT meeting_attendees_user_no_overlap
+    EXCLUDE USING gist (user_id WITH =, tsrange(starts_at, ends_at) WITH &&);
+
+-- organizer side of GET /users/{id}/meetings
+CREATE INDEX IF NOT EXISTS idx_meetings_user_starts_at_id ON meetings (user_id, starts_at, id);
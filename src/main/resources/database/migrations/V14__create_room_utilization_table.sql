@@ -0,0 +1,10 @@
+-- busy seconds and meetings started per room and hour, kept up to date by the meeting writers and
+-- rebuilt by POST /rooms/utilization/backfill; recurring series are expanded when reading
+CREATE TABLE IF NOT EXISTS room_utilization_hourly (
+    room_id BIGINT NOT NULL,
+    hour_start TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    busy_seconds BIGINT NOT NULL DEFAULT 0,
+    meetings_started INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (room_id, hour_start),
+    FOREIGN KEY (room_id) REFERENCES rooms(id) ON DELETE CASCADE
+);
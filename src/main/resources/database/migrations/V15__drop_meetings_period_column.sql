@@ -0,0 +1,5 @@
+-- the exclusion constraints of V4 already keep GiST indexes on tsrange(starts_at, ends_at), and no
+-- query reads the generated column, so it only added a write per meeting
+DROP INDEX IF EXISTS idx_meetings_period;
+
+ALTER TABLE meetings DROP COLUMN IF EXISTS period;
@@ -0,0 +1,8 @@
+-- V5's (room_id, starts_at, ends_at) and V10's (room_id, starts_at, id) share their leading columns;
+-- one index serves both the overlap checks (ends_at is only ever a filter after the starts_at range)
+-- and the keyset pages of a room, with one index write per meeting instead of two
+CREATE INDEX IF NOT EXISTS idx_meetings_room_starts_at ON meetings (room_id, starts_at, id) INCLUDE (ends_at);
+
+DROP INDEX IF EXISTS idx_meetings_room_time;
+
+DROP INDEX IF EXISTS idx_meetings_room_starts_at_id;
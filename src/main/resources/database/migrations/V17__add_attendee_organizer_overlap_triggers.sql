@@ -0,0 +1,56 @@
+-- meetings_user_no_overlap and meeting_attendees_user_no_overlap each cover one table; these
+-- triggers reject a user organizing one meeting while attending another at the same time. Both
+-- sides take a transaction-scoped advisory lock on the user before checking, so two concurrent
+-- writers serialize and the second one sees the first one's committed row. The errors carry the
+-- constraint names the application already maps to its 409 messages.
+CREATE OR REPLACE FUNCTION meeting_attendees_check_organizer_overlap() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(NEW.user_id);
+
+    IF EXISTS (
+        SELECT 1 FROM meetings m
+        WHERE m.user_id = NEW.user_id
+          AND m.id <> NEW.meeting_id
+          AND tsrange(m.starts_at, m.ends_at) && tsrange(NEW.starts_at, NEW.ends_at)
+    ) THEN
+        RAISE EXCEPTION 'conflito com reunião organizada pelo usuário % (meeting_attendees_user_no_overlap)', NEW.user_id
+            USING ERRCODE = 'exclusion_violation';
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION meetings_check_attendee_overlap() RETURNS trigger AS $$
+BEGIN
+    IF NEW.user_id IS NULL THEN
+        RETURN NULL;
+    END IF;
+
+    PERFORM pg_advisory_xact_lock(NEW.user_id);
+
+    IF EXISTS (
+        SELECT 1 FROM meeting_attendees a
+        WHERE a.user_id = NEW.user_id
+          AND a.meeting_id <> NEW.id
+          AND tsrange(a.starts_at, a.ends_at) && tsrange(NEW.starts_at, NEW.ends_at)
+    ) THEN
+        RAISE EXCEPTION 'conflito com reunião da qual o usuário % participa (meetings_user_no_overlap)', NEW.user_id
+            USING ERRCODE = 'exclusion_violation';
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS meeting_attendees_organizer_overlap ON meeting_attendees;
+
+CREATE TRIGGER meeting_attendees_organizer_overlap
+    AFTER INSERT OR UPDATE OF user_id, starts_at, ends_at ON meeting_attendees
+    FOR EACH ROW EXECUTE FUNCTION meeting_attendees_check_organizer_overlap();
+
+DROP TRIGGER IF EXISTS meetings_attendee_overlap ON meetings;
+
+CREATE TRIGGER meetings_attendee_overlap
+    AFTER INSERT OR UPDATE OF user_id, starts_at, ends_at ON meetings
+    FOR EACH ROW EXECUTE FUNCTION meetings_check_attendee_overlap();
@@ -0,0 +1,42 @@
+-- V17 locked on the user id in the single-bigint advisory key space, shared with every other
+-- advisory lock user. The two-int form keeps these locks in their own namespace, 1431520594
+-- ('USER' in ASCII); the id is folded into an int, and ids that collide only serialize more.
+CREATE OR REPLACE FUNCTION meeting_attendees_check_organizer_overlap() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(1431520594, mod(NEW.user_id, 2147483647)::int);
+
+    IF EXISTS (
+        SELECT 1 FROM meetings m
+        WHERE m.user_id = NEW.user_id
+          AND m.id <> NEW.meeting_id
+          AND tsrange(m.starts_at, m.ends_at) && tsrange(NEW.starts_at, NEW.ends_at)
+    ) THEN
+        RAISE EXCEPTION 'conflito com reunião organizada pelo usuário % (meeting_attendees_user_no_overlap)', NEW.user_id
+            USING ERRCODE = 'exclusion_violation';
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION meetings_check_attendee_overlap() RETURNS trigger AS $$
+BEGIN
+    IF NEW.user_id IS NULL THEN
+        RETURN NULL;
+    END IF;
+
+    PERFORM pg_advisory_xact_lock(1431520594, mod(NEW.user_id, 2147483647)::int);
+
+    IF EXISTS (
+        SELECT 1 FROM meeting_attendees a
+        WHERE a.user_id = NEW.user_id
+          AND a.meeting_id <> NEW.id
+          AND tsrange(a.starts_at, a.ends_at) && tsrange(NEW.starts_at, NEW.ends_at)
+    ) THEN
+        RAISE EXCEPTION 'conflito com reunião da qual o usuário % participa (meetings_user_no_overlap)', NEW.user_id
+            USING ERRCODE = 'exclusion_violation';
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,8 @@
+-- V5's (user_id, starts_at, ends_at) and V13's (user_id, starts_at, id) share their leading columns;
+-- as on the room side (V16), one index serves the user's overlap checks and the keyset pages of
+-- GET /users/{id}/meetings, with one index write per meeting instead of two
+CREATE INDEX IF NOT EXISTS idx_meetings_user_starts_at ON meetings (user_id, starts_at, id) INCLUDE (ends_at);
+
+DROP INDEX IF EXISTS idx_meetings_user_time;
+
+DROP INDEX IF EXISTS idx_meetings_user_starts_at_id;
@@ -0,0 +1,9 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE meetings
+    ADD CONSTRAINT meetings_room_no_overlap
+    EXCLUDE USING gist (room_id WITH =, tsrange(starts_at, ends_at) WITH &&);
+
+ALTER TABLE meetings
+    ADD CONSTRAINT meetings_user_no_overlap
+    EXCLUDE USING gist (user_id WITH =, tsrange(starts_at, ends_at) WITH &&);
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_meetings_room_time ON meetings (room_id, starts_at, ends_at);
+
+CREATE INDEX IF NOT EXISTS idx_meetings_user_time ON meetings (user_id, starts_at, ends_at);
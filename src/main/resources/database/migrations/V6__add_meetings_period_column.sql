@@ -0,0 +1,4 @@
+ALTER TABLE meetings
+    ADD COLUMN IF NOT EXISTS period TSRANGE GENERATED ALWAYS AS (tsrange(starts_at, ends_at)) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_meetings_period ON meetings USING gist (period);
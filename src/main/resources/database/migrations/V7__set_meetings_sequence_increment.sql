@@ -0,0 +1,2 @@
+-- matches the allocationSize of the pooled sequence generator on Meeting, so ids are handed out in blocks
+ALTER SEQUENCE meetings_id_seq INCREMENT BY 50;
@@ -0,0 +1,28 @@
+CREATE TABLE IF NOT EXISTS meeting_series (
+    id BIGSERIAL PRIMARY KEY,
+    starts_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    ends_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    frequency VARCHAR(16) NOT NULL,
+    interval_value INTEGER NOT NULL,
+    occurrence_count INTEGER,
+    until_at TIMESTAMP WITHOUT TIME ZONE,
+    last_ends_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    user_id BIGINT,
+    room_id BIGINT,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (room_id) REFERENCES rooms(id) ON DELETE CASCADE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_meeting_series_room_span ON meeting_series (room_id, starts_at, last_ends_at);
+
+CREATE INDEX IF NOT EXISTS idx_meeting_series_user_span ON meeting_series (user_id, starts_at, last_ends_at);
+
+CREATE TABLE IF NOT EXISTS meeting_series_exceptions (
+    series_id BIGINT NOT NULL,
+    occurrence_starts_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    FOREIGN KEY (series_id) REFERENCES meeting_series(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_meeting_series_exceptions_series ON meeting_series_exceptions (series_id);
@@ -0,0 +1,2 @@
+-- lets cross-room window scans (room availability) skip past meetings
+CREATE INDEX IF NOT EXISTS idx_meetings_ends_at ON meetings (ends_at);
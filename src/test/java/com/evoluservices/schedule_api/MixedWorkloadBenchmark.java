@@ -0,0 +1,389 @@
+package com.evoluservices.schedule_api;
+
+import com.evoluservices.schedule_api.meeting.MeetingScheduleIndex;
+import com.evoluservices.schedule_api.meeting.MeetingScheduleIndexLoader;
+import com.evoluservices.schedule_api.security.TokenService;
+import com.evoluservices.schedule_api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Baseline load test for the booking API: seeds users, rooms and meetings with JDBC batch inserts,
+ * then drives a weighted mix of login, booking, listing and conflict-heavy booking requests over
+ * real HTTP and reports per-operation throughput and HdrHistogram latency percentiles.
+ * <p>
+ * By default it runs against the PostgreSQL database from {@code docker-compose.yml}; with the
+ * {@code test} profile it uses H2 in PostgreSQL mode instead. Clients run in a closed loop unless
+ * {@code benchmark.rate} sets a target request rate, in which case latency is measured from each
+ * request's scheduled send time so a stalled server is not hidden by clients waiting on it.
+ * <pre>
+ * ./mvnw test -Dtest=MixedWorkloadBenchmark
+ * ./mvnw test -Dtest=MixedWorkloadBenchmark -Dspring.profiles.active=test -Dbenchmark.meetings=20000
+ * ./mvnw test -Dtest=MixedWorkloadBenchmark -Dbenchmark.clients=256 -Dbenchmark.rate=2000 \
+ *     -Dbenchmark.mix=login:5,book:20,list:65,conflict:10 -Dbenchmark.label=before
+ * </pre>
+ * Results are written to {@code target/load-test}: one {@code <label>.json} summary per run and one
+ * {@code <label>-<operation>.hgrm} percentile distribution per operation, in milliseconds.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class MixedWorkloadBenchmark {
+
+    private static final String PREFIX = "mixed-";
+    private static final String PASSWORD = "senha";
+    private static final int BATCH_SIZE = 1000;
+    private static final int HOT_ROOMS = 4;
+    private static final int HOT_SLOTS = 4;
+    private static final LocalDateTime SEED_BASE = LocalDateTime.of(2031, 1, 1, 0, 0);
+    private static final LocalDateTime HOT_BASE = LocalDateTime.of(2040, 1, 1, 9, 0);
+    private static final LocalDateTime BOOK_BASE = LocalDateTime.of(2041, 1, 1, 0, 0);
+
+    private enum Operation { LOGIN, BOOK, LIST, CONFLICT }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private MeetingScheduleIndex scheduleIndex;
+
+    @Autowired
+    private MeetingScheduleIndexLoader scheduleIndexLoader;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final AtomicLong bookings = new AtomicLong();
+
+    private List<Long> userIds;
+    private List<Long> roomIds;
+    private String token;
+
+    @Test
+    void mixedWorkload() throws Exception {
+        int users = Integer.getInteger("benchmark.users", 1000);
+        int rooms = Integer.getInteger("benchmark.rooms", 200);
+        int meetings = Integer.getInteger("benchmark.meetings", 100_000);
+        int clients = Integer.getInteger("benchmark.clients", 64);
+        int rate = Integer.getInteger("benchmark.rate", 0);
+        Duration warmup = Duration.parse("PT" + System.getProperty("benchmark.warmup", "10s"));
+        Duration duration = Duration.parse("PT" + System.getProperty("benchmark.duration", "60s"));
+        Map<Operation, Integer> mix = parseMix(System.getProperty("benchmark.mix", "login:5,book:20,list:65,conflict:10"));
+        String label = System.getProperty("benchmark.label", "load");
+
+        long seedStarted = System.nanoTime();
+        seed(users, rooms, meetings);
+        double seedSeconds = (System.nanoTime() - seedStarted) / 1e9;
+        System.out.printf("Seeded %d users, %d rooms and %d meetings in %.1fs%n", users, rooms, meetings, seedSeconds);
+
+        token = tokenService.generateToken(userRepository.findByEmail(PREFIX + "0@example.com").orElseThrow());
+
+        Map<Operation, Stats> stats = new LinkedHashMap<>();
+        for (Operation operation : mix.keySet()) {
+            stats.put(operation, new Stats());
+        }
+        Operation[] schedule = weightedSchedule(mix);
+
+        long intervalNanos = rate > 0 ? TimeUnit.SECONDS.toNanos(1) / rate : 0;
+        AtomicLong tickets = new AtomicLong();
+        long started = System.nanoTime();
+        long measureFrom = started + warmup.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                workers.submit(() -> {
+                    while (true) {
+                        long intended = System.nanoTime();
+
+                        if (intervalNanos > 0) {
+                            intended = started + tickets.getAndIncrement() * intervalNanos;
+                            long wait = intended - System.nanoTime();
+                            if (wait > 0) {
+                                TimeUnit.NANOSECONDS.sleep(wait);
+                            }
+                        }
+
+                        if (intended >= deadline) {
+                            return null;
+                        }
+
+                        Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                        int status = send(operation);
+                        long latency = System.nanoTime() - intended;
+
+                        if (intended >= measureFrom) {
+                            stats.get(operation).record(latency, status);
+                        }
+                    }
+                });
+            }
+        }
+
+        report(label, clients, rate, duration, seedSeconds, stats);
+    }
+
+    private int send(Operation operation) {
+        try {
+            return client.send(request(operation), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (Exception exception) {
+            return -1;
+        }
+    }
+
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        return switch (operation) {
+            case LOGIN -> json("/auth/login", """
+                    {"email":"%s","password":"%s"}
+                    """.formatted(PREFIX + random.nextInt(userIds.size()) + "@example.com", PASSWORD));
+            case BOOK -> {
+                // each booking gets its own slot: within one hour, every room and user is used at most once
+                long ticket = bookings.getAndIncrement();
+                int width = Math.min(userIds.size(), roomIds.size());
+                int index = (int) (ticket % width);
+                LocalDateTime startsAt = BOOK_BASE.plusHours(ticket / width);
+                yield booking(startsAt, userIds.get(index), roomIds.get(index));
+            }
+            case LIST -> authorized("/rooms/" + roomIds.get(random.nextInt(roomIds.size())) + "/meetings?size=20")
+                    .GET()
+                    .build();
+            case CONFLICT -> {
+                // a handful of hot slots that every client competes for, so almost all attempts end in 409
+                LocalDateTime startsAt = HOT_BASE.plusHours(random.nextInt(HOT_SLOTS));
+                yield booking(startsAt, userIds.get(random.nextInt(userIds.size())), roomIds.get(random.nextInt(HOT_ROOMS)));
+            }
+        };
+    }
+
+    private HttpRequest booking(LocalDateTime startsAt, Long userId, Long roomId) {
+        return json("/meetings", """
+                {"startsAt":"%s","endsAt":"%s","userId":%d,"roomId":%d}
+                """.formatted(startsAt, startsAt.plusMinutes(45), userId, roomId));
+    }
+
+    private HttpRequest json(String path, String body) {
+        return authorized(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    /**
+     * Inserts the dataset with JDBC batches, bypassing JPA. Meetings are laid out hour by hour so that
+     * no room or user is booked twice in the same hour, which keeps the PostgreSQL exclusion
+     * constraints satisfied. The in-memory schedule index is rebuilt afterwards because these rows
+     * never went through the entity listener.
+     */
+    private void seed(int users, int rooms, int meetings) {
+        jdbcTemplate.update("DELETE FROM meetings WHERE room_id IN (SELECT id FROM rooms WHERE name LIKE ?)", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM meetings WHERE user_id IN (SELECT id FROM users WHERE email LIKE ?)", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM rooms WHERE name LIKE ?", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", PREFIX + "%");
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String password = passwordEncoder.encode(PASSWORD);
+
+        List<Object[]> userRows = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            userRows.add(new Object[]{PREFIX + u, PREFIX + u + "@example.com", password, now, now});
+        }
+        batch("INSERT INTO users (name, email, password, created_at, updated_at) VALUES (?, ?, ?, ?, ?)", userRows);
+
+        List<Object[]> roomRows = new ArrayList<>(rooms);
+        for (int r = 0; r < rooms; r++) {
+            roomRows.add(new Object[]{PREFIX + r, now, now});
+        }
+        batch("INSERT INTO rooms (name, created_at, updated_at) VALUES (?, ?, ?)", roomRows);
+
+        userIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE email LIKE ? ORDER BY id", Long.class, PREFIX + "%");
+        roomIds = jdbcTemplate.queryForList("SELECT id FROM rooms WHERE name LIKE ? ORDER BY id", Long.class, PREFIX + "%");
+
+        int width = Math.min(users, rooms);
+        List<Object[]> meetingRows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < meetings; i++) {
+            int hour = i / width;
+            int index = i % width;
+            LocalDateTime startsAt = SEED_BASE.plusHours(hour);
+
+            meetingRows.add(new Object[]{
+                    Timestamp.valueOf(startsAt),
+                    Timestamp.valueOf(startsAt.plusMinutes(45)),
+                    userIds.get(index),
+                    roomIds.get((index + hour) % rooms),
+                    now
+            });
+
+            if (meetingRows.size() == BATCH_SIZE) {
+                batch("INSERT INTO meetings (id, starts_at, ends_at, user_id, room_id, created_at) VALUES (nextval('meetings_id_seq'), ?, ?, ?, ?, ?)", meetingRows);
+                meetingRows.clear();
+            }
+        }
+        batch("INSERT INTO meetings (id, starts_at, ends_at, user_id, room_id, created_at) VALUES (nextval('meetings_id_seq'), ?, ?, ?, ?, ?)", meetingRows);
+
+        if (scheduleIndex.isReady()) {
+            scheduleIndexLoader.rebuild();
+        }
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private void report(String label, int clients, int rate, Duration duration, double seedSeconds, Map<Operation, Stats> stats) throws Exception {
+        Path directory = Path.of("target", "load-test");
+        Files.createDirectories(directory);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("label", label);
+        summary.put("database", environment.matchesProfiles("test") ? "h2" : "postgresql");
+        summary.put("profiles", Arrays.asList(environment.getActiveProfiles()));
+        summary.put("clients", clients);
+        summary.put("targetRate", rate);
+        summary.put("durationSeconds", duration.toSeconds());
+        summary.put("users", userIds.size());
+        summary.put("rooms", roomIds.size());
+        summary.put("seedSeconds", seedSeconds);
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        System.out.printf("%-9s %9s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "req/s", "errors", "conflicts", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            String name = entry.getKey().name().toLowerCase();
+            Stats operation = entry.getValue();
+            Histogram histogram = operation.latency;
+            double throughput = histogram.getTotalCount() / (double) duration.toSeconds();
+
+            System.out.printf("%-9s %9d %9.0f %9d %9d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, histogram.getTotalCount(), throughput, operation.errors.sum(), operation.conflicts.sum(),
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0);
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("requests", histogram.getTotalCount());
+            values.put("throughput", throughput);
+            values.put("errors", operation.errors.sum());
+            values.put("conflicts", operation.conflicts.sum());
+            values.put("p50", millis(histogram, 50));
+            values.put("p90", millis(histogram, 90));
+            values.put("p99", millis(histogram, 99));
+            values.put("p999", millis(histogram, 99.9));
+            values.put("max", histogram.getMaxValue() / 1000.0);
+            operations.put(name, values);
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(label + "-" + name + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        summary.put("operations", operations);
+
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(directory.resolve(label + ".json").toFile(), summary);
+        System.out.println("Results written to " + directory.toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+
+        return weights;
+    }
+
+    private static Operation[] weightedSchedule(Map<Operation, Integer> mix) {
+        List<Operation> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        return schedule.toArray(Operation[]::new);
+    }
+
+    private static final class Stats {
+
+        // latencies in microseconds, auto-resizing so no upper bound has to be guessed
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+
+        void record(long latencyNanos, int status) {
+            latency.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+
+            if (status == 409) {
+                conflicts.increment();
+            } else if (status < 0 || status >= 400) {
+                errors.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.evoluservices.schedule_api;
+
+import com.evoluservices.schedule_api.security.TokenService;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Load comparison between the default platform-thread Tomcat pool, the {@code virtual-threads}
+ * profile and the WebFlux/R2DBC {@code reactive} profile, against the PostgreSQL database from {@code docker-compose.yml}. Drives
+ * {@code POST /meetings} and {@code GET /rooms/{id}/meetings} over real HTTP with a fixed number of
+ * concurrent clients and prints throughput, latency percentiles and the peak JVM thread count, heap
+ * usage and open database connections seen while the load ran. Run it once per thread model:
+ * <pre>
+ * ./mvnw test -Dtest=ThreadModelLoadBenchmark -Dbenchmark.concurrency=1000
+ * ./mvnw test -Dtest=ThreadModelLoadBenchmark -Dbenchmark.concurrency=1000 -Dspring.profiles.active=virtual-threads
+ * ./mvnw test -Dtest=ThreadModelLoadBenchmark -Dbenchmark.concurrency=10000 -Dspring.profiles.active=reactive
+ * </pre>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ThreadModelLoadBenchmark {
+
+    private static final int ROOMS = 100;
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void bookingAndListingUnderLoad() throws Exception {
+        int concurrency = Integer.getInteger("benchmark.concurrency", 1000);
+        int requests = Integer.getInteger("benchmark.requests", 20_000);
+
+        List<Long> roomIds = seed();
+        String token = tokenService.generateToken(userRepository.findByEmail("load-0@example.com").orElseThrow());
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE email LIKE 'load-%' ORDER BY id", Long.class);
+
+        run("POST /meetings", concurrency, requests, i -> HttpRequest.newBuilder(uri("/meetings"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                        {"startsAt":"%s","endsAt":"%s","userId":%d,"roomId":%d}
+                        """.formatted(BASE.plusHours(i), BASE.plusHours(i).plusMinutes(30),
+                        userIds.get(i % userIds.size()), roomIds.get(i % ROOMS))))
+                .build());
+
+        run("GET /rooms/{id}/meetings", concurrency, requests, i -> HttpRequest.newBuilder(uri("/rooms/" + roomIds.get(i % ROOMS) + "/meetings?size=20"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build());
+    }
+
+    private void run(String label, int concurrency, int requests, IntFunction<HttpRequest> requestFactory) throws Exception {
+        long[] nanos = new long[requests];
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        AtomicLong peakHeap = new AtomicLong();
+        AtomicLong peakConnections = new AtomicLong();
+        threads.resetPeakThreadCount();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+            peakConnections.accumulateAndGet(openConnections(), Math::max);
+        }, 0, 100, TimeUnit.MILLISECONDS);
+
+        long began = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                inFlight.acquire();
+                clients.submit(() -> {
+                    try {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(requestFactory.apply(index), HttpResponse.BodyHandlers.discarding());
+                        nanos[index] = System.nanoTime() - sent;
+
+                        if (response.statusCode() >= 400) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception exception) {
+                        failures.incrementAndGet();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - began) / 1e9;
+        sampler.shutdownNow();
+
+        Arrays.sort(nanos);
+        System.out.printf("%-8s %-24s clients=%d requests=%d failures=%d throughput=%.0f req/s p50=%.1fms p99=%.1fms"
+                        + " peakThreads=%d peakHeap=%dMB peakDbConnections=%d%n",
+                stack(), label, concurrency, requests, failures.get(), requests / seconds,
+                nanos[requests / 2] / 1e6, nanos[requests * 99 / 100] / 1e6,
+                threads.getPeakThreadCount(), peakHeap.get() >> 20, peakConnections.get());
+    }
+
+    private String stack() {
+        if (environment.matchesProfiles("reactive")) {
+            return "reactive";
+        }
+        return virtualThreads ? "virtual" : "platform";
+    }
+
+    private long openConnections() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_stat_activity WHERE datname = current_database() AND pid <> pg_backend_pid()", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private List<Long> seed() {
+        jdbcTemplate.update("DELETE FROM meetings WHERE room_id IN (SELECT id FROM rooms WHERE name LIKE 'load-%')");
+        jdbcTemplate.update("DELETE FROM rooms WHERE name LIKE 'load-%'");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'load-%'");
+        jdbcTemplate.update("INSERT INTO rooms (name) SELECT 'load-' || g FROM generate_series(1, ?) g", ROOMS);
+
+        for (int u = 0; u < ROOMS; u++) {
+            User user = new User();
+            user.setName("load-" + u);
+            user.setEmail("load-" + u + "@example.com");
+            user.setPassword("x");
+            userRepository.save(user);
+        }
+
+        return jdbcTemplate.queryForList("SELECT id FROM rooms WHERE name LIKE 'load-%' ORDER BY id", Long.class);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
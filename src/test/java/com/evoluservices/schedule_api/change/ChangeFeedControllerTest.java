@@ -0,0 +1,250 @@
+package com.evoluservices.schedule_api.change;
+
+import com.evoluservices.schedule_api.meeting.MeetingRepository;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ChangeFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private long since;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = new User();
+        user.setName("Maria Teste");
+        user.setEmail("maria@example.com");
+        user.setPassword("senha");
+        user = userRepository.save(user);
+
+        awaitRelayed();
+        since = changeFeed.highWaterMark();
+    }
+
+    @Test
+    void changes_returnMeetingAndRoomMutationsInOrder() throws Exception {
+        long roomId = idOf(mockMvc.perform(post("/rooms")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Sala A"))))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        long meetingId = idOf(mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(meetingPayload(roomId, "2024-01-01T09:00:00", "2024-01-01T10:00:00")))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        mockMvc.perform(patch("/meetings/" + meetingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("startsAt", "2024-01-01T11:00:00", "endsAt", "2024-01-01T12:00:00"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/meetings/" + meetingId))
+                .andExpect(status().isNoContent());
+
+        awaitRelayed();
+
+        JsonNode feed = read(since, 100);
+        JsonNode changes = feed.get("changes");
+
+        assertThat(changes).hasSize(4);
+        assertThat(changes.findValuesAsText("operation")).containsExactly("CREATED", "CREATED", "UPDATED", "DELETED");
+        assertThat(changes.findValuesAsText("entityType")).containsExactly("ROOM", "MEETING", "MEETING", "MEETING");
+        assertThat(changes.get(0).get("payload").get("name").asText()).isEqualTo("Sala A");
+        assertThat(changes.get(2).get("payload").get("startsAt").asText()).isEqualTo("2024-01-01T11:00:00");
+        assertThat(changes.get(3).get("entityId").asLong()).isEqualTo(meetingId);
+        assertThat(feed.get("highWaterMark").asLong()).isEqualTo(changes.get(3).get("seq").asLong());
+
+        JsonNode firstPage = read(since, 3);
+        assertThat(firstPage.get("changes")).hasSize(3);
+        JsonNode secondPage = read(firstPage.get("highWaterMark").asLong(), 3);
+        assertThat(secondPage.get("changes")).hasSize(1);
+        assertThat(secondPage.get("changes").get(0).get("operation").asText()).isEqualTo("DELETED");
+    }
+
+    @Test
+    void deleteRoom_recordsADeletionForEachOfItsMeetings() throws Exception {
+        long roomId = idOf(mockMvc.perform(post("/rooms")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Sala D"))))
+                .andExpect(status().isOk())
+                .andReturn());
+        long first = idOf(mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(meetingPayload(roomId, "2024-01-01T09:00:00", "2024-01-01T10:00:00")))
+                .andExpect(status().isOk())
+                .andReturn());
+        long second = idOf(mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(meetingPayload(roomId, "2024-01-01T11:00:00", "2024-01-01T12:00:00")))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        mockMvc.perform(delete("/rooms/" + roomId))
+                .andExpect(status().isNoContent());
+
+        awaitRelayed();
+
+        JsonNode changes = read(since, 100).get("changes");
+
+        assertThat(changes).hasSize(6);
+        assertThat(changes.findValuesAsText("operation")).containsExactly("CREATED", "CREATED", "CREATED", "DELETED", "DELETED", "DELETED");
+        assertThat(changes.findValuesAsText("entityType")).containsExactly("ROOM", "MEETING", "MEETING", "MEETING", "MEETING", "ROOM");
+        assertThat(List.of(changes.get(3).get("entityId").asLong(), changes.get(4).get("entityId").asLong())).containsExactly(first, second);
+        assertThat(changes.get(3).get("payload").get("roomId").asLong()).isEqualTo(roomId);
+    }
+
+    @Test
+    void rejectedMeeting_writesNoChange() throws Exception {
+        Room room = roomRepository.save(new Room(null, "Sala B", null, null, null, null));
+        awaitRelayed();
+        long before = changeEventRepository.count();
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(meetingPayload(room.getId(), "2024-01-01T09:00:00", "2024-01-01T10:00:00")))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(meetingPayload(room.getId(), "2024-01-01T09:30:00", "2024-01-01T10:30:00")))
+                .andExpect(status().isConflict());
+
+        assertThat(changeEventRepository.count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void changes_longPollIsAnsweredWhenAChangeCommits() throws Exception {
+        MvcResult pending = mockMvc.perform(get("/changes")
+                        .param("since", String.valueOf(since))
+                        .param("wait", "30"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Thread.sleep(100);
+        assertThat(pending.getResponse().getContentAsString()).isEmpty();
+
+        Room room = roomRepository.save(new Room(null, "Sala C", null, null, null, null));
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(meetingPayload(room.getId(), "2024-01-01T09:00:00", "2024-01-01T10:00:00")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].entityType").value("MEETING"))
+                .andExpect(jsonPath("$.changes[0].payload.roomId").value(room.getId()));
+    }
+
+    @Test
+    void changes_withoutWait_returnsEmptyPageAtCurrentPosition() throws Exception {
+        mockMvc.perform(asyncDispatch(mockMvc.perform(get("/changes")
+                                .param("since", String.valueOf(since))
+                                .param("wait", "0"))
+                        .andReturn()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(0))
+                .andExpect(jsonPath("$.highWaterMark").value(since));
+    }
+
+    @Test
+    void changes_withInvalidParameters_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/changes").param("since", "-1"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/changes").param("wait", "600"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/changes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode read(long from, int limit) throws Exception {
+        MvcResult result = mockMvc.perform(get("/changes")
+                        .param("since", String.valueOf(from))
+                        .param("limit", String.valueOf(limit))
+                        .param("wait", "0"))
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        return objectMapper.readTree(body);
+    }
+
+    private String meetingPayload(long roomId, String startsAt, String endsAt) throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "startsAt", startsAt,
+                "endsAt", endsAt,
+                "userId", user.getId(),
+                "roomId", roomId));
+    }
+
+    private long idOf(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private void awaitRelayed() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (changeFeed.highWaterMark() < changeEventRepository.findMaxSeq()) {
+            assertThat(System.currentTimeMillis()).as("outbox não repassado em 10s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.evoluservices.schedule_api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"test", "virtual-threads"})
+class VirtualThreadPinningMonitorTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void countsVirtualThreadBlockedInsideSynchronizedBlock() throws Exception {
+        Object monitor = new Object();
+
+        Thread pinned = Thread.ofVirtual().start(() -> {
+            synchronized (monitor) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        pinned.join();
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (pinnedCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertThat(pinnedCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    private double pinnedCount() {
+        return meterRegistry.counter("jvm.threads.virtual.pinned").count();
+    }
+}
@@ -0,0 +1,159 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.AutoAssignMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Books as many one-hour meetings as there are free room-hours in a day, from concurrent clients,
+ * twice: once with the client-side pattern {@code POST /meetings/auto} replaces (pick a room and
+ * hour, move to the next one on every 409) and once with a single {@code POST /meetings/auto} per
+ * client. Reports requests sent, conflicts, meetings booked and elapsed time. Runs on the H2 test
+ * profile and is only executed when selected explicitly:
+ * <pre>
+ * ./mvnw test -Dtest=AutoAssignContentionBenchmark -Dbenchmark.rooms=20 -Dbenchmark.threads=32
+ * </pre>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class AutoAssignContentionBenchmark {
+
+    private static final int HOURS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void autoAssignVersusClientRetries() throws Exception {
+        int roomCount = Integer.getInteger("benchmark.rooms", 10);
+        int threads = Integer.getInteger("benchmark.threads", 16);
+
+        Result retries = run(roomCount, threads, LocalDateTime.of(2024, 1, 1, 8, 0), false);
+        Result auto = run(roomCount, threads, LocalDateTime.of(2024, 1, 2, 8, 0), true);
+
+        System.out.printf("%d clients competing for %d rooms x %d hours with %d threads:%n", roomCount * HOURS, roomCount, HOURS, threads);
+        System.out.printf("  client retries: %d requests, %d conflicts, %d booked in %.1fms%n",
+                retries.requests(), retries.conflicts(), retries.booked(), retries.millis());
+        System.out.printf("  /meetings/auto: %d requests, %d conflicts, %d booked in %.1fms%n",
+                auto.requests(), auto.conflicts(), auto.booked(), auto.millis());
+    }
+
+    private Result run(int roomCount, int threads, LocalDateTime day, boolean auto) throws Exception {
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+
+        List<Long> roomIds = new ArrayList<>();
+        for (int r = 0; r < roomCount; r++) {
+            roomIds.add(roomRepository.save(new Room(null, "Sala " + r, null, null, null, null)).getId());
+        }
+
+        List<Callable<int[]>> clients = new ArrayList<>();
+        for (int c = 0; c < roomCount * HOURS; c++) {
+            User user = new User();
+            user.setName("Cliente " + c);
+            user.setEmail("cliente" + c + "@example.com");
+            user.setPassword("senha");
+            Long userId = userRepository.save(user).getId();
+
+            clients.add(auto ? () -> bookAuto(userId, roomIds, day) : () -> bookWithRetries(userId, roomIds, day));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long began = System.nanoTime();
+        int requests = 0;
+        int conflicts = 0;
+
+        try {
+            for (Future<int[]> result : executor.invokeAll(clients)) {
+                requests += result.get()[0];
+                conflicts += result.get()[1];
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        return new Result(requests, conflicts, meetingRepository.count(), (System.nanoTime() - began) / 1e6);
+    }
+
+    private int[] bookAuto(Long userId, List<Long> roomIds, LocalDateTime day) throws Exception {
+        int status = send("/meetings/auto", new AutoAssignMeetingDto(day, day.plusHours(HOURS), 60, userId, null));
+        return new int[]{1, status == 409 ? 1 : 0};
+    }
+
+    /**
+     * Tries every room and hour in random order until one is accepted, like a client that only sees 409s.
+     */
+    private int[] bookWithRetries(Long userId, List<Long> roomIds, LocalDateTime day) throws Exception {
+        List<long[]> options = new ArrayList<>();
+        for (Long roomId : roomIds) {
+            for (int hour = 0; hour < HOURS; hour++) {
+                options.add(new long[]{roomId, hour});
+            }
+        }
+        Collections.shuffle(options, ThreadLocalRandom.current());
+
+        int requests = 0;
+        int conflicts = 0;
+
+        for (long[] option : options) {
+            LocalDateTime startsAt = day.plusHours(option[1]);
+            int status = send("/meetings", new CreateMeetingDto(startsAt, startsAt.plusHours(1), userId, option[0]));
+            requests++;
+
+            if (status != 409) {
+                break;
+            }
+            conflicts++;
+        }
+
+        return new int[]{requests, conflicts};
+    }
+
+    private int send(String uri, Object body) throws Exception {
+        return mockMvc.perform(post(uri)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+    }
+
+    private record Result(int requests, int conflicts, long booked, double millis) {}
+}
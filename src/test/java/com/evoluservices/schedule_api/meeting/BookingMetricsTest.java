@@ -0,0 +1,23 @@
+package com.evoluservices.schedule_api.meeting;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingMetricsTest {
+
+    @Test
+    void record_pastTheRoomLimit_stillBooksWithoutNewMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BookingMetrics metrics = new BookingMetrics(registry, 2);
+
+        for (long roomId = 1; roomId <= 5; roomId++) {
+            assertThat(metrics.record(roomId, () -> "ok")).isEqualTo("ok");
+        }
+        metrics.record(1L, () -> "ok");
+
+        assertThat(registry.find("schedule.booking.attempts").counters()).hasSize(2);
+        assertThat(registry.get("schedule.booking.attempts").tag("room", "1").counter().count()).isEqualTo(2);
+    }
+}
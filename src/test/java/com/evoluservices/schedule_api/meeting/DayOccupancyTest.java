@@ -0,0 +1,117 @@
+package com.evoluservices.schedule_api.meeting;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayOccupancyTest {
+
+    private static final long NINE = MeetingScheduleIndex.toEpochSecond(LocalDateTime.of(2024, 1, 1, 9, 0));
+    private static final long DAY = 24 * 3600;
+
+    @Test
+    void alignedIntervalsAreAnsweredByTheBitsAlone() {
+        DayOccupancy days = DayOccupancy.EMPTY.with(NINE, NINE + 3600);
+
+        assertThat(days.test(NINE + 1800, NINE + 5400)).isEqualTo(DayOccupancy.Answer.BUSY);
+        assertThat(days.test(NINE + 3600, NINE + 7200)).isEqualTo(DayOccupancy.Answer.FREE);
+        assertThat(days.test(NINE - 3600, NINE)).isEqualTo(DayOccupancy.Answer.FREE);
+        assertThat(days.test(NINE + 3 * DAY, NINE + 3 * DAY + 3600)).isEqualTo(DayOccupancy.Answer.FREE);
+        assertThat(days.days()).isEqualTo(1);
+    }
+
+    @Test
+    void unalignedIntervalsLeaveSharedSlotsUnknown() {
+        DayOccupancy days = DayOccupancy.EMPTY.with(NINE, NINE + 120);
+
+        // 9:03–9:05 shares the 9:00 slot with 9:00–9:02 without overlapping it
+        assertThat(days.test(NINE + 180, NINE + 300)).isEqualTo(DayOccupancy.Answer.UNKNOWN);
+        assertThat(days.test(NINE + 300, NINE + 600)).isEqualTo(DayOccupancy.Answer.FREE);
+    }
+
+    @Test
+    void withoutKeepsSlotsStillTouchedByOtherIntervals() {
+        IntervalTimeline timeline = IntervalTimeline.EMPTY
+                .with(1, NINE, NINE + 120)
+                .with(2, NINE + 180, NINE + 600);
+        DayOccupancy days = DayOccupancy.of(timeline);
+
+        IntervalTimeline remaining = timeline.without(2, NINE + 180);
+        days = days.without(NINE + 180, NINE + 600, remaining);
+
+        assertThat(days.test(NINE, NINE + 60)).isNotEqualTo(DayOccupancy.Answer.FREE);
+        assertThat(days.test(NINE + 300, NINE + 600)).isEqualTo(DayOccupancy.Answer.FREE);
+    }
+
+    @Test
+    void rangeMovesForwardAndOlderDaysBecomeUnknown() {
+        DayOccupancy days = DayOccupancy.EMPTY
+                .with(NINE, NINE + 3600)
+                .with(NINE + DayOccupancy.MAX_DAYS * DAY, NINE + DayOccupancy.MAX_DAYS * DAY + 3600);
+
+        assertThat(days.days()).isEqualTo(DayOccupancy.MAX_DAYS);
+        assertThat(days.test(NINE, NINE + 3600)).isEqualTo(DayOccupancy.Answer.UNKNOWN);
+        assertThat(days.test(NINE + 10 * DAY, NINE + 10 * DAY + 3600)).isEqualTo(DayOccupancy.Answer.FREE);
+        assertThat(days.sizeInBytes()).isEqualTo(48 + 8L * DayOccupancy.WORDS_PER_DAY * DayOccupancy.MAX_DAYS);
+    }
+
+    @Test
+    void neverContradictsTheIntervals() {
+        Random random = new Random(7);
+        IntervalTimeline timeline = IntervalTimeline.EMPTY;
+        DayOccupancy days = DayOccupancy.EMPTY;
+
+        for (long id = 0; id < 400; id++) {
+            long start = NINE + random.nextInt(30) * DAY + random.nextInt(12 * 3600);
+            long end = start + 60 + random.nextInt(3 * 3600);
+
+            timeline = timeline.with(id, start, end);
+            days = days.with(start, end);
+
+            if (id % 3 == 0) {
+                timeline = timeline.without(id, start);
+                days = days.without(start, end, timeline);
+            }
+        }
+
+        assertMatches(timeline, days, random);
+        assertMatches(timeline, DayOccupancy.of(timeline), random);
+    }
+
+    @Test
+    void alignedScheduleIsDecidedWithoutTheIntervals() {
+        Random random = new Random(11);
+        IntervalTimeline timeline = IntervalTimeline.EMPTY;
+
+        for (long id = 0; id < 200; id++) {
+            long start = NINE + random.nextInt(30) * DAY + random.nextInt(144) * 300L;
+            timeline = timeline.with(id, start, start + (1 + random.nextInt(24)) * 300L);
+        }
+
+        DayOccupancy days = DayOccupancy.of(timeline);
+
+        for (int i = 0; i < 5000; i++) {
+            long start = NINE + random.nextInt(30) * DAY + random.nextInt(200) * 300L;
+            long end = start + (1 + random.nextInt(12)) * 300L;
+
+            assertThat(days.test(start, end) == DayOccupancy.Answer.BUSY).isEqualTo(timeline.overlaps(start, end, Long.MIN_VALUE));
+        }
+    }
+
+    private static void assertMatches(IntervalTimeline timeline, DayOccupancy days, Random random) {
+        for (int i = 0; i < 5000; i++) {
+            long start = NINE - DAY + random.nextInt(32) * DAY + random.nextInt(24 * 3600);
+            long end = start + 1 + random.nextInt(2 * 3600);
+            boolean overlaps = timeline.overlaps(start, end, Long.MIN_VALUE);
+
+            switch (days.test(start, end)) {
+                case FREE -> assertThat(overlaps).isFalse();
+                case BUSY -> assertThat(overlaps).isTrue();
+                case UNKNOWN -> { }
+            }
+        }
+    }
+}
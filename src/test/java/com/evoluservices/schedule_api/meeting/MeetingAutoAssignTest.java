@@ -0,0 +1,139 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.AutoAssignMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MeetingAutoAssignTest {
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoSpyBean
+    private MeetingSeriesService meetingSeriesService;
+
+    private User user;
+    private User otherUser;
+    private Room preferredRoom;
+    private Room otherRoom;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = saveUser("maria@example.com");
+        otherUser = saveUser("joao@example.com");
+        preferredRoom = roomRepository.save(new Room(null, "Sala Preferida", null, null, null, null));
+        otherRoom = roomRepository.save(new Room(null, "Sala Reserva", null, null, null, null));
+    }
+
+    @Test
+    void createInBestRoom_whenAnotherBookingTakesThePlannedRoom_booksTheNextCandidate() {
+        LocalDateTime nine = LocalDateTime.of(2024, 2, 8, 9, 0);
+        AtomicBoolean raced = new AtomicBoolean();
+        double conflictsBefore = conflicts(preferredRoom);
+
+        // another request books the preferred room after the plan read the schedule, before the insert
+        doAnswer(invocation -> {
+            Object calendar = invocation.callRealMethod();
+            if (raced.compareAndSet(false, true)) {
+                Meeting meeting = new Meeting();
+                meeting.setStartsAt(nine);
+                meeting.setEndsAt(nine.plusHours(1));
+                meeting.setUser(otherUser);
+                meeting.setRoom(preferredRoom);
+                meetingRepository.save(meeting);
+            }
+            return calendar;
+        }).when(meetingSeriesService).calendarFor(any(), any(), any(), any());
+
+        ResponseMeetingDto booked = meetingService.createInBestRoom(
+                new AutoAssignMeetingDto(nine, nine.plusHours(1), 60, user.getId(), List.of(preferredRoom.getId())));
+
+        assertThat(booked.roomId()).isEqualTo(otherRoom.getId());
+        assertThat(booked.startsAt()).isEqualTo(nine);
+        assertThat(meetingRepository.count()).isEqualTo(2);
+        assertThat(conflicts(preferredRoom)).isEqualTo(conflictsBefore + 1);
+    }
+
+    @Test
+    void createInBestRoom_whenAnotherBookingTakesOnlyThePlannedSlot_booksAnotherSlotInTheSameRoom() {
+        LocalDateTime nine = LocalDateTime.of(2024, 2, 8, 9, 0);
+        AtomicBoolean raced = new AtomicBoolean();
+        saveMeeting(otherUser, otherRoom, nine, nine.plusHours(2));
+        double conflictsBefore = conflicts(preferredRoom);
+
+        // the plan picks 9:00 in the preferred room, which another request takes before the insert
+        doAnswer(invocation -> {
+            Object calendar = invocation.callRealMethod();
+            if (raced.compareAndSet(false, true)) {
+                saveMeeting(otherUser, preferredRoom, nine, nine.plusHours(1));
+            }
+            return calendar;
+        }).when(meetingSeriesService).calendarFor(any(), any(), any(), any());
+
+        ResponseMeetingDto booked = meetingService.createInBestRoom(
+                new AutoAssignMeetingDto(nine, nine.plusHours(2), 60, user.getId(), List.of(preferredRoom.getId())));
+
+        assertThat(booked.roomId()).isEqualTo(preferredRoom.getId());
+        assertThat(booked.startsAt()).isEqualTo(nine.plusHours(1));
+        assertThat(meetingRepository.count()).isEqualTo(3);
+        assertThat(conflicts(preferredRoom)).isEqualTo(conflictsBefore);
+    }
+
+    private void saveMeeting(User organizer, Room room, LocalDateTime startsAt, LocalDateTime endsAt) {
+        Meeting meeting = new Meeting();
+        meeting.setStartsAt(startsAt);
+        meeting.setEndsAt(endsAt);
+        meeting.setUser(organizer);
+        meeting.setRoom(room);
+        meetingRepository.save(meeting);
+    }
+
+    private double conflicts(Room room) {
+        var counter = meterRegistry.find("schedule.booking.conflicts").tag("room", String.valueOf(room.getId())).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private User saveUser(String email) {
+        User saved = new User();
+        saved.setName("Usuário Teste");
+        saved.setEmail(email);
+        saved.setPassword("senha");
+        return userRepository.save(saved);
+    }
+}
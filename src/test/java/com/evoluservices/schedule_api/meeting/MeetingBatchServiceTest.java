@@ -0,0 +1,123 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingBatchDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MeetingBatchServiceTest {
+
+    @Autowired
+    private MeetingBatchService meetingBatchService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private MeetingSeriesService meetingSeriesService;
+
+    private User user;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = new User();
+        user.setName("Maria Teste");
+        user.setEmail("maria@example.com");
+        user.setPassword("senha");
+        user = userRepository.save(user);
+
+        room = roomRepository.save(new Room(null, "Sala Lote", null, null, null, null));
+
+        // H2 has no exclusion constraints; a unique start per room, named like the Postgres one, stands in for them here
+        jdbcTemplate.execute("CREATE UNIQUE INDEX meetings_room_no_overlap ON meetings (room_id, starts_at)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP INDEX IF EXISTS meetings_room_no_overlap");
+    }
+
+    @Test
+    void create_whenAnotherWriterWinsASlot_rejectsOnlyTheLosingItem() {
+        LocalDateTime nine = LocalDateTime.of(2024, 2, 1, 9, 0);
+        AtomicBoolean raced = new AtomicBoolean();
+
+        // another instance books 9:00 after the batch has read the schedule and before it inserts
+        doAnswer(invocation -> {
+            if (raced.compareAndSet(false, true)) {
+                jdbcTemplate.update("""
+                        INSERT INTO meetings (id, starts_at, ends_at, room_id, user_id, created_at, version)
+                        VALUES (nextval('meetings_id_seq'), ?, ?, ?, ?, ?, 0)
+                        """, Timestamp.valueOf(nine), Timestamp.valueOf(nine.plusHours(1)), room.getId(), user.getId(),
+                        Timestamp.valueOf(nine));
+            }
+            return invocation.callRealMethod();
+        }).when(meetingSeriesService).calendarFor(any(), any(), any(), any());
+
+        ResponseMeetingBatchDto result = meetingBatchService.create(List.of(
+                new CreateMeetingDto(nine, nine.plusHours(1), user.getId(), room.getId()),
+                new CreateMeetingDto(nine.plusHours(2), nine.plusHours(3), user.getId(), room.getId())));
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.results().get(0).status()).isEqualTo(409);
+        assertThat(result.results().get(1).status()).isEqualTo(200);
+        assertThat(meetingRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void create_whenTheRoomIsDeletedMeanwhile_rethrowsWithoutRetrying() {
+        LocalDateTime nine = LocalDateTime.of(2024, 2, 1, 9, 0);
+
+        // the room goes away after the batch has loaded it, so the insert breaks its foreign key
+        doAnswer(invocation -> {
+            jdbcTemplate.update("DELETE FROM rooms WHERE id = ?", room.getId());
+            return invocation.callRealMethod();
+        }).when(meetingSeriesService).calendarFor(any(), any(), any(), any());
+
+        assertThatThrownBy(() -> meetingBatchService.create(List.of(
+                new CreateMeetingDto(nine, nine.plusHours(1), user.getId(), room.getId()))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        verify(meetingSeriesService, times(1)).calendarFor(any(), any(), any(), any());
+        assertThat(meetingRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,138 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class MeetingBookingConcurrencyTest {
+
+    private static final int REQUESTS = 2000;
+    private static final int THREADS = 32;
+    private static final int SLOTS = 40;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Room> rooms = new ArrayList<>();
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+        rooms.clear();
+        users.clear();
+
+        for (int i = 0; i < 4; i++) {
+            Room room = new Room();
+            room.setName("Sala " + i);
+            rooms.add(roomRepository.save(room));
+
+            User user = new User();
+            user.setName("Usuário " + i);
+            user.setEmail("usuario" + i + "@example.com");
+            user.setPassword("senha");
+            users.add(userRepository.save(user));
+        }
+    }
+
+    @Test
+    void parallelBookings_neverDoubleBookRoomsOrUsers() throws Exception {
+        LocalDateTime base = LocalDateTime.of(2024, 3, 1, 8, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            results.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                // 30 minute offsets on 1 hour meetings so neighbouring slots also collide
+                LocalDateTime startsAt = base.plusMinutes(30L * random.nextInt(SLOTS));
+                CreateMeetingDto dto = new CreateMeetingDto(
+                        startsAt,
+                        startsAt.plusHours(1),
+                        users.get(random.nextInt(users.size())).getId(),
+                        rooms.get(random.nextInt(rooms.size())).getId()
+                );
+
+                return mockMvc.perform(post("/meetings")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(dto)))
+                        .andReturn()
+                        .getResponse()
+                        .getStatus();
+            }));
+        }
+
+        int created = 0;
+        int conflicts = 0;
+
+        for (Future<Integer> result : results) {
+            int status = result.get();
+            if (status == 200) created++;
+            if (status == 409) conflicts++;
+        }
+
+        executor.shutdown();
+
+        List<Meeting> meetings = meetingRepository.findAll();
+
+        assertThat(created + conflicts).isEqualTo(REQUESTS);
+        assertThat(meetings).hasSize(created);
+        assertNoOverlaps(meetings, meeting -> meeting.getRoom().getId());
+        assertNoOverlaps(meetings, meeting -> meeting.getUser().getId());
+    }
+
+    private void assertNoOverlaps(List<Meeting> meetings, Function<Meeting, Long> key) {
+        Map<Long, List<Meeting>> grouped = meetings.stream().collect(Collectors.groupingBy(key));
+
+        for (List<Meeting> group : grouped.values()) {
+            group.sort(Comparator.comparing(Meeting::getStartsAt));
+
+            for (int i = 1; i < group.size(); i++) {
+                assertThat(group.get(i).getStartsAt()).isAfterOrEqualTo(group.get(i - 1).getEndsAt());
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.evoluservices.schedule_api.meeting;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Measures the room conflict check against a seeded PostgreSQL database (the one from
+ * {@code docker-compose.yml}). It is not part of the regular test run; execute it explicitly:
+ * <pre>
+ * ./mvnw test -Dtest=MeetingConflictQueryBenchmark -Dbenchmark.meetings=1000000
+ * ./mvnw test -Dtest=MeetingConflictQueryBenchmark -Dbenchmark.meetings=10000000
+ * </pre>
+ * To get the "before" numbers run it against a schema migrated with {@code -Dspring.flyway.target=4},
+ * which leaves out the composite indexes.
+ */
+@SpringBootTest(properties = "schedule.index.enabled=false")
+class MeetingConflictQueryBenchmark {
+
+    private static final int ROOMS = 1000;
+    private static final int ITERATIONS = 2000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private static final String LEGACY_COUNT_QUERY = """
+            SELECT COUNT(*) > 0
+            FROM meetings m
+            WHERE m.room_id = ?
+              AND m.starts_at < ?
+              AND m.ends_at > ?
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Test
+    void conflictCheckLatency() {
+        long meetings = Long.getLong("benchmark.meetings", 1_000_000L);
+        int perRoom = (int) (meetings / ROOMS);
+
+        seed(perRoom);
+
+        List<Long> roomIds = jdbcTemplate.queryForList(
+                "SELECT id FROM rooms WHERE name LIKE 'bench-%' ORDER BY id", Long.class);
+
+        report("COUNT(*) > 0", perRoom, roomIds, (roomId, startsAt, endsAt) ->
+                () -> Boolean.TRUE.equals(jdbcTemplate.queryForObject(LEGACY_COUNT_QUERY, Boolean.class, roomId, endsAt, startsAt)));
+
+        report("EXISTS", perRoom, roomIds, (roomId, startsAt, endsAt) ->
+                () -> meetingRepository.existsOverlappingMeeting(roomId, startsAt, endsAt, null));
+    }
+
+    private void seed(int perRoom) {
+        Long seeded = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM meetings m JOIN rooms r ON r.id = m.room_id WHERE r.name LIKE 'bench-%'
+                """, Long.class);
+
+        if (seeded != null && seeded >= (long) perRoom * ROOMS) {
+            return;
+        }
+
+        jdbcTemplate.update("DELETE FROM rooms WHERE name LIKE 'bench-%'");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'bench-%'");
+        jdbcTemplate.update("INSERT INTO rooms (name) SELECT 'bench-' || g FROM generate_series(1, ?) g", ROOMS);
+        jdbcTemplate.update("""
+                INSERT INTO users (name, email, password)
+                SELECT 'bench-' || g, 'bench-' || g || '@example.com', 'x' FROM generate_series(1, ?) g
+                """, ROOMS);
+
+        // every room gets one user and back-to-back 45 minute meetings, so the overlap constraints hold
+        jdbcTemplate.update("""
+                INSERT INTO meetings (starts_at, ends_at, user_id, room_id)
+                SELECT TIMESTAMP '2020-01-01' + s * INTERVAL '1 hour',
+                       TIMESTAMP '2020-01-01' + s * INTERVAL '1 hour' + INTERVAL '45 minutes',
+                       u.id, r.id
+                FROM (SELECT id, row_number() OVER (ORDER BY id) AS rn FROM rooms WHERE name LIKE 'bench-%') r
+                JOIN (SELECT id, row_number() OVER (ORDER BY id) AS rn FROM users WHERE email LIKE 'bench-%') u ON u.rn = r.rn
+                CROSS JOIN generate_series(0, ? - 1) s
+                """, perRoom);
+
+        jdbcTemplate.execute("ANALYZE meetings");
+    }
+
+    private void report(String label, int perRoom, List<Long> roomIds, CheckFactory factory) {
+        long[] nanos = new long[ITERATIONS];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = -ITERATIONS / 10; i < ITERATIONS; i++) {
+            Long roomId = roomIds.get(random.nextInt(roomIds.size()));
+            LocalDateTime startsAt = BASE.plusMinutes(random.nextLong(perRoom * 60L));
+            BooleanSupplier check = factory.create(roomId, startsAt, startsAt.plusMinutes(30));
+
+            long began = System.nanoTime();
+            check.getAsBoolean();
+            long elapsed = System.nanoTime() - began;
+
+            // negative indexes are warm-up iterations
+            if (i >= 0) {
+                nanos[i] = elapsed;
+            }
+        }
+
+        Arrays.sort(nanos);
+        System.out.printf("%-14s meetings=%d p50=%.3fms p99=%.3fms%n",
+                label, (long) perRoom * ROOMS, nanos[ITERATIONS / 2] / 1e6, nanos[ITERATIONS * 99 / 100] / 1e6);
+    }
+
+    @FunctionalInterface
+    private interface CheckFactory {
+        BooleanSupplier create(Long roomId, LocalDateTime startsAt, LocalDateTime endsAt);
+    }
+}
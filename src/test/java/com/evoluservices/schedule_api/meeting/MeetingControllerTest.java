@@ -1,29 +1,42 @@
 package com.evoluservices.schedule_api.meeting;
 
+import com.evoluservices.schedule_api.meeting.dto.AutoAssignMeetingDto;
 import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.SolveMeetingItemDto;
+import com.evoluservices.schedule_api.meeting.dto.SolveMeetingsDto;
 import com.evoluservices.schedule_api.meeting.dto.UpdateMeetingDto;
+import com.evoluservices.schedule_api.observability.QueryCountStatementInspector;
 import com.evoluservices.schedule_api.room.Room;
 import com.evoluservices.schedule_api.room.RoomRepository;
 import com.evoluservices.schedule_api.user.User;
 import com.evoluservices.schedule_api.user.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -46,6 +59,9 @@ class MeetingControllerTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private User defaultUser;
     private Room defaultRoom;
 
@@ -159,6 +175,207 @@ class MeetingControllerTest {
                 .andExpect(status().isConflict());
     }
 
+    @Test
+    void createMeeting_withAttendees_storesThemAndChecksTheirSchedules() throws Exception {
+        User ana = saveUser("ana@example.com");
+        User joao = saveUser("joao@example.com");
+
+        CreateMeetingDto dto = new CreateMeetingDto(
+                LocalDateTime.of(2024, 1, 1, 9, 0),
+                LocalDateTime.of(2024, 1, 1, 10, 0),
+                defaultUser.getId(),
+                defaultRoom.getId(),
+                List.of(joao.getId(), ana.getId(), ana.getId(), defaultUser.getId())
+        );
+
+        String body = mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long meetingId = objectMapper.readTree(body).get("id").asLong();
+
+        mockMvc.perform(get("/meetings/{id}/attendees", meetingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0]").value(ana.getId()))
+                .andExpect(jsonPath("$[1]").value(joao.getId()));
+
+        Room anotherRoom = new Room();
+        anotherRoom.setName("Sala Dois");
+        anotherRoom = roomRepository.save(anotherRoom);
+
+        // ana is only an invitee at 9–10, but still cannot organize another meeting then
+        CreateMeetingDto organizedByAttendee = new CreateMeetingDto(
+                LocalDateTime.of(2024, 1, 1, 9, 30),
+                LocalDateTime.of(2024, 1, 1, 10, 30),
+                ana.getId(),
+                anotherRoom.getId()
+        );
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(organizedByAttendee)))
+                .andExpect(status().isConflict())
+                .andExpect(status().reason("O usuário já possui uma reunião neste horário"));
+
+        User pedro = saveUser("pedro@example.com");
+        CreateMeetingDto invitingBusyAttendee = new CreateMeetingDto(
+                LocalDateTime.of(2024, 1, 1, 9, 30),
+                LocalDateTime.of(2024, 1, 1, 10, 30),
+                pedro.getId(),
+                anotherRoom.getId(),
+                List.of(joao.getId())
+        );
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invitingBusyAttendee)))
+                .andExpect(status().isConflict())
+                .andExpect(status().reason("O participante " + joao.getId() + " já possui uma reunião neste horário"));
+
+        assertThat(meetingRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void updateMeeting_changingOnlyAttendees_bumpsTheVersion() throws Exception {
+        User ana = saveUser("ana@example.com");
+        Meeting meeting = meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 1, 2, 9, 0), LocalDateTime.of(2024, 1, 2, 10, 0)));
+
+        mockMvc.perform(patch("/meetings/{id}", meeting.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateMeetingDto(null, null, null, null, List.of(ana.getId())))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        // the read before the attendee change is stale now
+        mockMvc.perform(patch("/meetings/{id}", meeting.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateMeetingDto(null, null, null, null, List.of()))))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void createMeeting_withUnknownAttendee_returnsNotFound() throws Exception {
+        CreateMeetingDto dto = new CreateMeetingDto(
+                LocalDateTime.of(2024, 1, 1, 9, 0),
+                LocalDateTime.of(2024, 1, 1, 10, 0),
+                defaultUser.getId(),
+                defaultRoom.getId(),
+                List.of(Long.MAX_VALUE)
+        );
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isNotFound());
+
+        assertThat(meetingRepository.count()).isZero();
+    }
+
+    @Test
+    void updateMeeting_replacesAttendeesAndMovesTheirTimes() throws Exception {
+        User ana = saveUser("ana@example.com");
+        User joao = saveUser("joao@example.com");
+
+        String body = mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMeetingDto(
+                                LocalDateTime.of(2024, 1, 1, 9, 0),
+                                LocalDateTime.of(2024, 1, 1, 10, 0),
+                                defaultUser.getId(),
+                                defaultRoom.getId(),
+                                List.of(ana.getId())))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long meetingId = objectMapper.readTree(body).get("id").asLong();
+
+        UpdateMeetingDto update = new UpdateMeetingDto(
+                LocalDateTime.of(2024, 1, 1, 14, 0),
+                LocalDateTime.of(2024, 1, 1, 15, 0),
+                null,
+                null,
+                List.of(joao.getId())
+        );
+
+        mockMvc.perform(patch("/meetings/{id}", meetingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/meetings/{id}/attendees", meetingId))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0]").value(joao.getId()));
+
+        // ana was dropped and joão moved with the meeting to 14–15
+        Room anotherRoom = new Room();
+        anotherRoom.setName("Sala Dois");
+        anotherRoom = roomRepository.save(anotherRoom);
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMeetingDto(
+                                LocalDateTime.of(2024, 1, 1, 9, 0),
+                                LocalDateTime.of(2024, 1, 1, 10, 0),
+                                ana.getId(),
+                                anotherRoom.getId()))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMeetingDto(
+                                LocalDateTime.of(2024, 1, 1, 14, 30),
+                                LocalDateTime.of(2024, 1, 1, 15, 30),
+                                joao.getId(),
+                                anotherRoom.getId()))))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void findUserMeetings_walksOrganizedAndAttendedMeetingsByCursor() throws Exception {
+        User ana = saveUser("ana@example.com");
+        LocalDateTime start = LocalDateTime.of(2024, 5, 1, 8, 0);
+
+        // ana organizes the 8h, 10h and 12h meetings and is invited to the 9h and 11h ones
+        for (int i = 0; i < 5; i++) {
+            Meeting meeting = buildMeeting(start.plusHours(i), start.plusHours(i).plusMinutes(30));
+            if (i % 2 == 0) {
+                meeting.setUser(ana);
+            }
+            meeting = meetingRepository.save(meeting);
+
+            if (i % 2 == 1) {
+                mockMvc.perform(patch("/meetings/{id}", meeting.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new UpdateMeetingDto(null, null, null, null, List.of(ana.getId())))))
+                        .andExpect(status().isOk());
+            }
+        }
+
+        String first = mockMvc.perform(get("/users/{id}/meetings", ana.getId()).param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content[0].startsAt").value("2024-05-01T08:00:00"))
+                .andExpect(jsonPath("$.content[1].startsAt").value("2024-05-01T09:00:00"))
+                .andExpect(jsonPath("$.content[1].userId").value(defaultUser.getId()))
+                .andExpect(jsonPath("$.content[2].startsAt").value("2024-05-01T10:00:00"))
+                .andReturn().getResponse().getContentAsString();
+        String next = objectMapper.readTree(first).get("next").asText();
+
+        mockMvc.perform(get("/users/{id}/meetings", ana.getId()).param("limit", "3").param("after", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].startsAt").value("2024-05-01T11:00:00"))
+                .andExpect(jsonPath("$.content[1].startsAt").value("2024-05-01T12:00:00"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+
+        mockMvc.perform(get("/users/{id}/meetings", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void findAll_returnsPageOfMeetings() throws Exception {
         meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 10, 0)));
@@ -205,6 +422,73 @@ class MeetingControllerTest {
                 .andExpect(jsonPath("$.endsAt").value("2024-01-04T12:00:00"));
     }
 
+    @Test
+    void findById_withCurrentETag_returnsNotModified() throws Exception {
+        Meeting meeting = meetingRepository.save(buildMeeting(
+                LocalDateTime.of(2024, 1, 3, 9, 0),
+                LocalDateTime.of(2024, 1, 3, 10, 0)));
+
+        String etag = mockMvc.perform(get("/meetings/" + meeting.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/meetings/" + meeting.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void updateMeeting_withIfMatch_appliesOnlyToCurrentVersion() throws Exception {
+        Meeting meeting = meetingRepository.save(buildMeeting(
+                LocalDateTime.of(2024, 1, 4, 9, 0),
+                LocalDateTime.of(2024, 1, 4, 10, 0)));
+
+        UpdateMeetingDto dto = new UpdateMeetingDto(
+                LocalDateTime.of(2024, 1, 4, 11, 0),
+                LocalDateTime.of(2024, 1, 4, 12, 0),
+                null,
+                null
+        );
+
+        mockMvc.perform(patch("/meetings/" + meeting.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(patch("/meetings/" + meeting.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateMeeting_withoutChanges_skipsWrite() throws Exception {
+        Meeting meeting = meetingRepository.save(buildMeeting(
+                LocalDateTime.of(2024, 1, 4, 9, 0),
+                LocalDateTime.of(2024, 1, 4, 10, 0)));
+
+        UpdateMeetingDto dto = new UpdateMeetingDto(
+                LocalDateTime.of(2024, 1, 4, 9, 0),
+                null,
+                defaultUser.getId(),
+                defaultRoom.getId()
+        );
+
+        mockMvc.perform(patch("/meetings/" + meeting.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        assertThat(meetingRepository.findById(meeting.getId())).get()
+                .extracting(Meeting::getVersion)
+                .isEqualTo(0L);
+    }
+
     @Test
     void updateMeeting_conflictWithRoom_returnsConflict() throws Exception {
         Meeting existing = meetingRepository.save(buildMeeting(
@@ -240,6 +524,324 @@ class MeetingControllerTest {
         assertThat(meetingRepository.existsById(meeting.getId())).isFalse();
     }
 
+    @Test
+    void createMeeting_afterConflictingMeetingDeleted_returnsOk() throws Exception {
+        Meeting existing = meetingRepository.save(buildMeeting(
+                LocalDateTime.of(2024, 1, 8, 9, 0),
+                LocalDateTime.of(2024, 1, 8, 10, 0)));
+
+        mockMvc.perform(delete("/meetings/" + existing.getId()))
+                .andExpect(status().isNoContent());
+
+        CreateMeetingDto dto = new CreateMeetingDto(
+                LocalDateTime.of(2024, 1, 8, 9, 30),
+                LocalDateTime.of(2024, 1, 8, 10, 30),
+                defaultUser.getId(),
+                defaultRoom.getId()
+        );
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void createMeeting_inSlotFreedByUpdate_returnsOk() throws Exception {
+        Meeting existing = meetingRepository.save(buildMeeting(
+                LocalDateTime.of(2024, 1, 9, 9, 0),
+                LocalDateTime.of(2024, 1, 9, 10, 0)));
+
+        UpdateMeetingDto update = new UpdateMeetingDto(
+                LocalDateTime.of(2024, 1, 9, 14, 0),
+                LocalDateTime.of(2024, 1, 9, 15, 0),
+                null,
+                null
+        );
+
+        mockMvc.perform(patch("/meetings/" + existing.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        CreateMeetingDto dto = new CreateMeetingDto(
+                LocalDateTime.of(2024, 1, 9, 9, 0),
+                LocalDateTime.of(2024, 1, 9, 10, 0),
+                defaultUser.getId(),
+                defaultRoom.getId()
+        );
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void createBatch_reportsPerItemResults() throws Exception {
+        meetingRepository.save(buildMeeting(
+                LocalDateTime.of(2024, 2, 1, 14, 0),
+                LocalDateTime.of(2024, 2, 1, 15, 0)));
+
+        List<CreateMeetingDto> dtos = List.of(
+                new CreateMeetingDto(LocalDateTime.of(2024, 2, 1, 9, 0), LocalDateTime.of(2024, 2, 1, 10, 0), defaultUser.getId(), defaultRoom.getId()),
+                new CreateMeetingDto(LocalDateTime.of(2024, 2, 1, 9, 30), LocalDateTime.of(2024, 2, 1, 10, 30), defaultUser.getId(), defaultRoom.getId()),
+                new CreateMeetingDto(LocalDateTime.of(2024, 2, 1, 14, 30), LocalDateTime.of(2024, 2, 1, 15, 30), defaultUser.getId(), defaultRoom.getId()),
+                new CreateMeetingDto(LocalDateTime.of(2024, 2, 1, 11, 0), LocalDateTime.of(2024, 2, 1, 12, 0), defaultUser.getId(), -1L),
+                new CreateMeetingDto(LocalDateTime.of(2024, 2, 1, 10, 0), LocalDateTime.of(2024, 2, 1, 11, 0), defaultUser.getId(), defaultRoom.getId())
+        );
+
+        mockMvc.perform(post("/meetings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dtos)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[1].status").value(409))
+                .andExpect(jsonPath("$.results[2].status").value(409))
+                .andExpect(jsonPath("$.results[3].status").value(404))
+                .andExpect(jsonPath("$.results[4].status").value(200));
+
+        assertThat(meetingRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void createInBestRoom_fillsTightestGap() throws Exception {
+        meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 2, 5, 9, 0), LocalDateTime.of(2024, 2, 5, 10, 0)));
+        meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 2, 5, 11, 0), LocalDateTime.of(2024, 2, 5, 12, 0)));
+        Room emptyRoom = roomRepository.save(new Room(null, "Sala Vazia", null, null, null, null));
+        User otherUser = saveUser("joao@example.com");
+
+        AutoAssignMeetingDto dto = new AutoAssignMeetingDto(
+                LocalDateTime.of(2024, 2, 5, 9, 0), LocalDateTime.of(2024, 2, 5, 13, 0), 60, otherUser.getId(), null);
+
+        mockMvc.perform(post("/meetings/auto")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roomId").value(defaultRoom.getId()))
+                .andExpect(jsonPath("$.startsAt").value("2024-02-05T10:00:00"))
+                .andExpect(jsonPath("$.endsAt").value("2024-02-05T11:00:00"));
+
+        AutoAssignMeetingDto preferring = new AutoAssignMeetingDto(
+                LocalDateTime.of(2024, 2, 5, 9, 0), LocalDateTime.of(2024, 2, 5, 13, 0), 60, otherUser.getId(), List.of(emptyRoom.getId()));
+
+        mockMvc.perform(post("/meetings/auto")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(preferring)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roomId").value(emptyRoom.getId()))
+                .andExpect(jsonPath("$.startsAt").value("2024-02-05T09:00:00"));
+    }
+
+    @Test
+    void createInBestRoom_withUserBusyInWholeWindow_returnsConflict() throws Exception {
+        meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 2, 6, 9, 0), LocalDateTime.of(2024, 2, 6, 10, 0)));
+        roomRepository.save(new Room(null, "Sala Livre", null, null, null, null));
+
+        AutoAssignMeetingDto dto = new AutoAssignMeetingDto(
+                LocalDateTime.of(2024, 2, 6, 9, 0), LocalDateTime.of(2024, 2, 6, 10, 0), 30, defaultUser.getId(), null);
+
+        mockMvc.perform(post("/meetings/auto")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isConflict());
+
+        AutoAssignMeetingDto tooLong = new AutoAssignMeetingDto(
+                LocalDateTime.of(2024, 2, 6, 9, 0), LocalDateTime.of(2024, 2, 6, 10, 0), 90, defaultUser.getId(), null);
+
+        mockMvc.perform(post("/meetings/auto")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(tooLong)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void solve_placesFlexibleMeetingAroundFixedOnesAndReportsUnsatisfiable() throws Exception {
+        LocalDateTime nine = LocalDateTime.of(2024, 2, 7, 9, 0);
+        User second = saveUser("segundo@example.com");
+        User third = saveUser("terceiro@example.com");
+        User fourth = saveUser("quarto@example.com");
+
+        SolveMeetingsDto dto = new SolveMeetingsDto(List.of(
+                new SolveMeetingItemDto(defaultUser.getId(), 60, nine, nine.plusHours(3), null),
+                new SolveMeetingItemDto(second.getId(), 60, nine, nine.plusHours(1), null),
+                new SolveMeetingItemDto(third.getId(), 60, nine.plusHours(1), nine.plusHours(2), List.of(defaultRoom.getId())),
+                new SolveMeetingItemDto(fourth.getId(), 60, nine, nine.plusHours(1), null),
+                new SolveMeetingItemDto(999999L, 60, nine, nine.plusHours(1), null)
+        ), 1000L);
+
+        mockMvc.perform(post("/meetings/solve")
+                        .param("apply", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignments.length()").value(3))
+                .andExpect(jsonPath("$.assignments[0].index").value(0))
+                .andExpect(jsonPath("$.assignments[0].startsAt").value("2024-02-07T11:00:00"))
+                .andExpect(jsonPath("$.assignments[1].startsAt").value("2024-02-07T09:00:00"))
+                .andExpect(jsonPath("$.assignments[2].startsAt").value("2024-02-07T10:00:00"))
+                .andExpect(jsonPath("$.unsatisfiable.length()").value(2))
+                .andExpect(jsonPath("$.unsatisfiable[0].index").value(3))
+                .andExpect(jsonPath("$.unsatisfiable[0].status").value(409))
+                .andExpect(jsonPath("$.unsatisfiable[1].index").value(4))
+                .andExpect(jsonPath("$.unsatisfiable[1].status").value(404))
+                .andExpect(jsonPath("$.booking.created").value(3))
+                .andExpect(jsonPath("$.booking.results[0].index").value(0));
+
+        assertThat(meetingRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void createMeeting_withWarmEntityCache_skipsRoomAndUserQueries() throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        QueryCountStatementInspector.begin();
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMeetingDto(
+                                LocalDateTime.of(2024, 3, 1, 9, 0), LocalDateTime.of(2024, 3, 1, 10, 0), defaultUser.getId(), defaultRoom.getId()))))
+                .andExpect(status().isOk());
+        long coldQueries = QueryCountStatementInspector.end();
+        QueryCountStatementInspector.begin();
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMeetingDto(
+                                LocalDateTime.of(2024, 3, 1, 11, 0), LocalDateTime.of(2024, 3, 1, 12, 0), defaultUser.getId(), defaultRoom.getId()))))
+                .andExpect(status().isOk());
+        long warmQueries = QueryCountStatementInspector.end();
+
+        // the room and the user come from the cache; the insert still reaches the database
+        assertThat(warmQueries).isEqualTo(coldQueries - 2);
+        assertThat(warmQueries).isPositive();
+    }
+
+    @Test
+    void findAllMeetings_loadsPageWithSingleQueryPlusCount() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2024, 4, 1, 8, 0);
+        List<Meeting> meetings = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            meetings.add(buildMeeting(start.plusHours(i), start.plusHours(i).plusMinutes(30)));
+        }
+        meetingRepository.saveAll(meetings);
+
+        entityManagerFactory.getCache().evictAll();
+        QueryCountStatementInspector.begin();
+
+        mockMvc.perform(get("/meetings").param("size", "100").param("sort", "startsAt"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(100))
+                .andExpect(jsonPath("$.content[0].userId").value(defaultUser.getId()))
+                .andExpect(jsonPath("$.content[0].roomId").value(defaultRoom.getId()));
+
+        assertThat(QueryCountStatementInspector.end()).isEqualTo(2);
+    }
+
+    @Test
+    void findAllMeetings_withLimit_walksPagesByCursor() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2024, 5, 1, 8, 0);
+        for (int i = 0; i < 5; i++) {
+            meetingRepository.save(buildMeeting(start.plusHours(i), start.plusHours(i).plusMinutes(30)));
+        }
+
+        String first = mockMvc.perform(get("/meetings").param("limit", "2").param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].startsAt").value("2024-05-01T08:00:00"))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andReturn().getResponse().getContentAsString();
+        String next = objectMapper.readTree(first).get("next").asText();
+
+        String second = mockMvc.perform(get("/meetings").param("limit", "2").param("after", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].startsAt").value("2024-05-01T10:00:00"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        next = objectMapper.readTree(second).get("next").asText();
+
+        mockMvc.perform(get("/meetings").param("limit", "2").param("after", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].startsAt").value("2024-05-01T12:00:00"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void findAllMeetings_withInvalidCursor_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/meetings").param("limit", "2").param("after", "nao-e-um-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportMeetings_streamsNdjsonWithinRange() throws Exception {
+        Meeting inside = meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 6, 1, 9, 0), LocalDateTime.of(2024, 6, 1, 10, 0)));
+        meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 6, 2, 9, 0), LocalDateTime.of(2024, 6, 2, 10, 0)));
+
+        MvcResult result = mockMvc.perform(get("/meetings/export")
+                        .param("from", "2024-06-01T00:00:00")
+                        .param("to", "2024-06-02T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readTree(lines.get(0)).get("id").asLong()).isEqualTo(inside.getId());
+    }
+
+    @Test
+    void exportMeetings_streamsCsvForRoom() throws Exception {
+        Room otherRoom = new Room();
+        otherRoom.setName("Sala Secundária");
+        otherRoom = roomRepository.save(otherRoom);
+
+        Meeting inRoom = meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 6, 1, 9, 0), LocalDateTime.of(2024, 6, 1, 10, 0)));
+        Meeting elsewhere = buildMeeting(LocalDateTime.of(2024, 6, 1, 11, 0), LocalDateTime.of(2024, 6, 1, 12, 0));
+        elsewhere.setRoom(otherRoom);
+        meetingRepository.save(elsewhere);
+
+        MvcResult result = mockMvc.perform(get("/meetings/export")
+                        .param("from", "2024-06-01T00:00:00")
+                        .param("to", "2024-06-02T00:00:00")
+                        .param("roomId", defaultRoom.getId().toString())
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).isEqualTo("id,startsAt,endsAt,userId,roomId,createdAt,updatedAt");
+        assertThat(lines.get(1)).startsWith(inRoom.getId() + ",2024-06-01T09:00,2024-06-01T10:00," + defaultUser.getId() + "," + defaultRoom.getId() + ",");
+    }
+
+    @Test
+    void exportMeetings_withInvalidRange_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/meetings/export")
+                        .param("from", "2024-06-02T00:00:00")
+                        .param("to", "2024-06-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private User saveUser(String email) {
+        User user = new User();
+        user.setName("Outro Usuário");
+        user.setEmail(email);
+        user.setPassword("senha");
+        return userRepository.save(user);
+    }
+
     private Meeting buildMeeting(LocalDateTime startsAt, LocalDateTime endsAt) {
         Meeting meeting = new Meeting();
         meeting.setRoom(defaultRoom);
@@ -0,0 +1,134 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MeetingExportMemoryBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final long FIRST_ID = 100_000_000L;
+    private static final long MAX_HEAP_GROWTH = 128L * 1024 * 1024;
+    private static final long MAX_DRIFT = 16L * 1024 * 1024;
+
+    @Autowired
+    private MeetingExportService meetingExportService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setName("Exportação");
+        user.setEmail("export@example.com");
+        user.setPassword("senha");
+        user = userRepository.save(user);
+
+        Room room = new Room();
+        room.setName("Sala Exportação");
+        room = roomRepository.save(room);
+
+        jdbcTemplate.update("""
+                INSERT INTO meetings (id, starts_at, ends_at, user_id, room_id, created_at)
+                SELECT ? + X,
+                       DATEADD('MINUTE', X * 30, TIMESTAMP '2020-01-01 00:00:00'),
+                       DATEADD('MINUTE', X * 30 + 25, TIMESTAMP '2020-01-01 00:00:00'),
+                       ?, ?, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(0, ? - 1)
+                """, FIRST_ID, user.getId(), room.getId(), ROWS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM meetings WHERE id >= ?", FIRST_ID);
+    }
+
+    @Test
+    void export_keepsHeapFlatWhileStreamingOneMillionRows() throws Exception {
+        long baseline = usedHeapAfterGc();
+        HeapSamplingOutputStream output = new HeapSamplingOutputStream(ROWS / 10);
+
+        meetingExportService
+                .export(LocalDateTime.of(2019, 1, 1, 0, 0), LocalDateTime.of(2100, 1, 1, 0, 0), null, MeetingExportFormat.NDJSON)
+                .writeTo(output);
+
+        System.out.printf("Exported %d rows (%d MB), peak heap growth %d MB, drift %d MB%n",
+                output.lines, output.bytes / (1024 * 1024), (output.peakUsedHeap - baseline) / (1024 * 1024),
+                (output.lastUsedHeap - output.firstUsedHeap) / (1024 * 1024));
+
+        assertThat(output.lines).isEqualTo(ROWS);
+        assertThat(output.peakUsedHeap - baseline).isLessThan(MAX_HEAP_GROWTH);
+        assertThat(output.lastUsedHeap - output.firstUsedHeap).isLessThan(MAX_DRIFT);
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Discards the exported bytes and, every {@code sampleEvery} lines, records how much heap
+     * is still reachable. A materialized result set would show up as growth between the first
+     * and the last sample.
+     */
+    private static class HeapSamplingOutputStream extends OutputStream {
+
+        private final int sampleEvery;
+        private long lines;
+        private long bytes;
+        private long peakUsedHeap;
+        private long firstUsedHeap;
+        private long lastUsedHeap;
+
+        HeapSamplingOutputStream(int sampleEvery) {
+            this.sampleEvery = sampleEvery;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n' && ++lines % sampleEvery == 0) {
+                lastUsedHeap = usedHeapAfterGc();
+                firstUsedHeap = firstUsedHeap == 0 ? lastUsedHeap : firstUsedHeap;
+                peakUsedHeap = Math.max(peakUsedHeap, lastUsedHeap);
+            }
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(buffer[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.user.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning meetings into the {@code GET /meetings} response: the entity to DTO mapping
+ * done by {@link MeetingService} and the Jackson serialization of a {@code Page} of DTOs, with
+ * the object mapper configured as Spring Boot does for the controllers.
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=MeetingMappingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeetingMappingBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private final MeetingService meetingService = new MeetingService();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private Meeting meeting;
+    private List<Meeting> meetings;
+    private Page<ResponseMeetingDto> page;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+
+        LocalDateTime startsAt = LocalDateTime.of(2024, 1, 1, 8, 0);
+        meetings = new ArrayList<>(pageSize);
+
+        for (int i = 0; i < pageSize; i++) {
+            Room room = new Room();
+            room.setId((long) (i % 10) + 1);
+
+            meetings.add(new Meeting((long) i + 1, startsAt.plusMinutes(30L * i), startsAt.plusMinutes(30L * i + 30),
+                    user, room, startsAt.minusDays(1), startsAt.minusHours(1), 0L));
+        }
+
+        meeting = meetings.get(0);
+        page = new PageImpl<>(meetings.stream().map(meetingService::toResponseDto).toList(),
+                PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public ResponseMeetingDto toResponseDto() {
+        return meetingService.toResponseDto(meeting);
+    }
+
+    @Benchmark
+    public Page<ResponseMeetingDto> mapPage() {
+        return new PageImpl<>(meetings.stream().map(meetingService::toResponseDto).toList(),
+                PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
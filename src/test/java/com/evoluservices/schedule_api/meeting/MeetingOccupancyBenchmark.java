@@ -0,0 +1,186 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.ScheduleApiApplication;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Room overlap check over {@code days} days of {@value #MEETINGS_PER_DAY} one-hour meetings per
+ * room, for random 30-minute periods on the 5-minute grid (about half of them busy).
+ * {@code check=bitmap} goes through {@link MeetingScheduleIndex}, which answers from the
+ * {@link DayOccupancy} bitmaps; {@code check=intervals} searches an {@link IntervalTimeline} per
+ * room, as the index did before the bitmaps; {@code check=jpql} runs
+ * {@link MeetingRepository#existsOverlappingMeeting} against H2. The setup prints the heap estimate
+ * of the bitmaps and of the interval timelines per room.
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=MeetingOccupancyBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeetingOccupancyBenchmark {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int MEETINGS_PER_DAY = 7;
+    private static final int QUERIES = 4096;
+
+    @Param({"bitmap", "intervals", "jpql"})
+    public String check;
+
+    @Param({"100"})
+    public int rooms;
+
+    @Param({"365"})
+    public int days;
+
+    private ConfigurableApplicationContext context;
+    private MeetingRepository meetingRepository;
+    private MeetingScheduleIndex index;
+    private Map<Long, IntervalTimeline> timelines;
+    private List<Long> roomIds;
+
+    private final long[] queryRooms = new long[QUERIES];
+    private final LocalDateTime[] queryStarts = new LocalDateTime[QUERIES];
+    private final LocalDateTime[] queryEnds = new LocalDateTime[QUERIES];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        roomIds = new ArrayList<>();
+
+        if (check.equals("jpql")) {
+            context = new SpringApplicationBuilder(ScheduleApiApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .profiles("test")
+                    .properties("schedule.index.enabled=false",
+                            "spring.main.banner-mode=off",
+                            "logging.level.root=WARN")
+                    .run();
+            meetingRepository = context.getBean(MeetingRepository.class);
+            seedDatabase();
+        } else {
+            for (long r = 1; r <= rooms; r++) {
+                roomIds.add(r);
+            }
+            buildInMemory();
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < QUERIES; i++) {
+            LocalDateTime startsAt = FROM.plusDays(random.nextInt(days)).plusHours(7).plusMinutes(5L * random.nextInt(12 * 12));
+            queryRooms[i] = roomIds.get(random.nextInt(roomIds.size()));
+            queryStarts[i] = startsAt;
+            queryEnds[i] = startsAt.plusMinutes(30);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public boolean roomOverlap() {
+        int i = next++ & (QUERIES - 1);
+
+        return switch (check) {
+            case "bitmap" -> index.hasRoomConflict(queryRooms[i], queryStarts[i], queryEnds[i], null);
+            case "intervals" -> timelines.get(queryRooms[i]).overlaps(
+                    MeetingScheduleIndex.toEpochSecond(queryStarts[i]), MeetingScheduleIndex.toEpochSecond(queryEnds[i]), Long.MIN_VALUE);
+            default -> meetingRepository.existsOverlappingMeeting(queryRooms[i], queryStarts[i], queryEnds[i], null);
+        };
+    }
+
+    private void buildInMemory() {
+        index = new MeetingScheduleIndex();
+        MeetingScheduleIndex.Rebuild rebuild = index.startRebuild();
+        timelines = new HashMap<>();
+        int perRoom = days * MEETINGS_PER_DAY;
+        long id = 0;
+
+        for (Long roomId : roomIds) {
+            long[] ids = new long[perRoom];
+            long[] starts = new long[perRoom];
+            long[] ends = new long[perRoom];
+
+            for (int m = 0; m < perRoom; m++) {
+                LocalDateTime startsAt = meetingStart(m);
+                rebuild.add(new MeetingSlot(++id, roomId, null, startsAt, startsAt.plusHours(1)));
+                ids[m] = id;
+                starts[m] = MeetingScheduleIndex.toEpochSecond(startsAt);
+                ends[m] = starts[m] + 3600;
+            }
+
+            timelines.put(roomId, IntervalTimeline.of(ids, starts, ends));
+        }
+
+        index.completeRebuild(rebuild);
+
+        // four long[] of one entry per meeting, plus the object and array headers
+        long timelineBytes = 32 + 4 * (16 + 8L * perRoom);
+        long bitmapBytes = index.dayBitmapBytes() / rooms;
+        System.out.printf("%n%d days x %d meetings/day per room: bitmap %,d bytes/room, intervals %,d bytes/room%n",
+                days, MEETINGS_PER_DAY, bitmapBytes, timelineBytes);
+        System.out.printf("10,000 rooms: bitmaps %.1f MB, intervals %.1f MB%n",
+                bitmapBytes * 10_000 / 1e6, timelineBytes * 10_000 / 1e6);
+    }
+
+    private void seedDatabase() {
+        RoomRepository roomRepository = context.getBean(RoomRepository.class);
+        for (int r = 0; r < rooms; r++) {
+            roomIds.add(roomRepository.save(new Room(null, "Sala " + r, null, null, null, null)).getId());
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp createdAt = Timestamp.valueOf(FROM);
+        for (Long roomId : roomIds) {
+            for (int m = 0; m < days * MEETINGS_PER_DAY; m++) {
+                LocalDateTime startsAt = meetingStart(m);
+                rows.add(new Object[]{Timestamp.valueOf(startsAt), Timestamp.valueOf(startsAt.plusHours(1)), roomId, createdAt});
+            }
+        }
+
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "INSERT INTO meetings (id, starts_at, ends_at, room_id, created_at) VALUES (nextval('meetings_id_seq'), ?, ?, ?, ?)", rows);
+    }
+
+    /**
+     * One-hour meetings every 90 minutes from 8:00.
+     */
+    private static LocalDateTime meetingStart(int meeting) {
+        return FROM.plusDays(meeting / MEETINGS_PER_DAY)
+                .plusHours(8)
+                .plusMinutes(90L * (meeting % MEETINGS_PER_DAY));
+    }
+}
@@ -0,0 +1,136 @@
+package com.evoluservices.schedule_api.meeting;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeetingScheduleIndexTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final LocalDateTime TEN = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private static final LocalDateTime ELEVEN = LocalDateTime.of(2024, 1, 1, 11, 0);
+
+    @Test
+    void detectsOverlapsPerRoomAndUser() {
+        MeetingScheduleIndex index = readyIndex();
+        index.put(new MeetingSlot(1L, 10L, 20L, NINE, TEN));
+
+        assertThat(index.hasRoomConflict(10L, NINE.plusMinutes(30), ELEVEN, null)).isTrue();
+        assertThat(index.hasUserConflict(20L, NINE.plusMinutes(30), ELEVEN, null)).isTrue();
+        assertThat(index.hasRoomConflict(11L, NINE, TEN, null)).isFalse();
+        assertThat(index.hasRoomConflict(10L, TEN, ELEVEN, null)).isFalse();
+        assertThat(index.hasRoomConflict(10L, NINE, TEN, 1L)).isFalse();
+    }
+
+    @Test
+    void findsLongMeetingHiddenBehindLaterShortOne() {
+        MeetingScheduleIndex index = readyIndex();
+        index.put(new MeetingSlot(1L, 10L, 20L, NINE, ELEVEN));
+        index.put(new MeetingSlot(2L, 10L, 21L, NINE.plusMinutes(10), NINE.plusMinutes(20)));
+
+        assertThat(index.hasRoomConflict(10L, TEN, TEN.plusMinutes(30), null)).isTrue();
+    }
+
+    @Test
+    void putReplacesPreviousSlotAndRemoveFreesIt() {
+        MeetingScheduleIndex index = readyIndex();
+        index.put(new MeetingSlot(1L, 10L, 20L, NINE, TEN));
+        index.put(new MeetingSlot(1L, 11L, 20L, TEN, ELEVEN));
+
+        assertThat(index.hasRoomConflict(10L, NINE, TEN, null)).isFalse();
+        assertThat(index.hasRoomConflict(11L, TEN, ELEVEN, null)).isTrue();
+
+        index.remove(1L);
+
+        assertThat(index.hasRoomConflict(11L, TEN, ELEVEN, null)).isFalse();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void attendeesFollowTheMeetingTimeAndAreDroppedWithIt() {
+        MeetingScheduleIndex index = readyIndex();
+        index.put(new MeetingSlot(1L, 10L, 20L, NINE, TEN));
+        index.putAttendee(1L, 30L);
+
+        assertThat(index.hasUserConflict(30L, NINE, TEN, null)).isTrue();
+        assertThat(index.hasUserConflict(30L, NINE, TEN, 1L)).isFalse();
+
+        index.put(new MeetingSlot(1L, 10L, 20L, TEN, ELEVEN));
+
+        assertThat(index.hasUserConflict(30L, NINE, TEN, null)).isFalse();
+        assertThat(index.hasUserConflict(30L, TEN, ELEVEN, null)).isTrue();
+
+        index.removeAttendee(1L, 30L);
+
+        assertThat(index.hasUserConflict(30L, TEN, ELEVEN, null)).isFalse();
+        assertThat(index.hasUserConflict(20L, TEN, ELEVEN, null)).isTrue();
+
+        index.putAttendee(1L, 30L);
+        index.remove(1L);
+
+        assertThat(index.hasUserConflict(30L, TEN, ELEVEN, null)).isFalse();
+    }
+
+    @Test
+    void replaysMutationsRecordedDuringRebuild() {
+        MeetingScheduleIndex index = new MeetingScheduleIndex();
+        MeetingScheduleIndex.Rebuild rebuild = index.startRebuild();
+        rebuild.add(new MeetingSlot(1L, 10L, 20L, NINE, TEN));
+
+        index.remove(1L);
+        index.put(new MeetingSlot(2L, 10L, 20L, TEN, ELEVEN));
+
+        assertThat(index.isReady()).isFalse();
+
+        index.completeRebuild(rebuild);
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.hasRoomConflict(10L, NINE, TEN, null)).isFalse();
+        assertThat(index.hasRoomConflict(10L, TEN, ELEVEN, null)).isTrue();
+    }
+
+    @Test
+    void fractionOfASecondOverlapIsNotRoundedAway() {
+        MeetingScheduleIndex index = readyIndex();
+        index.put(new MeetingSlot(1L, 10L, 20L, NINE, TEN.plusNanos(500_000_000)));
+
+        assertThat(index.hasRoomConflict(10L, TEN, ELEVEN, null)).isTrue();
+        assertThat(index.hasRoomConflict(10L, TEN.plusSeconds(1), ELEVEN, null)).isFalse();
+        assertThat(index.canCheck(TEN, ELEVEN)).isTrue();
+        assertThat(index.canCheck(TEN.plusNanos(1), ELEVEN)).isFalse();
+    }
+
+    @Test
+    void consistentReadsNeverSeeHalfAppliedMoves() throws Exception {
+        MeetingScheduleIndex index = readyIndex();
+        index.put(new MeetingSlot(1L, 10L, 20L, NINE, TEN));
+        AtomicBoolean done = new AtomicBoolean();
+
+        // moves the meeting back and forth between (room 10, user 20) and (room 11, user 21)
+        Thread writer = Thread.ofPlatform().start(() -> {
+            for (int i = 0; i < 200_000; i++) {
+                index.put(new MeetingSlot(1L, 10L + i % 2, 20L + i % 2, NINE, TEN));
+            }
+            done.set(true);
+        });
+
+        while (!done.get()) {
+            boolean consistent = index.readConsistent(() ->
+                    index.hasRoomConflict(10L, NINE, TEN, null) == index.hasUserConflict(20L, NINE, TEN, null)
+                            && index.hasRoomConflict(10L, NINE, TEN, null) != index.hasRoomConflict(11L, NINE, TEN, null));
+
+            assertThat(consistent).isTrue();
+        }
+
+        writer.join();
+    }
+
+    private MeetingScheduleIndex readyIndex() {
+        MeetingScheduleIndex index = new MeetingScheduleIndex();
+        index.completeRebuild(index.startRebuild());
+        return index;
+    }
+}
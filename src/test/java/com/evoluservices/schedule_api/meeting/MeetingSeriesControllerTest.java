@@ -0,0 +1,253 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingSeriesDto;
+import com.evoluservices.schedule_api.observability.QueryCountStatementInspector;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class MeetingSeriesControllerTest {
+
+    private static final LocalDateTime MONDAY_NINE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeetingSeriesRepository meetingSeriesRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingSeriesService meetingSeriesService;
+
+    @Autowired
+    private MeetingSeriesSpans seriesSpans;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User defaultUser;
+    private Room defaultRoom;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        defaultUser = new User();
+        defaultUser.setName("Maria Teste");
+        defaultUser.setEmail("maria@example.com");
+        defaultUser.setPassword("senha");
+        defaultUser = userRepository.save(defaultUser);
+
+        defaultRoom = new Room();
+        defaultRoom.setName("Sala Principal");
+        defaultRoom = roomRepository.save(defaultRoom);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        meetingSeriesRepository.deleteAll();
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void createSeries_expandsOnlyRequestedWindowSkippingExceptions() throws Exception {
+        Long seriesId = createWeeklySeries(52, List.of(MONDAY_NINE.plusWeeks(10)));
+
+        mockMvc.perform(get("/meetings/series/" + seriesId + "/occurrences")
+                        .param("from", "2024-03-01T00:00:00")
+                        .param("to", "2024-04-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].startsAt").value("2024-03-04T09:00:00"))
+                .andExpect(jsonPath("$[1].startsAt").value("2024-03-18T09:00:00"));
+    }
+
+    @Test
+    void createSeries_overlappingExistingMeeting_returnsConflict() throws Exception {
+        Meeting meeting = new Meeting();
+        meeting.setRoom(defaultRoom);
+        meeting.setUser(defaultUser);
+        meeting.setStartsAt(MONDAY_NINE.plusWeeks(30).plusMinutes(30));
+        meeting.setEndsAt(MONDAY_NINE.plusWeeks(30).plusHours(2));
+        meetingRepository.save(meeting);
+
+        CreateMeetingSeriesDto dto = weeklySeries(52, List.of());
+
+        mockMvc.perform(post("/meetings/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void createSeries_overlappingAnotherSeries_returnsConflict() throws Exception {
+        createWeeklySeries(52, List.of());
+
+        CreateMeetingSeriesDto daily = new CreateMeetingSeriesDto(
+                LocalDateTime.of(2024, 5, 1, 9, 30),
+                LocalDateTime.of(2024, 5, 1, 10, 0),
+                defaultUser.getId(),
+                defaultRoom.getId(),
+                RecurrenceFrequency.DAILY,
+                1,
+                null,
+                LocalDateTime.of(2024, 5, 31, 0, 0),
+                List.of()
+        );
+
+        mockMvc.perform(post("/meetings/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(daily)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void createMeeting_onSeriesOccurrence_returnsConflictUnlessExcluded() throws Exception {
+        LocalDateTime excluded = MONDAY_NINE.plusWeeks(4);
+        createWeeklySeries(52, List.of(excluded));
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMeetingDto(
+                                MONDAY_NINE.plusWeeks(3), MONDAY_NINE.plusWeeks(3).plusHours(1), defaultUser.getId(), defaultRoom.getId()))))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMeetingDto(
+                                excluded, excluded.plusHours(1), defaultUser.getId(), defaultRoom.getId()))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void calendarFor_loadsSeriesAndExceptionsInOneQuery() {
+        List<Long> roomIds = new ArrayList<>();
+        List<Long> userIds = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            Room room = new Room();
+            room.setName("Sala " + i);
+            room = roomRepository.save(room);
+
+            User user = new User();
+            user.setName("Pessoa " + i);
+            user.setEmail("pessoa" + i + "@example.com");
+            user.setPassword("senha");
+            user = userRepository.save(user);
+
+            MeetingSeries series = new MeetingSeries();
+            series.setStartsAt(MONDAY_NINE);
+            series.setEndsAt(MONDAY_NINE.plusHours(1));
+            series.setFrequency(RecurrenceFrequency.WEEKLY);
+            series.setInterval(1);
+            series.setCount(10);
+            series.setLastEndsAt(MONDAY_NINE.plusWeeks(9).plusHours(1));
+            series.setExceptions(Set.of(MONDAY_NINE.plusWeeks(2)));
+            series.setRoom(room);
+            series.setUser(user);
+            series = meetingSeriesRepository.save(series);
+            seriesSpans.add(new MeetingSlot(series.getId(), room.getId(), user.getId(), series.getStartsAt(), series.getLastEndsAt()));
+
+            roomIds.add(room.getId());
+            userIds.add(user.getId());
+        }
+
+        QueryCountStatementInspector.begin();
+        MeetingSeriesService.SeriesCalendar calendar = meetingSeriesService.calendarFor(
+                roomIds, userIds, MONDAY_NINE, MONDAY_NINE.plusWeeks(10));
+        int queries = QueryCountStatementInspector.end();
+
+        assertThat(queries).isEqualTo(1);
+        assertThat(calendar.hasRoomConflict(roomIds.get(2), MONDAY_NINE.plusWeeks(1), MONDAY_NINE.plusWeeks(1).plusHours(1))).isTrue();
+        assertThat(calendar.hasRoomConflict(roomIds.get(2), MONDAY_NINE.plusWeeks(2), MONDAY_NINE.plusWeeks(2).plusHours(1))).isFalse();
+        assertThat(calendar.hasUserConflict(userIds.get(1), MONDAY_NINE.plusWeeks(3), MONDAY_NINE.plusWeeks(3).plusHours(1))).isTrue();
+    }
+
+    @Test
+    void createSeries_withoutCountOrUntil_returnsBadRequest() throws Exception {
+        CreateMeetingSeriesDto dto = new CreateMeetingSeriesDto(
+                MONDAY_NINE, MONDAY_NINE.plusHours(1), defaultUser.getId(), defaultRoom.getId(),
+                RecurrenceFrequency.WEEKLY, 1, null, null, List.of());
+
+        mockMvc.perform(post("/meetings/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createSeries_withCountPastSupportedDates_returnsBadRequest() throws Exception {
+        CreateMeetingSeriesDto dto = new CreateMeetingSeriesDto(
+                MONDAY_NINE, MONDAY_NINE.plusHours(1), defaultUser.getId(), defaultRoom.getId(),
+                RecurrenceFrequency.MONTHLY, 1_000_000, Integer.MAX_VALUE, null, List.of());
+
+        mockMvc.perform(post("/meetings/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long createWeeklySeries(int count, List<LocalDateTime> exceptions) throws Exception {
+        String response = mockMvc.perform(post("/meetings/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(weeklySeries(count, exceptions))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private CreateMeetingSeriesDto weeklySeries(int count, List<LocalDateTime> exceptions) {
+        return new CreateMeetingSeriesDto(
+                MONDAY_NINE,
+                MONDAY_NINE.plusHours(1),
+                defaultUser.getId(),
+                defaultRoom.getId(),
+                RecurrenceFrequency.WEEKLY,
+                1,
+                count,
+                null,
+                exceptions
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package com.evoluservices.schedule_api.meeting;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeetingSeriesSpansTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final LocalDateTime JUNE = LocalDateTime.of(2024, 6, 1, 9, 0);
+
+    @Test
+    void answersMaybeUntilLoaded() {
+        MeetingSeriesSpans spans = new MeetingSeriesSpans();
+
+        assertThat(spans.mayOverlap(List.of(1L), List.of(2L), JUNE, JUNE.plusHours(1))).isTrue();
+
+        spans.load(List.of());
+
+        assertThat(spans.mayOverlap(List.of(1L), List.of(2L), JUNE, JUNE.plusHours(1))).isFalse();
+    }
+
+    @Test
+    void coversEachRoomAndUserFromFirstStartToLastEnd() {
+        MeetingSeriesSpans spans = new MeetingSeriesSpans();
+        spans.load(List.of(new MeetingSlot(1L, 10L, 20L, JANUARY, JANUARY.plusMonths(2))));
+        spans.add(new MeetingSlot(2L, 10L, 21L, JUNE, JUNE.plusMonths(1)));
+
+        assertThat(spans.mayOverlap(List.of(10L), List.of(), JANUARY.plusMonths(4), JANUARY.plusMonths(4).plusHours(1))).isTrue();
+        assertThat(spans.mayOverlap(List.of(11L), List.of(20L), JANUARY.plusMonths(1), JANUARY.plusMonths(1).plusHours(1))).isTrue();
+        assertThat(spans.mayOverlap(List.of(11L), List.of(20L), JUNE, JUNE.plusHours(1))).isFalse();
+        assertThat(spans.mayOverlap(List.of(10L), List.of(21L), JUNE.plusMonths(1), JUNE.plusMonths(2))).isFalse();
+    }
+}
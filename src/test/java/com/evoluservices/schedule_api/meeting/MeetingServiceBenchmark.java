@@ -0,0 +1,116 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.ScheduleApiApplication;
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a rejected {@link MeetingService#create} call: user and room lookup, time validation,
+ * booking locks and the overlap checks that end in a 409. {@code conflictCheck=index} answers
+ * the overlap from the in-memory {@link MeetingScheduleIndex}; {@code conflictCheck=database}
+ * disables it ({@code schedule.index.enabled=false}) so the repository queries run against H2.
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=MeetingServiceBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeetingServiceBenchmark {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int ROOMS = 10;
+
+    @Param({"index", "database"})
+    public String conflictCheck;
+
+    @Param({"10000"})
+    public int meetings;
+
+    private ConfigurableApplicationContext context;
+    private MeetingService meetingService;
+    private CreateMeetingDto conflicting;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ScheduleApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("schedule.index.enabled=" + conflictCheck.equals("index"),
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        meetingService = context.getBean(MeetingService.class);
+
+        User user = new User();
+        user.setName("Benchmark");
+        user.setEmail("benchmark@example.com");
+        user.setPassword("senha");
+        User savedUser = context.getBean(UserRepository.class).save(user);
+
+        RoomRepository roomRepository = context.getBean(RoomRepository.class);
+        List<Room> rooms = new ArrayList<>();
+        for (int r = 0; r < ROOMS; r++) {
+            rooms.add(roomRepository.save(new Room(null, "Sala " + r, null, null, null, null)));
+        }
+
+        List<Meeting> seeded = new ArrayList<>(meetings);
+        for (int i = 0; i < meetings; i++) {
+            Meeting meeting = new Meeting();
+            meeting.setStartsAt(FROM.plusHours(i / ROOMS));
+            meeting.setEndsAt(FROM.plusHours(i / ROOMS).plusMinutes(45));
+            meeting.setUser(savedUser);
+            meeting.setRoom(rooms.get(i % ROOMS));
+            seeded.add(meeting);
+        }
+        context.getBean(MeetingRepository.class).saveAll(seeded);
+
+        LocalDateTime middle = FROM.plusHours(meetings / ROOMS / 2);
+        conflicting = new CreateMeetingDto(middle.plusMinutes(15), middle.plusMinutes(30), savedUser.getId(), rooms.get(0).getId());
+
+        if (!(rejectConflictingCreate() instanceof ResponseStatusException)) {
+            throw new IllegalStateException("Expected the benchmark booking to conflict");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object rejectConflictingCreate() {
+        try {
+            return meetingService.create(conflicting);
+        } catch (ResponseStatusException exception) {
+            return exception;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.evoluservices.schedule_api.meeting;
+
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.SolveMeetingItemDto;
+import com.evoluservices.schedule_api.meeting.dto.SolveMeetingsDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Plans the same set of meeting requests twice: once like a planner calling {@code POST /meetings}
+ * for every room and start (on a 30-minute grid) until one is accepted, in the order the requests
+ * came, and once with a single {@code POST /meetings/solve?apply=true}. The requests fill a day of
+ * the rooms almost completely, with a mix of tight and loose windows, so the order matters. Reports
+ * requests sent, meetings booked and elapsed time. Runs on the H2 test profile and is only
+ * executed when selected explicitly:
+ * <pre>
+ * ./mvnw test -Dtest=MeetingSolverBenchmark -Dbenchmark.rooms=10 -Dbenchmark.meetings=120
+ * </pre>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class MeetingSolverBenchmark {
+
+    private static final int HOURS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void solverVersusSequentialBooking() throws Exception {
+        int roomCount = Integer.getInteger("benchmark.rooms", 5);
+        int meetings = Integer.getInteger("benchmark.meetings", roomCount * HOURS * 9 / 10);
+        long budget = Long.getLong("benchmark.time-budget", 2000L);
+
+        Result sequential = run(roomCount, meetings, LocalDateTime.of(2024, 1, 1, 8, 0), null);
+        Result solver = run(roomCount, meetings, LocalDateTime.of(2024, 1, 2, 8, 0), budget);
+
+        System.out.printf("%d meeting requests for %d rooms x %d hours:%n", meetings, roomCount, HOURS);
+        System.out.printf("  POST /meetings in order: %d requests, %d booked in %.1fms%n",
+                sequential.requests(), sequential.booked(), sequential.millis());
+        System.out.printf("  POST /meetings/solve:    %d request, %d booked in %.1fms (%d greedy passes)%n",
+                solver.requests(), solver.booked(), solver.millis(), solver.passes());
+    }
+
+    private Result run(int roomCount, int meetings, LocalDateTime day, Long budget) throws Exception {
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+
+        List<Long> roomIds = new ArrayList<>();
+        for (int r = 0; r < roomCount; r++) {
+            roomIds.add(roomRepository.save(new Room(null, "Sala " + r, null, null, null, null)).getId());
+        }
+
+        List<SolveMeetingItemDto> items = requests(meetings, day);
+        long began = System.nanoTime();
+
+        if (budget != null) {
+            MockHttpServletResponse response = send("/meetings/solve?apply=true", new SolveMeetingsDto(items, budget));
+            JsonNode solution = objectMapper.readTree(response.getContentAsString());
+            return new Result(1, meetingRepository.count(), (System.nanoTime() - began) / 1e6, solution.get("passes").asLong());
+        }
+
+        int requests = 0;
+        for (SolveMeetingItemDto item : items) {
+            requests += bookFirstFree(item, roomIds);
+        }
+
+        return new Result(requests, meetingRepository.count(), (System.nanoTime() - began) / 1e6, 0);
+    }
+
+    /**
+     * Random windows over the day, one user each: a third of them exactly as long as the meeting,
+     * the rest with a few hours of slack. Durations of 30, 60 or 90 minutes.
+     */
+    private List<SolveMeetingItemDto> requests(int meetings, LocalDateTime day) {
+        Random random = new Random(42);
+        List<SolveMeetingItemDto> items = new ArrayList<>();
+
+        for (int m = 0; m < meetings; m++) {
+            User user = new User();
+            user.setName("Participante " + m);
+            user.setEmail("participante" + m + "-" + day.getDayOfMonth() + "@example.com");
+            user.setPassword("senha");
+            Long userId = userRepository.save(user).getId();
+
+            int duration = 30 * (1 + random.nextInt(3));
+            int slack = m % 3 == 0 ? 0 : 30 * random.nextInt(2 * HOURS - duration / 30 + 1);
+            int offset = 30 * random.nextInt((HOURS * 60 - duration - slack) / 30 + 1);
+            LocalDateTime earliest = day.plusMinutes(offset);
+
+            items.add(new SolveMeetingItemDto(userId, duration, earliest, earliest.plusMinutes(duration + slack), null));
+        }
+
+        return items;
+    }
+
+    private int bookFirstFree(SolveMeetingItemDto item, List<Long> roomIds) throws Exception {
+        int requests = 0;
+
+        for (LocalDateTime startsAt = item.earliest(); !startsAt.plusMinutes(item.duration()).isAfter(item.latest()); startsAt = startsAt.plusMinutes(30)) {
+            for (Long roomId : roomIds) {
+                requests++;
+                CreateMeetingDto dto = new CreateMeetingDto(startsAt, startsAt.plusMinutes(item.duration()), item.userId(), roomId);
+
+                if (send("/meetings", dto).getStatus() == 200) {
+                    return requests;
+                }
+            }
+        }
+
+        return requests;
+    }
+
+    private MockHttpServletResponse send(String uri, Object body) throws Exception {
+        return mockMvc.perform(post(uri)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andReturn()
+                .getResponse();
+    }
+
+    private record Result(int requests, long booked, double millis, long passes) {}
+}
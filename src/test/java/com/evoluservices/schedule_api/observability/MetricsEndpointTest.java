@@ -0,0 +1,107 @@
+package com.evoluservices.schedule_api.observability;
+
+import com.evoluservices.schedule_api.meeting.MeetingRepository;
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.security.TokenService;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = new User();
+        user.setName("Maria Teste");
+        user.setEmail("maria@example.com");
+        user.setPassword("senha");
+        user = userRepository.save(user);
+
+        room = roomRepository.save(new Room(null, "Sala Métricas", null, null, null, null));
+    }
+
+    @Test
+    void prometheus_exposesBookingAuthAndQueryMetrics() throws Exception {
+        String token = tokenService.generateToken(user);
+
+        book(token, LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 10, 0), 200);
+        book(token, LocalDateTime.of(2024, 1, 1, 9, 30), LocalDateTime.of(2024, 1, 1, 10, 30), 409);
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape).containsPattern("schedule_booking_attempts_total\\{room=\"" + room.getId() + "\"} 2\\.0");
+        assertThat(scrape).containsPattern("schedule_booking_conflicts_total\\{room=\"" + room.getId() + "\"} 1\\.0");
+        assertThat(scrape).contains("schedule_booking_validation_seconds_count{error=\"none\"} 1");
+        assertThat(scrape).contains("schedule_booking_validation_seconds_count{error=\"ResponseStatusException\"} 1");
+        assertThat(scrape).containsPattern("schedule_booking_overlap_seconds_count\\{[^}]*scope=\"room\"[^}]*} 2");
+        assertThat(scrape).contains("schedule_auth_token_seconds_count", "schedule_auth_principal_seconds_count");
+        assertThat(scrape).containsPattern("http_server_requests_queries_count\\{method=\"POST\",uri=\"/meetings\"} 2");
+    }
+
+    @Test
+    void actuator_onlyHealthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+
+    private void book(String token, LocalDateTime startsAt, LocalDateTime endsAt, int expectedStatus) throws Exception {
+        mockMvc.perform(post("/meetings")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMeetingDto(startsAt, endsAt, user.getId(), room.getId()))))
+                .andExpect(status().is(expectedStatus));
+    }
+}
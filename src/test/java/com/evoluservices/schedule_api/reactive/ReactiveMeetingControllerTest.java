@@ -0,0 +1,265 @@
+package com.evoluservices.schedule_api.reactive;
+
+import com.evoluservices.schedule_api.change.ChangeEntityType;
+import com.evoluservices.schedule_api.change.ChangeEventRepository;
+import com.evoluservices.schedule_api.change.ChangeOperation;
+import com.evoluservices.schedule_api.change.dto.ResponseChangeDto;
+import com.evoluservices.schedule_api.meeting.Meeting;
+import com.evoluservices.schedule_api.meeting.MeetingAttendee;
+import com.evoluservices.schedule_api.meeting.MeetingAttendeeRepository;
+import com.evoluservices.schedule_api.meeting.MeetingRepository;
+import com.evoluservices.schedule_api.meeting.MeetingSeriesRepository;
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import com.evoluservices.schedule_api.meeting.dto.UpdateMeetingDto;
+import com.evoluservices.schedule_api.auth.dto.LoginDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.security.TokenService;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///testdb?options=DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_UPPER=false",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password="
+})
+@AutoConfigureWebTestClient
+@ActiveProfiles({"test", "reactive"})
+class ReactiveMeetingControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingAttendeeRepository meetingAttendeeRepository;
+
+    @Autowired
+    private MeetingSeriesRepository meetingSeriesRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User defaultUser;
+    private Room defaultRoom;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        meetingSeriesRepository.deleteAll();
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+
+        defaultUser = new User();
+        defaultUser.setName("Maria Teste");
+        defaultUser.setEmail("maria@example.com");
+        defaultUser.setPassword(passwordEncoder.encode("senha"));
+        defaultUser = userRepository.save(defaultUser);
+
+        defaultRoom = new Room();
+        defaultRoom.setName("Sala Principal");
+        defaultRoom = roomRepository.save(defaultRoom);
+
+        token = tokenService.generateToken(defaultUser);
+    }
+
+    @Test
+    void createMeeting_returnsCreatedMeeting() {
+        webTestClient.post().uri("/meetings")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new CreateMeetingDto(
+                        LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 10, 0), defaultUser.getId(), defaultRoom.getId()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isNotEmpty()
+                .jsonPath("$.userId").isEqualTo(defaultUser.getId())
+                .jsonPath("$.roomId").isEqualTo(defaultRoom.getId());
+
+        assertThat(meetingRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void createMeeting_withRoomConflict_returnsConflict() {
+        meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 10, 0)));
+
+        webTestClient.post().uri("/meetings")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new CreateMeetingDto(
+                        LocalDateTime.of(2024, 1, 1, 9, 30), LocalDateTime.of(2024, 1, 1, 10, 30), defaultUser.getId(), defaultRoom.getId()))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    void createMeeting_withoutToken_isForbidden() {
+        webTestClient.post().uri("/meetings")
+                .bodyValue(new CreateMeetingDto(
+                        LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 10, 0), defaultUser.getId(), defaultRoom.getId()))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    void findAll_returnsPage() {
+        meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 10, 0)));
+        meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 1, 1, 11, 0), LocalDateTime.of(2024, 1, 1, 12, 0)));
+
+        webTestClient.get().uri("/meetings?page=0&size=1&sort=startsAt,desc")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.content[0].startsAt").isEqualTo("2024-01-01T11:00:00")
+                .jsonPath("$.totalElements").isEqualTo(2);
+    }
+
+    @Test
+    void updateAndDeleteMeeting() {
+        Meeting meeting = meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 10, 0)));
+
+        webTestClient.patch().uri("/meetings/" + meeting.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new UpdateMeetingDto(LocalDateTime.of(2024, 1, 1, 14, 0), LocalDateTime.of(2024, 1, 1, 15, 0), null, null))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.startsAt").isEqualTo("2024-01-01T14:00:00");
+
+        webTestClient.delete().uri("/meetings/" + meeting.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/meetings/" + meeting.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void updateMeeting_whenAnInviteeIsBusyAtTheNewTime_returnsConflictAndKeepsTheMeeting() {
+        User ana = new User();
+        ana.setName("Ana Teste");
+        ana.setEmail("ana@example.com");
+        ana.setPassword("senha");
+        ana = userRepository.save(ana);
+
+        Room otherRoom = new Room();
+        otherRoom.setName("Sala Lateral");
+        otherRoom = roomRepository.save(otherRoom);
+
+        Meeting meeting = meetingRepository.save(buildMeeting(LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 10, 0)));
+        meetingAttendeeRepository.save(new MeetingAttendee(meeting, ana.getId()));
+
+        Meeting anasMeeting = buildMeeting(LocalDateTime.of(2024, 1, 1, 14, 0), LocalDateTime.of(2024, 1, 1, 15, 0));
+        anasMeeting.setUser(ana);
+        anasMeeting.setRoom(otherRoom);
+        meetingRepository.save(anasMeeting);
+
+        webTestClient.patch().uri("/meetings/" + meeting.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new UpdateMeetingDto(LocalDateTime.of(2024, 1, 1, 14, 30), LocalDateTime.of(2024, 1, 1, 15, 30), null, null))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        assertThat(meetingRepository.findById(meeting.getId()).orElseThrow().getStartsAt()).isEqualTo(LocalDateTime.of(2024, 1, 1, 9, 0));
+        assertThat(meetingAttendeeRepository.findByMeetingId(meeting.getId()))
+                .extracting(MeetingAttendee::getStartsAt)
+                .containsExactly(LocalDateTime.of(2024, 1, 1, 9, 0));
+    }
+
+    @Test
+    void writes_recordTheirChangesInTheOutbox() {
+        long since = changeEventRepository.findMaxSeq();
+
+        Long meetingId = webTestClient.post().uri("/meetings")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new CreateMeetingDto(
+                        LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 10, 0), defaultUser.getId(), defaultRoom.getId()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ResponseMeetingDto.class)
+                .returnResult().getResponseBody().id();
+
+        webTestClient.patch().uri("/meetings/" + meetingId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .bodyValue(new UpdateMeetingDto(LocalDateTime.of(2024, 1, 1, 14, 0), LocalDateTime.of(2024, 1, 1, 15, 0), null, null))
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.delete().uri("/rooms/" + defaultRoom.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        List<ResponseChangeDto> changes = changeEventRepository.findResponsesBetween(since, Long.MAX_VALUE, Limit.of(10));
+
+        assertThat(changes).extracting(ResponseChangeDto::entityType)
+                .containsExactly(ChangeEntityType.MEETING, ChangeEntityType.MEETING, ChangeEntityType.MEETING, ChangeEntityType.ROOM);
+        assertThat(changes).extracting(ResponseChangeDto::operation)
+                .containsExactly(ChangeOperation.CREATED, ChangeOperation.UPDATED, ChangeOperation.DELETED, ChangeOperation.DELETED);
+        assertThat(changes.get(1).payload()).contains("\"startsAt\":\"2024-01-01T14:00:00\"");
+        assertThat(changes.get(2).entityId()).isEqualTo(meetingId);
+        assertThat(changes.get(3).entityId()).isEqualTo(defaultRoom.getId());
+    }
+
+    @Test
+    void getMeetingsByRoomId_withUnknownRoom_returnsNotFound() {
+        webTestClient.get().uri("/rooms/999999/meetings")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void login_returnsToken() {
+        webTestClient.post().uri("/auth/login")
+                .bodyValue(new LoginDto("maria@example.com", "senha"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.token").isNotEmpty();
+    }
+
+    private Meeting buildMeeting(LocalDateTime startsAt, LocalDateTime endsAt) {
+        Meeting meeting = new Meeting();
+        meeting.setRoom(defaultRoom);
+        meeting.setUser(defaultUser);
+        meeting.setStartsAt(startsAt);
+        meeting.setEndsAt(endsAt);
+        return meeting;
+    }
+}
@@ -0,0 +1,140 @@
+package com.evoluservices.schedule_api.room;
+
+import com.evoluservices.schedule_api.meeting.Meeting;
+import com.evoluservices.schedule_api.meeting.MeetingRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Compares {@code GET /rooms/availability} with the client-side pattern it replaces: paging
+ * {@code GET /rooms/{id}/meetings} for every room and computing the gaps locally. Runs on the H2
+ * test profile and is only executed when selected explicitly:
+ * <pre>
+ * ./mvnw test -Dtest=RoomAvailabilityBenchmark -Dbenchmark.rooms=300
+ * </pre>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class RoomAvailabilityBenchmark {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(7);
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void availabilityEndpointVersusPerRoomPaging() throws Exception {
+        int rooms = Integer.getInteger("benchmark.rooms", 300);
+        seed(rooms);
+
+        long began = System.nanoTime();
+        MvcResult started = mockMvc.perform(get("/rooms/availability")
+                        .param("from", FROM.toString())
+                        .param("to", TO.toString())
+                        .param("duration", "30"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started)).andReturn();
+        double endpointMillis = (System.nanoTime() - began) / 1e6;
+
+        began = System.nanoTime();
+        int requests = 1;
+        JsonNode roomPage = objectMapper.readTree(mockMvc.perform(get("/rooms").param("size", String.valueOf(rooms)))
+                .andReturn().getResponse().getContentAsString());
+
+        for (JsonNode room : roomPage.get("content")) {
+            List<LocalDateTime[]> busy = new ArrayList<>();
+            int page = 0;
+            boolean last = false;
+
+            while (!last) {
+                JsonNode meetings = objectMapper.readTree(mockMvc.perform(get("/rooms/" + room.get("id").asLong() + "/meetings")
+                                .param("page", String.valueOf(page++))
+                                .param("size", String.valueOf(PAGE_SIZE))
+                                .param("sort", "startsAt"))
+                        .andReturn().getResponse().getContentAsString());
+                requests++;
+                last = meetings.get("last").asBoolean();
+
+                for (JsonNode meeting : meetings.get("content")) {
+                    busy.add(new LocalDateTime[]{
+                            LocalDateTime.parse(meeting.get("startsAt").asText()),
+                            LocalDateTime.parse(meeting.get("endsAt").asText())
+                    });
+                }
+            }
+
+            LocalDateTime cursor = FROM;
+            for (LocalDateTime[] interval : busy) {
+                if (interval[1].isAfter(cursor)) {
+                    cursor = interval[1];
+                }
+            }
+        }
+        double pagingMillis = (System.nanoTime() - began) / 1e6;
+
+        System.out.printf("Availability for %d rooms: endpoint 1 request in %.1fms, per-room paging %d requests in %.1fms%n",
+                rooms, endpointMillis, requests, pagingMillis);
+    }
+
+    private void seed(int rooms) {
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setName("Benchmark");
+        user.setEmail("benchmark@example.com");
+        user.setPassword("senha");
+        User savedUser = userRepository.save(user);
+
+        List<Meeting> meetings = new ArrayList<>();
+
+        for (int r = 0; r < rooms; r++) {
+            Room room = roomRepository.save(new Room(null, "Sala " + r, null, null, null, null));
+
+            for (LocalDateTime day = FROM; day.isBefore(TO); day = day.plusDays(1)) {
+                for (int hour = 8; hour < 18; hour += 2) {
+                    Meeting meeting = new Meeting();
+                    meeting.setStartsAt(day.withHour(hour));
+                    meeting.setEndsAt(day.withHour(hour).plusMinutes(90));
+                    meeting.setUser(savedUser);
+                    meeting.setRoom(room);
+                    meetings.add(meeting);
+                }
+            }
+        }
+
+        meetingRepository.saveAll(meetings);
+    }
+}
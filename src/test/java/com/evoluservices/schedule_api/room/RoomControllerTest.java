@@ -2,6 +2,7 @@ package com.evoluservices.schedule_api.room;
 
 import com.evoluservices.schedule_api.meeting.Meeting;
 import com.evoluservices.schedule_api.meeting.MeetingRepository;
+import com.evoluservices.schedule_api.observability.QueryCountStatementInspector;
 import com.evoluservices.schedule_api.user.User;
 import com.evoluservices.schedule_api.user.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,18 +11,24 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -66,8 +73,8 @@ class RoomControllerTest {
 
     @Test
     void findAll_returnsPaginatedRooms() throws Exception {
-        roomRepository.save(new Room(null, "Sala 1", null, null, null));
-        roomRepository.save(new Room(null, "Sala 2", null, null, null));
+        roomRepository.save(new Room(null, "Sala 1", null, null, null, null));
+        roomRepository.save(new Room(null, "Sala 2", null, null, null, null));
 
         mockMvc.perform(get("/rooms")
                         .param("page", "0")
@@ -79,7 +86,7 @@ class RoomControllerTest {
 
     @Test
     void getById_returnsRoom() throws Exception {
-        Room saved = roomRepository.save(new Room(null, "Sala B", null, null, null));
+        Room saved = roomRepository.save(new Room(null, "Sala B", null, null, null, null));
 
         mockMvc.perform(get("/rooms/" + saved.getId()))
                 .andExpect(status().isOk())
@@ -89,7 +96,7 @@ class RoomControllerTest {
 
     @Test
     void updatePartial_updatesRoomName() throws Exception {
-        Room saved = roomRepository.save(new Room(null, "Sala C", null, null, null));
+        Room saved = roomRepository.save(new Room(null, "Sala C", null, null, null, null));
 
         String payload = objectMapper.writeValueAsString(new UpdateRoomRequest("Sala C Atualizada"));
 
@@ -104,9 +111,126 @@ class RoomControllerTest {
                 .isEqualTo("Sala C Atualizada");
     }
 
+    @Test
+    void getById_withCurrentETag_returnsNotModified() throws Exception {
+        Room saved = roomRepository.save(new Room(null, "Sala B", null, null, null, null));
+
+        mockMvc.perform(get("/rooms/" + saved.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/rooms/" + saved.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+    }
+
+    @Test
+    void getMeetingsByRoomId_withCurrentETag_returnsNotModifiedWithoutQueries() throws Exception {
+        User user = new User();
+        user.setName("Maria");
+        user.setEmail("maria.etag@example.com");
+        user.setPassword("senha");
+        User savedUser = userRepository.save(user);
+        Room room = roomRepository.save(new Room(null, "Sala Cache", null, null, null, null));
+
+        String etag = mockMvc.perform(get("/rooms/" + room.getId() + "/meetings"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        QueryCountStatementInspector.begin();
+
+        mockMvc.perform(get("/rooms/" + room.getId() + "/meetings").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        assertThat(QueryCountStatementInspector.end()).isZero();
+
+        mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMeetingRequest(
+                                LocalDateTime.of(2024, 6, 1, 9, 0), LocalDateTime.of(2024, 6, 1, 10, 0), savedUser.getId(), room.getId()))))
+                .andExpect(status().isOk());
+
+        String changed = mockMvc.perform(get("/rooms/" + room.getId() + "/meetings").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(etag);
+    }
+
+    @Test
+    void getMeetingsByRoomId_withETagOfUnknownRoom_returnsNotFound() throws Exception {
+        Room room = roomRepository.save(new Room(null, "Sala Sem Reuniões", null, null, null, null));
+
+        // a room nobody has booked has the same schedule tag as an id that does not exist
+        String etag = mockMvc.perform(get("/rooms/" + room.getId() + "/meetings"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/rooms/999999/meetings").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/rooms/999999/meetings").param("limit", "10").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void findAll_afterRoomCreated_changesETag() throws Exception {
+        String etag = mockMvc.perform(get("/rooms"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/rooms").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/rooms")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateRoomRequest("Sala Nova"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/rooms").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Sala Nova"));
+    }
+
+    @Test
+    void updatePartial_withStaleIfMatch_returnsPreconditionFailed() throws Exception {
+        Room saved = roomRepository.save(new Room(null, "Sala C", null, null, null, null));
+
+        String payload = objectMapper.writeValueAsString(new UpdateRoomRequest("Sala C Atualizada"));
+
+        mockMvc.perform(patch("/rooms/" + saved.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/rooms/" + saved.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    void updatePartial_withSameName_keepsVersion() throws Exception {
+        Room saved = roomRepository.save(new Room(null, "Sala C", null, null, null, null));
+
+        mockMvc.perform(patch("/rooms/" + saved.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateRoomRequest("Sala C"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(0));
+
+        assertThat(roomRepository.findById(saved.getId())).get()
+                .extracting(Room::getVersion)
+                .isEqualTo(0L);
+    }
+
     @Test
     void deleteRoom_removesRoom() throws Exception {
-        Room saved = roomRepository.save(new Room(null, "Sala D", null, null, null));
+        Room saved = roomRepository.save(new Room(null, "Sala D", null, null, null, null));
 
         mockMvc.perform(delete("/rooms/" + saved.getId()))
                 .andExpect(status().isNoContent());
@@ -122,7 +246,7 @@ class RoomControllerTest {
         user.setPassword("senha");
         user = userRepository.save(user);
 
-        Room room = roomRepository.save(new Room(null, "Sala E", null, null, null));
+        Room room = roomRepository.save(new Room(null, "Sala E", null, null, null, null));
 
         Meeting meeting = new Meeting();
         meeting.setStartsAt(LocalDateTime.of(2024, 1, 1, 9, 0));
@@ -140,7 +264,202 @@ class RoomControllerTest {
                 .andExpect(jsonPath("$.content[0].userId").value(user.getId()));
     }
 
+    @Test
+    void getMeetingsByRoomId_withLimit_returnsCursorPage() throws Exception {
+        User user = new User();
+        user.setName("Ana");
+        user.setEmail("ana@example.com");
+        user.setPassword("senha");
+        user = userRepository.save(user);
+
+        Room room = roomRepository.save(new Room(null, "Sala H", null, null, null, null));
+        Room otherRoom = roomRepository.save(new Room(null, "Sala I", null, null, null, null));
+
+        for (Room target : List.of(room, room, otherRoom)) {
+            Meeting meeting = new Meeting();
+            meeting.setStartsAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusHours(meetingRepository.count()));
+            meeting.setEndsAt(meeting.getStartsAt().plusMinutes(30));
+            meeting.setUser(user);
+            meeting.setRoom(target);
+            meetingRepository.save(meeting);
+        }
+
+        mockMvc.perform(get("/rooms/" + room.getId() + "/meetings")
+                        .param("limit", "1")
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].roomId").value(room.getId()))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.next").isNotEmpty());
+    }
+
+    @Test
+    void findAvailability_returnsFreeIntervalsPerRoom() throws Exception {
+        User user = new User();
+        user.setName("Ana");
+        user.setEmail("ana@example.com");
+        user.setPassword("senha");
+        user = userRepository.save(user);
+
+        Room busyRoom = roomRepository.save(new Room(null, "Sala F", null, null, null, null));
+        Room emptyRoom = roomRepository.save(new Room(null, "Sala G", null, null, null, null));
+
+        Meeting morning = new Meeting();
+        morning.setStartsAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+        morning.setEndsAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        morning.setUser(user);
+        morning.setRoom(busyRoom);
+        meetingRepository.save(morning);
+
+        Meeting lateMorning = new Meeting();
+        lateMorning.setStartsAt(LocalDateTime.of(2024, 1, 1, 10, 15));
+        lateMorning.setEndsAt(LocalDateTime.of(2024, 1, 1, 11, 0));
+        lateMorning.setUser(user);
+        lateMorning.setRoom(busyRoom);
+        meetingRepository.save(lateMorning);
+
+        MvcResult result = mockMvc.perform(get("/rooms/availability")
+                        .param("from", "2024-01-01T08:00:00")
+                        .param("to", "2024-01-01T12:00:00")
+                        .param("duration", "30"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].roomId").value(busyRoom.getId()))
+                .andExpect(jsonPath("$[0].free.length()").value(2))
+                .andExpect(jsonPath("$[0].free[0].endsAt").value("2024-01-01T09:00:00"))
+                .andExpect(jsonPath("$[0].free[1].startsAt").value("2024-01-01T11:00:00"))
+                .andExpect(jsonPath("$[1].roomId").value(emptyRoom.getId()))
+                .andExpect(jsonPath("$[1].free[0].startsAt").value("2024-01-01T08:00:00"))
+                .andExpect(jsonPath("$[1].free[0].endsAt").value("2024-01-01T12:00:00"));
+    }
+
+    @Test
+    void findUtilization_followsMeetingWritesAndBackfill() throws Exception {
+        User user = new User();
+        user.setName("Ana");
+        user.setEmail("ana@example.com");
+        user.setPassword("senha");
+        user = userRepository.save(user);
+
+        Room room = roomRepository.save(new Room(null, "Sala H", null, null, null, null));
+
+        createMeeting(LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 10, 30), user, room);
+        long moved = createMeeting(LocalDateTime.of(2024, 1, 1, 14, 0), LocalDateTime.of(2024, 1, 1, 15, 0), user, room);
+        long deleted = createMeeting(LocalDateTime.of(2024, 1, 2, 11, 0), LocalDateTime.of(2024, 1, 2, 12, 0), user, room);
+
+        mockMvc.perform(patch("/meetings/{id}", moved)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateMeetingRequest(
+                                LocalDateTime.of(2024, 1, 2, 9, 30), LocalDateTime.of(2024, 1, 2, 10, 0)))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/meetings/{id}", deleted))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/rooms/{id}/utilization", room.getId())
+                        .param("granularity", "day")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.busyMinutes").value(120))
+                .andExpect(jsonPath("$.occupancyPercent").value(4.17))
+                .andExpect(jsonPath("$.buckets.length()").value(2))
+                .andExpect(jsonPath("$.buckets[0].startsAt").value("2024-01-01T00:00:00"))
+                .andExpect(jsonPath("$.buckets[0].busyMinutes").value(90))
+                .andExpect(jsonPath("$.buckets[0].meetings").value(1))
+                .andExpect(jsonPath("$.buckets[0].occupancyPercent").value(6.25))
+                .andExpect(jsonPath("$.buckets[1].busyMinutes").value(30))
+                .andExpect(jsonPath("$.buckets[1].meetings").value(1))
+                .andExpect(jsonPath("$.peakHours.length()").value(2))
+                .andExpect(jsonPath("$.peakHours[0].hour").value(9))
+                .andExpect(jsonPath("$.peakHours[0].busyMinutes").value(90))
+                .andExpect(jsonPath("$.peakHours[0].occupancyPercent").value(75.0))
+                .andExpect(jsonPath("$.peakHours[1].hour").value(10));
+
+        // written behind the service's back, so only the backfill picks it up
+        Meeting imported = new Meeting();
+        imported.setStartsAt(LocalDateTime.of(2024, 1, 2, 16, 0));
+        imported.setEndsAt(LocalDateTime.of(2024, 1, 2, 17, 0));
+        imported.setUser(user);
+        imported.setRoom(room);
+        meetingRepository.save(imported);
+
+        mockMvc.perform(post("/rooms/utilization/backfill"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/rooms/utilization/backfill"))
+                .andExpect(jsonPath("$.rooms").value(1));
+
+        awaitBackfill();
+
+        mockMvc.perform(get("/rooms/utilization/backfill"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.roomsProcessed").value(1))
+                .andExpect(jsonPath("$.meetings").value(3));
+
+        mockMvc.perform(get("/rooms/{id}/utilization", room.getId())
+                        .param("granularity", "week")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-15"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.busyMinutes").value(180))
+                .andExpect(jsonPath("$.buckets.length()").value(2))
+                .andExpect(jsonPath("$.buckets[0].endsAt").value("2024-01-08T00:00:00"))
+                .andExpect(jsonPath("$.buckets[0].busyMinutes").value(180))
+                .andExpect(jsonPath("$.buckets[0].meetings").value(3))
+                .andExpect(jsonPath("$.buckets[1].busyMinutes").value(0));
+    }
+
+    @Test
+    void findUtilization_withInvalidParameters_returnsError() throws Exception {
+        Room room = roomRepository.save(new Room(null, "Sala I", null, null, null, null));
+
+        mockMvc.perform(get("/rooms/{id}/utilization", room.getId())
+                        .param("granularity", "month")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-03"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/rooms/{id}/utilization", room.getId())
+                        .param("from", "2024-01-03")
+                        .param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/rooms/{id}/utilization", room.getId() + 1)
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-03"))
+                .andExpect(status().isNotFound());
+    }
+
+    private long createMeeting(LocalDateTime startsAt, LocalDateTime endsAt, User user, Room room) throws Exception {
+        String body = mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMeetingRequest(startsAt, endsAt, user.getId(), room.getId()))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private void awaitBackfill() throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (objectMapper.readTree(mockMvc.perform(get("/rooms/utilization/backfill"))
+                .andReturn().getResponse().getContentAsString()).get("state").asText().equals("RUNNING")) {
+            assertThat(System.currentTimeMillis()).as("reconstrução não concluída em 10s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
     private record CreateRoomRequest(String name) {}
 
+    private record UpdateMeetingRequest(LocalDateTime startsAt, LocalDateTime endsAt) {}
+
     private record UpdateRoomRequest(String name) {}
+
+    private record CreateMeetingRequest(LocalDateTime startsAt, LocalDateTime endsAt, Long userId, Long roomId) {}
 }
@@ -0,0 +1,268 @@
+package com.evoluservices.schedule_api.room;
+
+import com.evoluservices.schedule_api.meeting.MeetingRepository;
+import com.evoluservices.schedule_api.meeting.dto.ResponseMeetingDto;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class RoomEventsTest {
+
+    private static final int SUBSCRIBERS = 3000;
+    private static final Pattern EVENT_ID = Pattern.compile("^id: (\\d+)$", Pattern.MULTILINE);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RoomEventBroadcaster roomEvents;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Room roomA;
+    private Room roomB;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+
+        roomA = roomRepository.save(new Room(null, "Sala A", null, null, null, null));
+        roomB = roomRepository.save(new Room(null, "Sala B", null, null, null, null));
+
+        user = new User();
+        user.setName("Maria Teste");
+        user.setEmail("maria@example.com");
+        user.setPassword("senha");
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void roomEvents_withThousandsOfSubscribers_deliverEveryChangeToTheAffectedRooms() throws Exception {
+        long droppedBefore = roomEvents.droppedFrames();
+        List<MvcResult> roomASubscribers = new ArrayList<>();
+        List<MvcResult> roomBSubscribers = new ArrayList<>();
+        List<MvcResult> bothRoomsSubscribers = new ArrayList<>();
+
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            switch (i % 3) {
+                case 0 -> roomASubscribers.add(subscribe("/rooms/" + roomA.getId() + "/events"));
+                case 1 -> roomBSubscribers.add(subscribe("/rooms/" + roomB.getId() + "/events"));
+                default -> bothRoomsSubscribers.add(subscribe("/rooms/events?roomIds=" + roomA.getId() + "," + roomB.getId()));
+            }
+        }
+        assertThat(roomEvents.subscriberCount()).isEqualTo(SUBSCRIBERS);
+
+        String created = mockMvc.perform(post("/meetings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "startsAt", "2024-01-01T09:00:00",
+                                "endsAt", "2024-01-01T10:00:00",
+                                "userId", user.getId(),
+                                "roomId", roomA.getId()))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Long meetingId = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(patch("/meetings/" + meetingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("roomId", roomB.getId()))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/meetings/" + meetingId))
+                .andExpect(status().isNoContent());
+
+        awaitAll(roomASubscribers, body -> events(body).equals(List.of("meeting.created", "meeting.updated")));
+        awaitAll(roomBSubscribers, body -> events(body).equals(List.of("meeting.updated", "meeting.deleted")));
+        awaitAll(bothRoomsSubscribers, body -> events(body).equals(List.of("meeting.created", "meeting.updated", "meeting.deleted")));
+
+        String body = bothRoomsSubscribers.getFirst().getResponse().getContentAsString();
+        assertThat(body).contains("\"id\":" + meetingId, "\"roomId\":" + roomB.getId());
+        assertThat(roomEvents.droppedFrames()).isEqualTo(droppedBefore);
+
+        for (MvcResult subscriber : roomASubscribers) {
+            subscriber.getRequest().getAsyncContext().complete();
+        }
+        for (MvcResult subscriber : roomBSubscribers) {
+            subscriber.getRequest().getAsyncContext().complete();
+        }
+        for (MvcResult subscriber : bothRoomsSubscribers) {
+            subscriber.getRequest().getAsyncContext().complete();
+        }
+        assertThat(roomEvents.subscriberCount()).isZero();
+    }
+
+    @Test
+    void slowSubscriber_dropsOldestEventsWithoutDelayingOthers() throws Exception {
+        int events = 2000;
+        long droppedBefore = roomEvents.droppedFrames();
+        CountDownLatch released = new CountDownLatch(1);
+        List<String> slowFrames = new CopyOnWriteArrayList<>();
+        List<String> fastFrames = new CopyOnWriteArrayList<>();
+
+        RoomEventSubscription slow = roomEvents.subscribe(List.of(roomA.getId()), frame -> {
+            try {
+                released.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            slowFrames.add(new String(frame, StandardCharsets.UTF_8));
+        });
+        RoomEventSubscription fast = roomEvents.subscribe(List.of(roomA.getId()),
+                frame -> fastFrames.add(new String(frame, StandardCharsets.UTF_8)));
+
+        // bursts smaller than the buffer let the fast subscriber keep up however slow the machine is,
+        // while the blocked one still overflows
+        for (int i = 0; i < events; i++) {
+            roomEvents.publish(RoomEventBroadcaster.MEETING_CREATED, new ResponseMeetingDto(
+                    (long) i, LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 10, 0),
+                    user.getId(), roomA.getId(), null, null, 0L));
+
+            int published = i + 1;
+            if (published % 100 == 0) {
+                await(() -> fastFrames.size() == published);
+            }
+        }
+
+        assertThat(fastFrames).noneMatch(frame -> frame.startsWith("event: resync"));
+        assertThat(slowFrames).isEmpty();
+
+        released.countDown();
+        await(() -> !slowFrames.isEmpty() && slowFrames.getLast().contains("\"id\":" + (events - 1) + ","));
+
+        assertThat(roomEvents.droppedFrames()).isGreaterThan(droppedBefore);
+        assertThat(slowFrames).hasSizeLessThan(events);
+        assertThat(slowFrames).anyMatch(frame -> frame.startsWith("event: resync"));
+
+        slow.close();
+        fast.close();
+        assertThat(roomEvents.subscriberCount()).isZero();
+    }
+
+    @Test
+    void deleteRoom_publishesADeletionForEachOfItsMeetings() throws Exception {
+        List<String> frames = new CopyOnWriteArrayList<>();
+        RoomEventSubscription subscription = roomEvents.subscribe(List.of(roomA.getId()),
+                frame -> frames.add(new String(frame, StandardCharsets.UTF_8)));
+
+        for (String hour : List.of("09", "11")) {
+            mockMvc.perform(post("/meetings")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of(
+                                    "startsAt", "2024-01-01T" + hour + ":00:00",
+                                    "endsAt", "2024-01-01T" + hour + ":30:00",
+                                    "userId", user.getId(),
+                                    "roomId", roomA.getId()))))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(delete("/rooms/" + roomA.getId()))
+                .andExpect(status().isNoContent());
+
+        await(() -> events(String.join("", frames)).size() == 4);
+        assertThat(events(String.join("", frames)))
+                .containsExactly("meeting.created", "meeting.created", "meeting.deleted", "meeting.deleted");
+
+        subscription.close();
+    }
+
+    @Test
+    void roomEvents_withUnknownRoom_returnsNotFound() throws Exception {
+        mockMvc.perform(get("/rooms/999999/events"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/rooms/events").param("roomIds", roomA.getId() + ",999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    private MvcResult subscribe(String path) throws Exception {
+        return mockMvc.perform(get(path).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static List<String> events(String body) {
+        List<String> events = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (line.startsWith("event: ")) {
+                events.add(line.substring("event: ".length()));
+            }
+        }
+
+        Matcher ids = EVENT_ID.matcher(body);
+        long previous = 0;
+        while (ids.find()) {
+            long id = Long.parseLong(ids.group(1));
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        return events;
+    }
+
+    private static void awaitAll(List<MvcResult> subscribers, Predicate<String> received) throws Exception {
+        for (MvcResult subscriber : subscribers) {
+            await(() -> received.test(subscriber.getResponse().getContentAsString()));
+        }
+        for (MvcResult subscriber : subscribers) {
+            assertThat(subscriber.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        }
+    }
+
+    private static void await(ThrowingCondition condition) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!condition.holds()) {
+            assertThat(System.nanoTime()).as("condição não atingida em 30s").isLessThan(deadline);
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingCondition {
+        boolean holds() throws Exception;
+    }
+}
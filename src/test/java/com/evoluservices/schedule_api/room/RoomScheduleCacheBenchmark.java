@@ -0,0 +1,164 @@
+package com.evoluservices.schedule_api.room;
+
+import com.evoluservices.schedule_api.meeting.Meeting;
+import com.evoluservices.schedule_api.meeting.MeetingRepository;
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.observability.QueryCountStatementInspector;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Replays a read-heavy mix against the room endpoints, once with clients that revalidate with
+ * {@code If-None-Match} and once with clients that always refetch, and reports the SQL statements
+ * and time each replay needed. Reads are split between {@code GET /rooms/{id}/meetings} (90%) and
+ * {@code GET /rooms} (10%); a fraction of the requests ({@code benchmark.write-ratio}) books a
+ * meeting, which invalidates the tag of that room. Runs on the H2 test profile and is only
+ * executed when selected explicitly:
+ * <pre>
+ * ./mvnw test -Dtest=RoomScheduleCacheBenchmark -Dbenchmark.requests=20000 -Dbenchmark.write-ratio=0.01
+ * </pre>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class RoomScheduleCacheBenchmark {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private List<Room> rooms;
+    private LocalDateTime nextBooking = FROM.plusYears(1);
+
+    @Test
+    void conditionalVersusUnconditionalReads() throws Exception {
+        int roomCount = Integer.getInteger("benchmark.rooms", 50);
+        int requests = Integer.getInteger("benchmark.requests", 5000);
+        double writeRatio = Double.parseDouble(System.getProperty("benchmark.write-ratio", "0.02"));
+        seed(roomCount, Integer.getInteger("benchmark.meetings-per-room", 50));
+
+        replay(requests, writeRatio, true);
+        Result unconditional = replay(requests, writeRatio, false);
+        Result conditional = replay(requests, writeRatio, true);
+
+        System.out.printf("Read-heavy replay of %d requests over %d rooms (%.0f%% writes):%n", requests, roomCount, writeRatio * 100);
+        System.out.printf("  always refetch:    %d statements, %.1fms%n", unconditional.statements(), unconditional.millis());
+        System.out.printf("  If-None-Match:     %d statements, %.1fms, %d of %d reads answered with 304%n",
+                conditional.statements(), conditional.millis(), conditional.notModified(), conditional.reads());
+        System.out.printf("  statements saved:  %d (%.0f%%)%n", unconditional.statements() - conditional.statements(),
+                100.0 * (unconditional.statements() - conditional.statements()) / unconditional.statements());
+    }
+
+    private Result replay(int requests, double writeRatio, boolean conditional) throws Exception {
+        Random random = new Random(42);
+        Map<String, String> etags = new HashMap<>();
+        int reads = 0;
+        int notModified = 0;
+
+        QueryCountStatementInspector.begin();
+        long began = System.nanoTime();
+
+        for (int i = 0; i < requests; i++) {
+            Room room = rooms.get(random.nextInt(rooms.size()));
+
+            if (random.nextDouble() < writeRatio) {
+                book(room);
+                continue;
+            }
+
+            String uri = random.nextInt(10) == 0 ? "/rooms" : "/rooms/" + room.getId() + "/meetings";
+            MockHttpServletRequestBuilder request = get(uri);
+            String etag = etags.get(uri);
+            if (conditional && etag != null) {
+                request.header(HttpHeaders.IF_NONE_MATCH, etag);
+            }
+
+            MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+            etags.put(uri, response.getHeader(HttpHeaders.ETAG));
+            reads++;
+            if (response.getStatus() == 304) {
+                notModified++;
+            }
+        }
+
+        return new Result(QueryCountStatementInspector.end(), (System.nanoTime() - began) / 1e6, reads, notModified);
+    }
+
+    private void book(Room room) throws Exception {
+        LocalDateTime startsAt = nextBooking;
+        nextBooking = nextBooking.plusHours(1);
+
+        mockMvc.perform(post("/meetings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CreateMeetingDto(startsAt, startsAt.plusMinutes(30), user.getId(), room.getId()))));
+    }
+
+    private void seed(int roomCount, int meetingsPerRoom) {
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User benchmarkUser = new User();
+        benchmarkUser.setName("Benchmark");
+        benchmarkUser.setEmail("benchmark@example.com");
+        benchmarkUser.setPassword("senha");
+        user = userRepository.save(benchmarkUser);
+
+        rooms = new ArrayList<>();
+        List<Meeting> meetings = new ArrayList<>();
+
+        for (int r = 0; r < roomCount; r++) {
+            Room room = roomRepository.save(new Room(null, "Sala " + r, null, null, null, null));
+            rooms.add(room);
+
+            for (int m = 0; m < meetingsPerRoom; m++) {
+                Meeting meeting = new Meeting();
+                meeting.setStartsAt(FROM.plusHours(m));
+                meeting.setEndsAt(FROM.plusHours(m).plusMinutes(45));
+                meeting.setUser(user);
+                meeting.setRoom(room);
+                meetings.add(meeting);
+            }
+        }
+
+        meetingRepository.saveAll(meetings);
+    }
+
+    private record Result(long statements, double millis, int reads, int notModified) {}
+}
@@ -0,0 +1,129 @@
+package com.evoluservices.schedule_api.security;
+
+import com.evoluservices.schedule_api.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthenticationCacheTest {
+
+    private final AuthenticationCache cache = new AuthenticationCache(true, 100, 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+    @Test
+    void principal_isCachedWithoutThePasswordHash() {
+        AtomicInteger loads = new AtomicInteger();
+        User user = new User(7L, "Maria Teste", "maria@example.com", "$2a$10$hash", null, null);
+
+        AuthenticatedUser first = cache.principal(user.getEmail(), email -> {
+            loads.incrementAndGet();
+            return user;
+        });
+        AuthenticatedUser second = cache.principal(user.getEmail(), email -> {
+            loads.incrementAndGet();
+            return user;
+        });
+
+        assertThat(first).isEqualTo(new AuthenticatedUser(7L, "Maria Teste", "maria@example.com"));
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictPrincipal_reloadsTheUserOnTheNextRequest() {
+        AtomicInteger loads = new AtomicInteger();
+        User user = new User(7L, "Maria Teste", "maria@example.com", "$2a$10$hash", null, null);
+
+        cache.principal(user.getEmail(), email -> {
+            loads.incrementAndGet();
+            return user;
+        });
+        cache.evictPrincipal(7L);
+        cache.principal(user.getEmail(), email -> {
+            loads.incrementAndGet();
+            return user;
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void principal_concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        User user = new User(7L, "Maria Teste", "maria@example.com", "$2a$10$hash", null, null);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<AuthenticatedUser> first = executor.submit(() -> cache.principal(user.getEmail(), email -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return user;
+            }));
+            loading.await();
+            Future<AuthenticatedUser> second = executor.submit(() -> cache.principal(user.getEmail(), email -> {
+                loads.incrementAndGet();
+                return user;
+            }));
+            release.countDown();
+
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS));
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictPrincipal_duringALoad_keepsTheStaleResultOutOfTheCache() {
+        AtomicInteger loads = new AtomicInteger();
+        User before = new User(7L, "Maria Teste", "maria@example.com", "$2a$10$hash", null, null);
+        User after = new User(7L, "Maria Silva", "maria@example.com", "$2a$10$hash", null, null);
+
+        cache.principal(before.getEmail(), email -> {
+            loads.incrementAndGet();
+            // the user is changed and committed while this load still holds the old row
+            cache.evictPrincipal(7L);
+            return before;
+        });
+        AuthenticatedUser reloaded = cache.principal(after.getEmail(), email -> {
+            loads.incrementAndGet();
+            return after;
+        });
+
+        assertThat(reloaded.name()).isEqualTo("Maria Silva");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void principal_unknownUserIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.principal("ninguem@example.com", email -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        cache.principal("ninguem@example.com", email -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
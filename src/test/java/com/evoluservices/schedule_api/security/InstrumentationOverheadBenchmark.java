@@ -0,0 +1,117 @@
+package com.evoluservices.schedule_api.security;
+
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the {@code schedule.*} observations on the cheapest instrumented path: an
+ * authenticated request through {@link SecurityFilter} with warm authentication caches, which
+ * records the token and principal stages. {@code none} has no registry at all, {@code disabled}
+ * rejects the observations the way {@code management.observations.enable.schedule=false} does and
+ * {@code metrics} records timers as in production (without long-task timers, see
+ * {@code management.observations.long-task-timer.enabled}).
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=InstrumentationOverheadBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationOverheadBenchmark {
+
+    @Param({"none", "disabled", "metrics"})
+    public String instrumentation;
+
+    private SecurityFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setName("Benchmark");
+        user.setEmail("benchmark@example.com");
+        user.setPassword("senha");
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        AuthenticationCache cache = new AuthenticationCache(true, 10_000, 10_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        ObservationRegistry observationRegistry = observationRegistry();
+
+        TokenService tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", "benchmark-secret");
+        tokenService.authenticationCache = cache;
+        tokenService.observationRegistry = observationRegistry;
+        tokenService.init();
+
+        filter = new SecurityFilter();
+        filter.tokenService = tokenService;
+        filter.userRepository = userRepository;
+        filter.authenticationCache = cache;
+        filter.observationRegistry = observationRegistry;
+
+        token = tokenService.generateToken(user);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/rooms");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    private ObservationRegistry observationRegistry() {
+        if (instrumentation.equals("none")) {
+            return ObservationRegistry.NOOP;
+        }
+
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(
+                new DefaultMeterObservationHandler(new SimpleMeterRegistry(), DefaultMeterObservationHandler.IgnoredMeters.LONG_TASK_TIMER));
+
+        if (instrumentation.equals("disabled")) {
+            registry.observationConfig().observationPredicate((name, context) -> !name.startsWith("schedule"));
+        }
+
+        return registry;
+    }
+}
@@ -0,0 +1,95 @@
+package com.evoluservices.schedule_api.security;
+
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link SecurityFilter} for an authenticated request with the authentication caches on
+ * and off. The repository is a mock, so the "off" numbers exclude the real database round-trip.
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=SecurityFilterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private SecurityFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setName("Benchmark");
+        user.setEmail("benchmark@example.com");
+        user.setPassword("senha");
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        AuthenticationCache cache = new AuthenticationCache(cacheEnabled, 10_000, 10_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+        TokenService tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", "benchmark-secret");
+        tokenService.authenticationCache = cache;
+        tokenService.observationRegistry = ObservationRegistry.NOOP;
+        tokenService.init();
+
+        filter = new SecurityFilter();
+        filter.tokenService = tokenService;
+        filter.userRepository = userRepository;
+        filter.authenticationCache = cache;
+        filter.observationRegistry = ObservationRegistry.NOOP;
+
+        token = tokenService.generateToken(user);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/rooms");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
@@ -0,0 +1,176 @@
+package com.evoluservices.schedule_api.security;
+
+import com.evoluservices.schedule_api.meeting.MeetingRepository;
+import com.evoluservices.schedule_api.meeting.dto.CreateMeetingDto;
+import com.evoluservices.schedule_api.room.Room;
+import com.evoluservices.schedule_api.room.RoomRepository;
+import com.evoluservices.schedule_api.user.User;
+import com.evoluservices.schedule_api.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Async and streaming endpoints with the security filters on: the response is written on an
+ * async dispatch, which must not be rejected after the initial request was authenticated.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StreamingEndpointsSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private Room room;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        meetingRepository.deleteAll();
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = new User();
+        user.setName("Maria Teste");
+        user.setEmail("maria@example.com");
+        user.setPassword("senha");
+        user = userRepository.save(user);
+
+        room = roomRepository.save(new Room(null, "Sala Segura", null, null, null, null));
+
+        token = tokenService.generateToken(user);
+    }
+
+    @Test
+    void exportMeetings_withToken_streamsTheExport() throws Exception {
+        MvcResult result = mockMvc.perform(get("/meetings/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .param("from", "2024-06-01T00:00:00")
+                        .param("to", "2024-06-02T00:00:00")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("id,startsAt,endsAt,userId,roomId,createdAt,updatedAt\n"));
+    }
+
+    @Test
+    void exportMeetings_withoutToken_isForbidden() throws Exception {
+        mockMvc.perform(get("/meetings/export")
+                        .param("from", "2024-06-01T00:00:00")
+                        .param("to", "2024-06-02T00:00:00"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void roomEvents_withToken_streamsUntilTheStreamTimesOut() throws Exception {
+        MvcResult subscription = mockMvc.perform(get("/rooms/" + room.getId() + "/events")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(post("/meetings")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateMeetingDto(
+                                LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 10, 0), user.getId(), room.getId()))))
+                .andExpect(status().isOk());
+        await(() -> subscription.getResponse().getContentAsString().contains("event: meeting.created"));
+
+        timeOut(subscription);
+
+        mockMvc.perform(asyncDispatch(subscription))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void roomEvents_withoutToken_isForbidden() throws Exception {
+        mockMvc.perform(get("/rooms/" + room.getId() + "/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void changes_withToken_answersTheLongPoll() throws Exception {
+        MvcResult pending = mockMvc.perform(get("/changes")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .param("wait", "0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.highWaterMark").isNumber());
+    }
+
+    @Test
+    void changes_withoutToken_isForbidden() throws Exception {
+        mockMvc.perform(get("/changes").param("wait", "0"))
+                .andExpect(status().isForbidden());
+    }
+
+    /**
+     * What the container does when an async request reaches its timeout; the response is then
+     * finished on an async dispatch.
+     */
+    private static void timeOut(MvcResult result) throws Exception {
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+    }
+
+    private static void await(Callable<Boolean> condition) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+        while (!condition.call()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.evoluservices.schedule_api.security;
+
+import com.evoluservices.schedule_api.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of signing and verifying JWTs in {@link TokenService}. With the cache off every
+ * {@code validateToken} call verifies the HMAC signature; with it on repeated tokens are a lookup.
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=TokenServiceBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private TokenService tokenService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        user = new User();
+        user.setId(1L);
+        user.setName("Benchmark");
+        user.setEmail("benchmark@example.com");
+        user.setPassword("senha");
+
+        tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", "benchmark-secret");
+        tokenService.authenticationCache = new AuthenticationCache(cacheEnabled, 10_000, 10_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        tokenService.observationRegistry = ObservationRegistry.NOOP;
+        tokenService.init();
+
+        token = tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String validateToken() {
+        return tokenService.validateToken(token);
+    }
+}